@@ -0,0 +1,96 @@
+package project.shop.global.jwt.filter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.jwt.service.JwtBenchmarkFixture;
+import project.shop.global.jwt.service.JwtServiceImpl;
+import project.shop.global.jwt.service.RefreshTokenReIssueCoordinator;
+import project.shop.global.login.cache.MemberPrincipalCache;
+
+/**
+ * JwtAuthenticationProcessingFilter.doFilterInternal() 요청 1번 전체 벤치마크 (ops/s + gc 프로파일러)
+ * 
+ * ./gradlew jmh -PjmhIncludes=JwtAuthenticationFilterBenchmark
+ * 
+ * CLAIMS		: 클레임(회원 PK, 권한)이 있는 AccessToken -> DB 조회 없이 인증
+ * CACHED		: 클레임이 없는 이전 형식의 AccessToken -> MemberPrincipalCache (캐시 hit)
+ * LOOKUP		: memberLookupUrls 에 해당하는 URI -> MemberRepository 조회 (스텁)
+ * ANONYMOUS	: 토큰 없는 요청
+ * 
+ * 요청/응답 객체는 재사용하므로 결과의 할당량(gc.alloc.rate.norm)은 필터 자체의 할당량
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+	public enum Scenario { CLAIMS, CACHED, LOOKUP, ANONYMOUS }
+	
+	private static final String LOOKUP_URI = "/member/withdraw";
+	
+	@Param({"CLAIMS", "CACHED", "LOOKUP", "ANONYMOUS"})
+	public Scenario scenario;
+	
+	private JwtAuthenticationProcessingFilter filter;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+	private FilterChain filterChain;
+	
+	
+	
+	@Setup
+	public void setUp() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		MemberRepository memberRepository = JwtBenchmarkFixture.memberRepository();
+		JwtServiceImpl jwtService = JwtBenchmarkFixture.jwtService(memberRepository);
+		MemberPrincipalCache memberPrincipalCache = new MemberPrincipalCache(memberRepository, meterRegistry, 10_000, Duration.ofMinutes(5));
+		
+		filter = new JwtAuthenticationProcessingFilter(
+				jwtService,
+				memberRepository,
+				memberPrincipalCache,
+				new RefreshTokenReIssueCoordinator(meterRegistry, Duration.ofSeconds(10), Duration.ofSeconds(5), 10_000));
+		filter.setMemberLookupUrls(LOOKUP_URI);
+		
+		request = new MockHttpServletRequest("GET", scenario == Scenario.LOOKUP ? LOOKUP_URI : "/member/myInfo");
+		response = new MockHttpServletResponse();
+		filterChain = (servletRequest, servletResponse) -> {};
+		
+		String accessToken = switch (scenario) {
+			case CLAIMS, LOOKUP -> jwtService.createAccessToken(1L, "spring@gmail.com", Role.USER);
+			case CACHED -> jwtService.createAccessToken("spring@gmail.com");
+			case ANONYMOUS -> null;
+		};
+		
+		if (accessToken != null) {
+			request.addHeader(JwtBenchmarkFixture.ACCESS_HEADER, "Bearer " + accessToken);
+		}
+	}
+	
+	@Benchmark
+	public Object doFilterInternal() throws Exception {
+		filter.doFilterInternal(request, response, filterChain);
+		
+		Object authentication = SecurityContextHolder.getContext().getAuthentication();
+		SecurityContextHolder.clearContext(); // 요청이 끝나면 SecurityContextHolderFilter가 하는 정리
+		
+		return authentication;
+	}
+}
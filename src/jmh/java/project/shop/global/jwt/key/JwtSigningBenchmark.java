@@ -0,0 +1,106 @@
+package project.shop.global.jwt.key;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+/**
+ * 서명 알고리즘별 AccessToken 서명/검증 비용, 토큰 크기 비교
+ * 
+ * ./gradlew jmh -PjmhIncludes=JwtSigningBenchmark
+ * 
+ * sign		: JwtServiceImpl.createAccessToken() 과 같은 클레임으로 서명
+ * verify	: 디코딩 1회 + 서명/만료/Subject 검증 (JwtServiceImpl.verifyAccessToken())
+ * 토큰 크기(byte)는 Trial 시작 시 표준 출력으로 출력 -> Authorization 헤더 크기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtSigningBenchmark {
+
+	@Param({"HS512", "ES256", "RS256", "EdDSA"})
+	public JwtSigningAlgorithm algorithm;
+	
+	private JwtSigningKey signingKey;
+	private JWTVerifier verifier;
+	private String token;
+	
+	
+	
+	@Setup
+	public void setUp() throws Exception {
+		signingKey = algorithm.createKey(key(algorithm));
+		verifier = JWT.require(signingKey.algorithm()).withSubject("AccessToken").build();
+		token = sign();
+		
+		System.out.printf("%n[%s] token bytes: %d, signature bytes: %d%n",
+				algorithm,
+				token.getBytes(StandardCharsets.US_ASCII).length,
+				Base64.getUrlDecoder().decode(JWT.decode(token).getSignature()).length);
+	}
+	
+	@Benchmark
+	public String sign() {
+		return JWT.create()
+				.withKeyId(signingKey.kid())
+				.withSubject("AccessToken")
+				.withJWTId(UUID.randomUUID().toString())
+				.withIssuedAt(new Date())
+				.withExpiresAt(new Date(System.currentTimeMillis() + 3_600_000))
+				.withClaim("email", "spring@gmail.com")
+				.withClaim("id", 1L)
+				.withClaim("role", "USER")
+				.sign(signingKey.algorithm());
+	}
+	
+	@Benchmark
+	public DecodedJWT verify() {
+		return verifier.verify(JWT.decode(token));
+	}
+	
+	
+	
+	private static JwtKeyProperties.Key key(JwtSigningAlgorithm algorithm) throws Exception {
+		String kid = algorithm.name().toLowerCase() + "-bench";
+		
+		if (!algorithm.isAsymmetric()) {
+			return new JwtKeyProperties.Key(kid, algorithm, UUID.randomUUID().toString() + UUID.randomUUID(), null, null);
+		}
+		
+		KeyPair keyPair = switch (algorithm) {
+			case ES256 -> {
+				KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+				generator.initialize(new ECGenParameterSpec("secp256r1"));
+				yield generator.generateKeyPair();
+			}
+			case RS256 -> {
+				KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+				generator.initialize(2048);
+				yield generator.generateKeyPair();
+			}
+			default -> KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+		};
+		
+		return new JwtKeyProperties.Key(kid, algorithm, null,
+				Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()),
+				Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+	}
+}
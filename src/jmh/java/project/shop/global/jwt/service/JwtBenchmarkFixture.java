@@ -0,0 +1,92 @@
+package project.shop.global.jwt.service;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.jwt.key.JwtKeyProperties;
+import project.shop.global.jwt.key.JwtKeyRing;
+import project.shop.global.jwt.repository.RefreshTokenRepository;
+import project.shop.global.jwt.revocation.AccessTokenRevocationList;
+
+/**
+ * 벤치마크용 JwtServiceImpl, Repository 스텁
+ * 스프링 컨텍스트, DB 없이 필터/서비스의 CPU, 할당 비용만 측정
+ * 
+ * Repository는 Proxy로 만든 스텁 (findByEmail, findById, findIdByEmail 만 구현, 나머지는 호출 시 예외)
+ */
+public final class JwtBenchmarkFixture {
+
+	public static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+	public static final long ACCESS_TOKEN_VALIDITY_IN_SECONDS = 3600;
+	public static final long REFRESH_TOKEN_VALIDITY_IN_SECONDS = 1209600;
+	public static final String ACCESS_HEADER = "Authorization";
+	public static final String REFRESH_HEADER = "Authorization-refresh";
+	
+	public static final Member MEMBER = Member.builder()
+			.id(1L)
+			.email("spring@gmail.com")
+			.password("{bcrypt}$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbench")
+			.role(Role.USER)
+			.build();
+	
+	private JwtBenchmarkFixture() {
+	}
+	
+	
+	
+	public static JwtServiceImpl jwtService(MemberRepository memberRepository) {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		
+		JwtServiceImpl jwtService = new JwtServiceImpl(
+				memberRepository,
+				stub(RefreshTokenRepository.class),
+				new AccessTokenRevocationList(meterRegistry, ACCESS_TOKEN_VALIDITY_IN_SECONDS, 100_000, 0.001),
+				new JwtKeyRing(new JwtKeyProperties(null, true, List.of()), SECRET));
+		
+		ReflectionTestUtils.setField(jwtService, "accessTokenValidityInSeconds", ACCESS_TOKEN_VALIDITY_IN_SECONDS);
+		ReflectionTestUtils.setField(jwtService, "refreshTokenValidityInSeconds", REFRESH_TOKEN_VALIDITY_IN_SECONDS);
+		ReflectionTestUtils.setField(jwtService, "accessHeader", ACCESS_HEADER);
+		ReflectionTestUtils.setField(jwtService, "refreshHeader", REFRESH_HEADER);
+		jwtService.initVerifiers();
+		
+		return jwtService;
+	}
+	
+	/**
+	 * MEMBER 한 명만 있는 MemberRepository
+	 */
+	public static MemberRepository memberRepository() {
+		return (MemberRepository) Proxy.newProxyInstance(
+				MemberRepository.class.getClassLoader(),
+				new Class<?>[] {MemberRepository.class},
+				(proxy, method, args) -> switch (method.getName()) {
+					case "findByEmail" -> Optional.of(MEMBER).filter(member -> member.getEmail().equals(args[0]));
+					case "findById" -> Optional.of(MEMBER).filter(member -> member.getId().equals(args[0]));
+					case "findIdByEmail" -> Optional.of(MEMBER).filter(member -> member.getEmail().equals(args[0])).map(Member::getId);
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					case "toString" -> "MemberRepositoryStub";
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+	
+	@SuppressWarnings("unchecked")
+	public static <T> T stub(Class<T> repositoryType) {
+		return (T) Proxy.newProxyInstance(
+				repositoryType.getClassLoader(),
+				new Class<?>[] {repositoryType},
+				(proxy, method, args) -> switch (method.getName()) {
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					case "toString" -> repositoryType.getSimpleName() + "Stub";
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+}
@@ -0,0 +1,75 @@
+package project.shop.global.jwt.service;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import project.shop.domain.member.enums.Role;
+
+/**
+ * JwtServiceImpl 요청 경로 벤치마크 (ops/s + gc 프로파일러로 op당 할당량)
+ * 
+ * ./gradlew jmh -PjmhIncludes=JwtServiceBenchmark
+ * 
+ * 결과의 gc.alloc.rate.norm (B/op) 가 요청 1번당 할당량
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtServiceBenchmark {
+
+	private JwtServiceImpl jwtService;
+	private String accessToken;
+	private String refreshToken;
+	private MockHttpServletRequest request;
+	
+	
+	
+	@Setup
+	public void setUp() {
+		jwtService = JwtBenchmarkFixture.jwtService(JwtBenchmarkFixture.memberRepository());
+		accessToken = jwtService.createAccessToken(1L, "spring@gmail.com", Role.USER);
+		refreshToken = jwtService.createRefreshToken(1L, "benchmark-family");
+		
+		request = new MockHttpServletRequest("GET", "/member/myInfo");
+		request.addHeader(JwtBenchmarkFixture.ACCESS_HEADER, "Bearer " + accessToken);
+	}
+	
+	@Benchmark
+	public String createAccessToken() {
+		return jwtService.createAccessToken(1L, "spring@gmail.com", Role.USER);
+	}
+	
+	@Benchmark
+	public String createRefreshToken() {
+		return jwtService.createRefreshToken(1L, "benchmark-family");
+	}
+	
+	@Benchmark
+	public boolean isTokenValid() {
+		return jwtService.isTokenValid(accessToken);
+	}
+	
+	@Benchmark
+	public boolean isRefreshTokenValid() {
+		return jwtService.verifyRefreshToken(refreshToken).isPresent();
+	}
+	
+	@Benchmark
+	public Optional<String> extractEmail() {
+		return jwtService.extractEmail(accessToken);
+	}
+	
+	@Benchmark
+	public Optional<String> extractAccessToken() {
+		return jwtService.extractAccessToken(request);
+	}
+}
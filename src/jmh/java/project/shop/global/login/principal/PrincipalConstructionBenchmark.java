@@ -0,0 +1,66 @@
+package project.shop.global.login.principal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
+import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import project.shop.domain.member.enums.Role;
+import project.shop.global.util.PasswordUtil;
+
+/**
+ * 인증 객체 생성 비용 비교 (gc.alloc.rate.norm = 요청 1번당 할당량)
+ * 
+ * ./gradlew jmh -PjmhIncludes=PrincipalConstructionBenchmark
+ * 
+ * userBuilder					: 이전 saveAuthentication() (랜덤 비밀번호 + User.builder() + mapAuthorities())
+ * memberAuthenticationToken	: MemberPrincipal + MemberAuthenticationToken (Role별 권한 목록 공유)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrincipalConstructionBenchmark {
+
+	private final String email = "spring@gmail.com";
+	private final Role role = Role.USER;
+	private final GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
+	
+	
+	
+	@Benchmark
+	public SecurityContext userBuilder() {
+		String password = PasswordUtil.generateRandomPassword();
+		
+		UserDetails user = User.builder()
+				.username(email)
+				.password(password)
+				.roles(role.name())
+				.build();
+		
+		Authentication authentication = new UsernamePasswordAuthenticationToken(
+				user, null, authoritiesMapper.mapAuthorities(user.getAuthorities()));
+		
+		SecurityContext context = SecurityContextHolder.createEmptyContext();
+		context.setAuthentication(authentication);
+		
+		return context;
+	}
+	
+	@Benchmark
+	public SecurityContext memberAuthenticationToken() {
+		return new SecurityContextImpl(MemberAuthenticationToken.authenticated(new MemberPrincipal(email, role)));
+	}
+}
@@ -0,0 +1,70 @@
+package project.shop.global.oauth2.userinfo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 카카오 userInfo 응답 처리 비용 비교 (gc.alloc.rate.norm = 로그인 1번당 할당량)
+ * 
+ * ./gradlew jmh -PjmhIncludes=UserInfoDecodingBenchmark
+ * 
+ * mapAttributes	: 이전 방식 (응답 전체를 Map<String, Object>로 변환 + getter마다 kakao_account -> profile 캐스팅)
+ * typedRecord		: KakaoUserInfoResponse로 바로 역직렬화 (사용하지 않는 필드는 건너뜀) + KakaoOAuth2UserInfo
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserInfoDecodingBenchmark {
+
+	private static final byte[] RESPONSE = """
+			{"id":123456789,"connected_at":"2024-08-15T01:45:28Z",
+			 "kakao_account":{"profile_nickname_needs_agreement":false,"profile_image_needs_agreement":false,
+			  "profile":{"nickname":"홍길동","thumbnail_image_url":"http://yyy.kakao.com/img_110x110.jpg",
+			   "profile_image_url":"http://yyy.kakao.com/img_640x640.jpg","is_default_image":false},
+			  "name_needs_agreement":false,"name":"홍길동","email_needs_agreement":false,"is_email_valid":true,
+			  "is_email_verified":true,"email":"sample@sample.com","age_range_needs_agreement":false,"age_range":"20~29",
+			  "birthyear_needs_agreement":false,"birthyear":"2002","birthday_needs_agreement":false,"birthday":"1130",
+			  "birthday_type":"SOLAR","gender_needs_agreement":false,"gender":"female",
+			  "phone_number_needs_agreement":false,"phone_number":"+82 010-1234-5678"},
+			 "properties":{"nickname":"홍길동","profile_image":"http://yyy.kakao.com/img_640x640.jpg"}}
+			""".getBytes(StandardCharsets.UTF_8);
+	
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	
+	
+	
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public void mapAttributes(Blackhole blackhole) throws IOException {
+		Map<String, Object> attributes = objectMapper.readValue(RESPONSE, Map.class);
+		
+		blackhole.consume(String.valueOf(attributes.get("id")));
+		
+		for (String key : new String[] {"nickname", "thumbnail_image_url"}) { // getNickname(), getImageUrl()
+			Map<String, Object> account = (Map<String, Object>) attributes.get("kakao_account");
+			Map<String, Object> profile = account == null ? null : (Map<String, Object>) account.get("profile");
+			blackhole.consume(profile == null ? null : profile.get(key));
+		}
+	}
+	
+	@Benchmark
+	public void typedRecord(Blackhole blackhole) throws IOException {
+		OAuth2UserInfo userInfo = new KakaoOAuth2UserInfo(objectMapper.readValue(RESPONSE, KakaoUserInfoResponse.class));
+		
+		blackhole.consume(userInfo.getId());
+		blackhole.consume(userInfo.getNickname());
+		blackhole.consume(userInfo.getImageUrl());
+	}
+}
@@ -0,0 +1,282 @@
+package project.shop.domain.member.availability;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import project.shop.domain.member.dto.MemberIdentityDto;
+import project.shop.domain.member.event.MemberJoinedEvent;
+import project.shop.domain.member.event.MemberNickNameChangedEvent;
+import project.shop.domain.member.event.MemberWithdrawnEvent;
+import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.util.BloomFilter;
+
+/**
+ * 이메일, 닉네임 중복확인 인덱스 (회원가입 폼 입력 중 실시간 확인)
+ * 
+ * 1. Bloom Filter에 없으면 사용 가능 -> 대부분의 (처음 입력하는) 값은 DB 조회 없이 바로 응답
+ * 2. Bloom Filter에 있다면 DB에서 다시 확인 (사용 중인 값 또는 오탐, 탈퇴한 회원의 값)
+ * 
+ * 인덱스 관리
+ * - 애플리케이션 시작 후 MEMBER 테이블을 회원 PK 순서로 페이지 단위로 읽어서 생성 (keyset 페이징)
+ * - 회원이 저장되면 커밋 이후 추가 (MemberJoinedEvent)
+ * - Bloom Filter는 삭제를 지원하지 않으므로 탈퇴한 회원의 값은 DB 확인으로 거르고, 주기적으로 새로 생성해서 교체
+ * - 인덱스가 만들어지기 전(또는 생성 실패)에는 모든 확인을 DB로 처리
+ * - 사용 중인 인덱스와 생성 중인 인덱스는 하나의 Snapshot으로 함께 교체
+ *   -> 가입 이벤트가 교체 전의 인덱스와 교체 후의 생성 중 인덱스(null)를 섞어서 읽으면 새 인덱스에서 값이 빠짐
+ * 
+ * 값은 앞뒤 공백 제거 + 소문자로 정규화해서 저장
+ * DB의 비교(대소문자 구분 x collation)보다 넓게 같은 값으로 보므로 사용 중인 값을 사용 가능으로 응답하지 않음
+ * 
+ * 중복확인은 안내용이며, 최종 중복검사는 회원가입 시 DB에서 수행 (MemberServiceImpl.signUp())
+ */
+@Component
+@Slf4j
+public class MemberAvailabilityIndex {
+
+	private final MemberRepository memberRepository;
+	private final long expectedMembers;
+	private final double falsePositiveRate;
+	private final int pageSize;
+	
+	private final Counter filteredChecks;
+	private final Counter confirmedChecks;
+	private final AtomicLong withdrawnSinceRebuild = new AtomicLong();
+	private final AtomicBoolean rebuilding = new AtomicBoolean();
+	
+	private volatile Snapshot snapshot = Snapshot.EMPTY; // 읽기, 교체 모두 한 번에 (volatile 읽기 1번)
+	
+	public MemberAvailabilityIndex(MemberRepository memberRepository,
+								   MeterRegistry meterRegistry,
+								   @Value("${member.availability.expected-members:1000000}") long expectedMembers,
+								   @Value("${member.availability.false-positive-rate:0.001}") double falsePositiveRate,
+								   @Value("${member.availability.page-size:1000}") int pageSize) {
+		
+		this.memberRepository = memberRepository;
+		this.expectedMembers = expectedMembers;
+		this.falsePositiveRate = falsePositiveRate;
+		this.pageSize = pageSize;
+		
+		this.filteredChecks = Counter.builder("member.availability.checks")
+				.description("중복확인 요청 수")
+				.tag("source", "filter")
+				.register(meterRegistry);
+		this.confirmedChecks = Counter.builder("member.availability.checks")
+				.description("중복확인 요청 수")
+				.tag("source", "database")
+				.register(meterRegistry);
+		
+		Gauge.builder("member.availability.indexed", this, MemberAvailabilityIndex::indexedMembers)
+				.description("중복확인 인덱스에 추가된 회원 수")
+				.register(meterRegistry);
+		Gauge.builder("member.availability.withdrawn", withdrawnSinceRebuild, AtomicLong::get)
+				.description("인덱스 생성 이후 탈퇴한 회원 수 (Bloom Filter에 남아있는 값)")
+				.register(meterRegistry);
+	}
+	
+	
+	
+	public boolean isEmailAvailable(String email) {
+		Filters current = snapshot.current();
+		
+		if (current != null && !current.emails().mightContain(normalize(email))) {
+			filteredChecks.increment();
+			return true;
+		}
+		
+		confirmedChecks.increment();
+		return !memberRepository.existsByEmail(email.strip());
+	}
+	
+	public boolean isNickNameAvailable(String nickName) {
+		Filters current = snapshot.current();
+		
+		if (current != null && !current.nickNames().mightContain(normalize(nickName))) {
+			filteredChecks.increment();
+			return true;
+		}
+		
+		confirmedChecks.increment();
+		return !memberRepository.existsByNickName(nickName.strip());
+	}
+	
+	/**
+	 * 회원 저장이 커밋된 이후에 인덱스에 추가
+	 * 생성 중인 인덱스가 있다면 함께 추가 -> 페이지를 이미 읽은 뒤에 가입한 회원도 빠지지 않음
+	 * 
+	 * 두 인덱스를 같은 Snapshot에서 읽으므로 그 사이에 교체되어도 새 인덱스(building -> current)에는 추가됨
+	 * 생성이 시작되기 전의 Snapshot이었다면 생성 중인 인덱스는 커밋된 이 회원을 DB에서 읽음
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMemberJoined(MemberJoinedEvent event) {
+		Snapshot indexes = snapshot;
+		indexes.put(event.email(), event.nickName());
+		
+		Filters current = indexes.current();
+		
+		if (current != null && current.isFull() && !rebuilding.get()) { // 예상 회원 수를 넘으면 오탐률이 올라가므로 더 크게 새로 생성
+			Thread.ofVirtual().name("member-availability-rebuild").start(this::rebuild);
+		}
+	}
+	
+	/**
+	 * 닉네임 변경(소셜 회원의 추가정보 입력 등)이 커밋된 이후에 새 닉네임을 인덱스에 추가
+	 * 이전 닉네임은 Bloom Filter에서 지울 수 없음 -> DB 확인으로 사용 가능 응답, 다음 생성 때 제거
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMemberNickNameChanged(MemberNickNameChangedEvent event) {
+		snapshot.putNickName(event.nickName());
+	}
+	
+	/**
+	 * 탈퇴한 회원의 값은 Bloom Filter에서 지울 수 없음 -> DB 확인으로 사용 가능 응답, 다음 생성 때 제거
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMemberWithdrawn(MemberWithdrawnEvent event) {
+		withdrawnSinceRebuild.incrementAndGet();
+	}
+	
+	/**
+	 * 애플리케이션 시작을 막지 않도록 별도 스레드에서 인덱스 생성
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		Thread.ofVirtual().name("member-availability-warmup").start(this::rebuild);
+	}
+	
+	/**
+	 * 인덱스 새로 생성 후 교체 (탈퇴한 회원의 값 제거)
+	 * 생성 중에는 기존 인덱스를 그대로 사용, 이미 생성 중이라면 무시
+	 * Snapshot은 생성 중인 스레드(rebuilding)만 교체
+	 */
+	@Scheduled(fixedDelayString = "${member.availability.rebuild-interval:PT6H}",
+			   initialDelayString = "${member.availability.rebuild-interval:PT6H}")
+	public void rebuild() {
+		if (!rebuilding.compareAndSet(false, true)) {
+			return;
+		}
+		
+		try {
+			long withdrawn = withdrawnSinceRebuild.get();
+			long capacity = Math.max(expectedMembers, memberRepository.count() * 2);
+			Filters next = new Filters(new BloomFilter(capacity, falsePositiveRate),
+									   new BloomFilter(capacity, falsePositiveRate),
+									   new AtomicLong(), capacity);
+			snapshot = new Snapshot(snapshot.current(), next);
+			
+			long lastId = 0L;
+			List<MemberIdentityDto> page;
+			
+			do {
+				page = memberRepository.findIdentitiesAfter(lastId, PageRequest.of(0, pageSize));
+				
+				for (MemberIdentityDto identity : page) {
+					next.put(identity.email(), identity.nickName());
+				}
+				
+				if (!page.isEmpty()) {
+					lastId = page.get(page.size() - 1).id();
+				}
+			} while (page.size() == pageSize);
+			
+			snapshot = new Snapshot(next, null);
+			withdrawnSinceRebuild.addAndGet(-withdrawn);
+			
+			log.info("이메일, 닉네임 중복확인 인덱스 생성 완료 - 회원 수: {}, 최대 회원 수: {}", next.size().get(), capacity);
+		} catch (RuntimeException e) {
+			log.warn("이메일, 닉네임 중복확인 인덱스를 생성하지 못했습니다. 기존 인덱스(또는 DB)로 확인합니다.", e);
+		} finally {
+			Snapshot indexes = snapshot;
+			
+			if (indexes.building() != null) { // 생성 실패 -> 기존 인덱스 유지
+				snapshot = new Snapshot(indexes.current(), null);
+			}
+			rebuilding.set(false);
+		}
+	}
+	
+	
+	
+	private long indexedMembers() {
+		Filters current = snapshot.current();
+		
+		return current == null ? 0 : current.size().get();
+	}
+	
+	static String normalize(String value) {
+		return value.strip().toLowerCase(Locale.ROOT);
+	}
+	
+	
+	
+	/**
+	 * @param current	: 사용 중인 인덱스 (null 이면 인덱스 생성 전 -> DB 확인)
+	 * @param building	: 생성 중인 인덱스 (생성 중에 가입한 회원도 추가)
+	 */
+	private record Snapshot(Filters current, Filters building) {
+		
+		static final Snapshot EMPTY = new Snapshot(null, null);
+		
+		void put(String email, String nickName) {
+			if (current != null) {
+				current.put(email, nickName);
+			}
+			if (building != null) {
+				building.put(email, nickName);
+			}
+		}
+		
+		void putNickName(String nickName) {
+			if (current != null) {
+				current.putNickName(nickName);
+			}
+			if (building != null) {
+				building.putNickName(nickName);
+			}
+		}
+	}
+	
+	/**
+	 * @param emails	: 정규화된 이메일
+	 * @param nickNames	: 정규화된 닉네임 (추가정보 입력 전인 소셜 회원 등 닉네임이 없으면 추가 x)
+	 * @param size		: 추가된 회원 수
+	 * @param capacity	: 오탐률을 지킬 수 있는 최대 회원 수
+	 */
+	private record Filters(BloomFilter emails, BloomFilter nickNames, AtomicLong size, long capacity) {
+		
+		void put(String email, String nickName) {
+			if (email != null) {
+				emails.put(normalize(email));
+			}
+			if (nickName != null) {
+				nickNames.put(normalize(nickName));
+			}
+			
+			size.incrementAndGet();
+		}
+		
+		void putNickName(String nickName) { // 이미 추가된 회원의 닉네임 -> 회원 수 증가 x
+			if (nickName != null) {
+				nickNames.put(normalize(nickName));
+			}
+		}
+		
+		boolean isFull() {
+			return size.get() > capacity;
+		}
+	}
+}
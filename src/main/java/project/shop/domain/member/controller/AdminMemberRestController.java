@@ -0,0 +1,63 @@
+package project.shop.domain.member.controller;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import project.shop.domain.member.dto.MemberAdminPageDto;
+import project.shop.domain.member.dto.MemberInfoDto;
+import project.shop.domain.member.dto.MemberSearchCondition;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.enums.SocialType;
+import project.shop.domain.member.service.MemberService;
+
+/**
+ * 관리자 회원 관리 (ADMIN 권한만 접근, SecurityRoutes.ADMIN_URLS)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/members")
+public class AdminMemberRestController {
+
+	private final MemberService memberService;
+	
+	
+	
+	/**
+	 * [회원 목록 조회]
+	 * 
+	 * 다음 페이지는 응답의 lastMemberId를 그대로 보내서 조회 (keyset 페이징)
+	 * 예) /admin/members?role=USER&nickNamePrefix=spr&lastMemberId=120&size=20
+	 */
+	@GetMapping
+	public ResponseEntity<MemberAdminPageDto> members(
+			@RequestParam(name = "role", required = false) Role role,
+			@RequestParam(name = "socialType", required = false) SocialType socialType,
+			@RequestParam(name = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+			@RequestParam(name = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+			@RequestParam(name = "namePrefix", required = false) String namePrefix,
+			@RequestParam(name = "nickNamePrefix", required = false) String nickNamePrefix,
+			@RequestParam(name = "lastMemberId", required = false) Long lastMemberId,
+			@RequestParam(name = "size", defaultValue = "20") int size) {
+		
+		MemberSearchCondition condition = new MemberSearchCondition(role, socialType, createdFrom, createdTo, namePrefix, nickNamePrefix);
+		
+		return ResponseEntity.ok(memberService.searchMembers(condition, lastMemberId, size));
+	}
+	
+	/**
+	 * [회원 정보 조회]
+	 * 이메일, 이름은 개인정보이므로 관리자만 조회 (회원 본인은 /member/myInfo)
+	 */
+	@GetMapping("/{id}")
+	public ResponseEntity<MemberInfoDto> member(@PathVariable("id") Long id) throws Exception {
+		return ResponseEntity.ok(memberService.getInfo(id));
+	}
+}
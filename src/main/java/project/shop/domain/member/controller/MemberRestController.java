@@ -10,16 +10,21 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import project.shop.domain.member.availability.MemberAvailabilityIndex;
+import project.shop.domain.member.dto.MemberInfoDto;
 import project.shop.domain.member.dto.MemberLoginDto;
 import project.shop.domain.member.dto.MemberSignUpDto;
 import project.shop.domain.member.entity.Member;
@@ -27,6 +32,8 @@ import project.shop.domain.member.repository.MemberRepository;
 import project.shop.domain.member.service.MemberService;
 import project.shop.domain.member.util.ValidationSequence;
 import project.shop.global.login.service.LoginService;
+import project.shop.global.login.throttle.ClientIpResolver;
+import project.shop.global.login.throttle.LoginThrottle;
 
 @RestController // 문자열을 response의 Body에 작성하여 전속
 @RequiredArgsConstructor
@@ -36,6 +43,9 @@ public class MemberRestController {
 	private final MemberRepository memberRepository;
 	private final MemberService memberService;
 	private final LoginService loginService;
+	private final MemberAvailabilityIndex memberAvailabilityIndex;
+	private final LoginThrottle loginThrottle;
+	private final ClientIpResolver clientIpResolver;
 	
 	
 
@@ -66,6 +76,46 @@ public class MemberRestController {
 		return ResponseEntity.ok(Collections.singletonMap("message", "회원가입이 완료되었습니다."));
 	}
 	
+	/**
+	 * [이메일 중복확인]
+	 * 
+	 * 회원가입 폼 입력 중 실시간 확인 (대부분 DB 조회 없이 메모리 인덱스로 응답)
+	 * 가입 여부를 알려주므로 클라이언트 IP별로 요청 수 제한 -> 초과 시 429 + Retry-After (이메일 목록 수집 방지)
+	 */
+	@GetMapping("/availability/email")
+	public ResponseEntity<Map<String, Boolean>> emailAvailability(@RequestParam("email") String email, HttpServletRequest request) {
+		if (email.isBlank()) {
+			return ResponseEntity.badRequest().build();
+		}
+		
+		loginThrottle.acquireForAvailabilityCheck(clientIpResolver.resolve(request));
+		
+		return ResponseEntity.ok(Collections.singletonMap("available", memberAvailabilityIndex.isEmailAvailable(email)));
+	}
+	
+	/**
+	 * [닉네임 중복확인]
+	 * 이메일 중복확인과 같은 IP별 제한 사용
+	 */
+	@GetMapping("/availability/nickName")
+	public ResponseEntity<Map<String, Boolean>> nickNameAvailability(@RequestParam("nickName") String nickName, HttpServletRequest request) {
+		if (nickName.isBlank()) {
+			return ResponseEntity.badRequest().build();
+		}
+		
+		loginThrottle.acquireForAvailabilityCheck(clientIpResolver.resolve(request));
+		
+		return ResponseEntity.ok(Collections.singletonMap("available", memberAvailabilityIndex.isNickNameAvailable(nickName)));
+	}
+	
+	/**
+	 * [내 정보 조회]
+	 */
+	@GetMapping("/myInfo")
+	public ResponseEntity<MemberInfoDto> myInfo() throws Exception {
+		return ResponseEntity.ok(memberService.getMyInfo());
+	}
+	
 	/**
 	 * OAuth2 회원가입
 	 */
@@ -0,0 +1,19 @@
+package project.shop.domain.member.dto;
+
+import java.time.LocalDateTime;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.enums.SocialType;
+
+/**
+ * 관리자 회원 목록 한 행 (비밀번호, 소셜 식별값 등은 조회 x)
+ */
+public record MemberAdminDto(Long id, String email, String name, String nickName,
+							 Role role, SocialType socialType, LocalDateTime createdDate) {
+
+	@QueryProjection
+	public MemberAdminDto {
+	}
+}
@@ -0,0 +1,16 @@
+package project.shop.domain.member.dto;
+
+import java.util.List;
+
+/**
+ * 관리자 회원 목록 한 페이지 (keyset 페이징)
+ * 
+ * @param members		: 회원 PK 순서로 정렬된 회원 목록
+ * @param lastMemberId	: 다음 페이지 요청 시 보낼 값 (마지막 회원의 PK, 다음 페이지가 없으면 null)
+ */
+public record MemberAdminPageDto(List<MemberAdminDto> members, Long lastMemberId) {
+
+	public boolean hasNext() {
+		return lastMemberId != null;
+	}
+}
@@ -0,0 +1,11 @@
+package project.shop.domain.member.dto;
+
+/**
+ * 회원가입 중복검사 조회 결과 (엔티티 조회 x)
+ * 
+ * @param emailExists		: 같은 이메일의 회원이 있으면 true
+ * @param nickNameExists	: 같은 닉네임의 회원이 있으면 true
+ */
+public record MemberDuplicateDto(boolean emailExists, boolean nickNameExists) {
+
+}
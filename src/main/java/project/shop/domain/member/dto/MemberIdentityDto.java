@@ -0,0 +1,8 @@
+package project.shop.domain.member.dto;
+
+/**
+ * 중복확인 인덱스용 조회 결과 (member_id, email, nickName 컬럼만 조회, 엔티티 조회 x)
+ */
+public record MemberIdentityDto(Long id, String email, String nickName) {
+
+}
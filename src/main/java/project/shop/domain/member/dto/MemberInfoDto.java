@@ -1,5 +1,7 @@
 package project.shop.domain.member.dto;
 
+import com.querydsl.core.annotations.QueryProjection;
+
 import lombok.Builder;
 import lombok.Data;
 import project.shop.domain.member.entity.Member;
@@ -27,4 +29,14 @@ public class MemberInfoDto {
 		this.nickName = member.getNickName();
 //		this.age = member.getAge();
 	}
-}
\ No newline at end of file
+	
+	/**
+	 * QueryDSL 조회 결과를 바로 담는 생성자 (MemberQueryRepository, 엔티티 조회 x)
+	 */
+	@QueryProjection
+	public MemberInfoDto(String email, String name, String nickName) {
+		this.email = email;
+		this.name = name;
+		this.nickName = nickName;
+	}
+}
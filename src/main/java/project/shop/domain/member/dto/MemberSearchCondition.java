@@ -0,0 +1,22 @@
+package project.shop.domain.member.dto;
+
+import java.time.LocalDateTime;
+
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.enums.SocialType;
+
+/**
+ * 관리자 회원 목록 검색 조건 (null 이거나 비어있는 조건은 사용 x)
+ * 
+ * @param role				: 권한
+ * @param socialType		: 소셜 로그인 타입
+ * @param createdFrom		: 가입일시 시작 (포함)
+ * @param createdTo			: 가입일시 끝 (미포함)
+ * @param namePrefix		: 이름 앞부분
+ * @param nickNamePrefix	: 닉네임 앞부분
+ */
+public record MemberSearchCondition(Role role, SocialType socialType,
+									LocalDateTime createdFrom, LocalDateTime createdTo,
+									String namePrefix, String nickNamePrefix) {
+
+}
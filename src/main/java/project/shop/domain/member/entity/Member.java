@@ -2,17 +2,25 @@ package project.shop.domain.member.entity;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Email;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,21 +29,49 @@ import lombok.NoArgsConstructor;
 import project.shop.common.entity.BaseTimeEntity;
 import project.shop.domain.member.enums.Role;
 import project.shop.domain.member.enums.SocialType;
+import project.shop.domain.member.event.MemberPrincipalEntityListener;
 
+/**
+ * 회원
+ * 
+ * 인덱스 (MemberRepository의 모든 조회 조건은 인덱스로 조회, MemberRepositoryIndexTest)
+ * - email : 유니크 제약 조건 (로그인, 이메일 중복검사)
+ * - nick_name : 유니크 인덱스 (닉네임 중복검사), 추가정보 입력 전인 소셜 회원은 null -> 중복 허용
+ * - (social_type, social_id) : 유니크 인덱스 (소셜 로그인), 일반 회원은 둘 다 null -> 중복 허용
+ * 
+ * 같은 소셜 계정으로 동시에 첫 로그인해도 회원은 한 명만 저장됨 (CustomOAuth2UserService.saveMember())
+ * 
+ * 2차 캐시 (SecondLevelCacheConfig)
+ * - findById() : member 영역에서 조회
+ * - findByEmail() : email(natural id) -> PK를 member-email 영역에서 찾은 뒤 member 영역에서 조회
+ * - READ_WRITE : 변경 감지로 UPDATE 되면 커밋 후 캐시 갱신, 비밀번호 해시 교체(updatePasswordHash) 시 해당 회원만 제거
+ */
 @Entity
-@Table(name = "MEMBER")
+@Table(name = "MEMBER", indexes = {
+		@Index(name = Member.NICK_NAME_INDEX, columnList = "nick_name", unique = true),
+		@Index(name = "uk_member_social", columnList = "social_type, social_id", unique = true)
+})
+@EntityListeners(MemberPrincipalEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Member.CACHE_REGION)
+@NaturalIdCache(region = Member.NATURAL_ID_CACHE_REGION)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Member extends BaseTimeEntity {
 
+	public static final String NICK_NAME_INDEX = "uk_member_nick_name"; // 유니크 인덱스 위반 시 닉네임 중복으로 판단
+	public static final String CACHE_REGION = "member";
+	public static final String NATURAL_ID_CACHE_REGION = "member-email";
+	
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column(name = "member_id")
 	private Long id; // PK
 	
 	@Email
+	@NaturalId // 변경 불가, 유니크 제약 조건
 	@Column(nullable = false, length = 100, unique = true)
 	private String email; // 이메일
 	
@@ -66,14 +102,18 @@ public class Member extends BaseTimeEntity {
 	
 	private String socialId; // 로그인한 소셜 타입의 식별자 값 (일반로그인: null)
 	
-	@Column(length = 1000)
-	private String refreshToken; // 리프레시 토큰
+	@Transient
+	private boolean principalChanged; // 권한, 비밀번호 변경 여부 -> flush 시 인증 캐시 제거 이벤트 발행
+	
+	@Transient
+	private boolean nickNameChanged; // 닉네임 변경 여부 -> flush 시 닉네임 중복확인 인덱스 추가 이벤트 발행
 	
 	
 	
 	//== 정보 수정 ==//
 	public void updatePassword(PasswordEncoder passwordEncoder, String password) {
 		this.password = passwordEncoder.encode(password);
+		this.principalChanged = true;
 	}
 	
 	public void updateName(String name) {
@@ -81,25 +121,18 @@ public class Member extends BaseTimeEntity {
 	}
 	
 	public void updateNickName(String nickName) {
+		if (!Objects.equals(this.nickName, nickName)) {
+			this.nickNameChanged = true;
+		}
 		this.nickName = nickName;
 	}
 	
 	
 	
-	//== 리프레시 토큰 ==//
-	public void updateRefreshToken(String refreshToken) { // 리프레시 토큰 갱신
-		this.refreshToken = refreshToken;
-	}
-	
-	public void destroyRefreshToken() { // 리프레시 토큰 파기
-		this.refreshToken = null;
-	}
-	
-	
-	
 	//== 비밀번호 암호화 ==//
 	public void encodePassword(PasswordEncoder passwordEncoder) {
 		this.password = passwordEncoder.encode(password);
+		this.principalChanged = true;
 	}
 	
 	/**
@@ -117,5 +150,20 @@ public class Member extends BaseTimeEntity {
 	//== 권한 부여 ==//
 	public void addUserAuthority() {
 		this.role = Role.USER;
+		this.principalChanged = true;
+	}
+	
+	
+	
+	//== 인증 캐시 제거 이벤트 ==//
+	public void clearPrincipalChanged() {
+		this.principalChanged = false;
+	}
+	
+	
+	
+	//== 닉네임 중복확인 인덱스 추가 이벤트 ==//
+	public void clearNickNameChanged() {
+		this.nickNameChanged = false;
 	}
 }
\ No newline at end of file
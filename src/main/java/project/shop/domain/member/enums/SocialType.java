@@ -2,5 +2,23 @@ package project.shop.domain.member.enums;
 
 public enum SocialType {
 
-	KAKAO, NAVER, GOOGLE
-}
\ No newline at end of file
+	KAKAO, NAVER, GOOGLE;
+	
+	
+	
+	/**
+	 * @param registrationId
+	 * "naver", "kakao", "google" 로 분기 처리하여 맞는 소셜타입을 반환하는 메서드
+	 * (http://localhost:8080/oauth2/authorization/kakao 에서 kakao가 registrationId)
+	 */
+	public static SocialType fromRegistrationId(String registrationId) {
+		if ("naver".equals(registrationId)) {
+			return NAVER;
+		}
+		if ("kakao".equals(registrationId)) {
+			return KAKAO;
+		}
+		
+		return GOOGLE;
+	}
+}
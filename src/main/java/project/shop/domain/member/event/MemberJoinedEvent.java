@@ -0,0 +1,7 @@
+package project.shop.domain.member.event;
+
+/**
+ * 회원이 저장(가입)되었을 때 발행되는 이벤트 (소셜 로그인으로 처음 저장된 GUEST 포함)
+ */
+public record MemberJoinedEvent(String email, String nickName) {
+}
@@ -0,0 +1,7 @@
+package project.shop.domain.member.event;
+
+/**
+ * 저장된 회원의 닉네임이 변경되었을 때 발행되는 이벤트 (소셜 회원의 추가정보 입력 포함)
+ */
+public record MemberNickNameChangedEvent(String nickName) {
+}
@@ -0,0 +1,7 @@
+package project.shop.domain.member.event;
+
+/**
+ * 인증에 사용되는 회원 정보(권한, 비밀번호)가 변경되었거나 회원이 탈퇴했을 때 발행되는 이벤트
+ */
+public record MemberPrincipalChangedEvent(String email) {
+}
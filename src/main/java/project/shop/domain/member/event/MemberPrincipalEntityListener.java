@@ -0,0 +1,51 @@
+package project.shop.domain.member.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import project.shop.domain.member.entity.Member;
+
+/**
+ * Member 엔티티 리스너
+ * 권한, 비밀번호가 변경된 회원이 flush 되거나(@PostUpdate) 회원이 삭제되면(@PostRemove)
+ * MemberPrincipalChangedEvent 발행
+ * 회원이 삭제되면 MemberWithdrawnEvent도 함께 발행 (발급된 AccessToken 폐기)
+ * 회원이 저장되면(@PostPersist) MemberJoinedEvent 발행 (이메일, 닉네임 중복확인 인덱스에 추가)
+ * 닉네임이 변경된 회원이 flush 되면(@PostUpdate) MemberNickNameChangedEvent 발행 (소셜 회원의 추가정보 입력 등)
+ * 
+ * 리프레시 토큰 갱신 같은 다른 변경에는 이벤트를 발행하지 않도록 Member.isPrincipalChanged(), isNickNameChanged() 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberPrincipalEntityListener {
+
+	private final ApplicationEventPublisher eventPublisher;
+	
+	@PostPersist
+	public void postPersist(Member member) {
+		eventPublisher.publishEvent(new MemberJoinedEvent(member.getEmail(), member.getNickName()));
+	}
+	
+	@PostUpdate
+	public void postUpdate(Member member) {
+		if (member.isPrincipalChanged()) {
+			member.clearPrincipalChanged();
+			eventPublisher.publishEvent(new MemberPrincipalChangedEvent(member.getEmail()));
+		}
+		
+		if (member.isNickNameChanged()) {
+			member.clearNickNameChanged();
+			eventPublisher.publishEvent(new MemberNickNameChangedEvent(member.getNickName()));
+		}
+	}
+	
+	@PostRemove
+	public void postRemove(Member member) {
+		eventPublisher.publishEvent(new MemberPrincipalChangedEvent(member.getEmail()));
+		eventPublisher.publishEvent(new MemberWithdrawnEvent(member.getId()));
+	}
+}
@@ -0,0 +1,7 @@
+package project.shop.domain.member.event;
+
+/**
+ * 회원이 탈퇴(삭제)했을 때 발행되는 이벤트
+ */
+public record MemberWithdrawnEvent(Long memberId) {
+}
@@ -0,0 +1,23 @@
+package project.shop.domain.member.repository;
+
+import java.util.Optional;
+
+import project.shop.domain.member.entity.Member;
+
+/**
+ * email(natural id)로 회원 조회 -> JPQL 쿼리 대신 Hibernate natural id 조회를 사용해서 2차 캐시 적용
+ * email(natural id)로 비밀번호 해시 교체 -> 2차 캐시 영역 전체가 아닌 변경된 회원만 제거
+ */
+public interface MemberNaturalIdRepository {
+
+	// 소셜 로그인으로 반환되는 값 중 email을 통해 이미 생성된 사용자인지, 처음 가입하는 사용자인지 판단하기 위한 메서드
+	Optional<Member> findByEmail(String email);
+	
+	/**
+	 * 비밀번호 해시 교체 (로그인 성공 시 재암호화)
+	 * 기존 해시가 그대로인 경우에만 변경 -> 그 사이에 비밀번호가 변경되었다면 덮어쓰지 않음 (0 반환)
+	 * 
+	 * 엔티티 리스너를 거치지 않지만, 해시만 바뀌므로 MemberPrincipalCache는 그대로 유효
+	 */
+	int updatePasswordHash(String email, String oldPassword, String newPassword);
+}
@@ -0,0 +1,93 @@
+package project.shop.domain.member.repository;
+
+import java.util.Optional;
+
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import project.shop.domain.member.entity.Member;
+
+/**
+ * MemberNaturalIdRepository 구현 (MemberRepository에 함께 등록됨)
+ * 
+ * 영속성 컨텍스트 -> 2차 캐시(member-email -> member) -> DB 순서로 조회
+ * 쿼리 메서드(select ... where email = ?)는 2차 캐시를 거치지 않으므로 natural id 조회로 대체
+ */
+@Transactional(readOnly = true)
+public class MemberNaturalIdRepositoryImpl implements MemberNaturalIdRepository {
+
+	private static final String UPDATE_PASSWORD_HASH_SQL =
+			"update member set password = ? where email = ? and password = ?";
+	
+	/**
+	 * 네이티브 UPDATE의 동기화 대상 (query space)
+	 * 지정하지 않으면 Hibernate가 모든 2차 캐시 영역을, 테이블(member)을 지정하면 member 영역 전체를 비움
+	 * 어떤 엔티티에도 속하지 않는 이름으로 지정하고, 변경된 회원만 직접 제거
+	 */
+	private static final String PASSWORD_HASH_QUERY_SPACE = "member_password_hash";
+	
+	@PersistenceContext
+	private EntityManager em;
+	
+	@Override
+	public Optional<Member> findByEmail(String email) {
+		return em.unwrap(Session.class)
+				.bySimpleNaturalId(Member.class)
+				.loadOptional(email);
+	}
+	
+	/**
+	 * 조건부 UPDATE 1번 -> 변경되었다면 회원 PK 조회 후 해당 회원의 캐시만 제거
+	 * member-email 영역(email -> PK)은 변경되지 않으므로 그대로 유지
+	 */
+	@Override
+	@Transactional
+	public int updatePasswordHash(String email, String oldPassword, String newPassword) {
+		int updated = em.createNativeQuery(UPDATE_PASSWORD_HASH_SQL)
+				.unwrap(NativeQuery.class)
+				.addSynchronizedQuerySpace(PASSWORD_HASH_QUERY_SPACE)
+				.setParameter(1, newPassword)
+				.setParameter(2, email)
+				.setParameter(3, oldPassword)
+				.executeUpdate();
+		
+		if (updated == 0) {
+			return 0;
+		}
+		
+		Long memberId = em.createQuery("select m.id from Member m where m.email = :email", Long.class)
+				.setParameter("email", email)
+				.getSingleResult();
+		
+		em.detach(em.getReference(Member.class, memberId)); // 영속성 컨텍스트의 이전 해시 제거
+		evictAfterCompletion(em.unwrap(Session.class).getSessionFactory().getCache(), memberId);
+		
+		return updated;
+	}
+	
+	
+	
+	/**
+	 * 지금 바로 제거하고, 트랜잭션이 끝난 뒤 한 번 더 제거
+	 * -> 커밋 전에 다른 트랜잭션이 이전 해시를 다시 캐시에 넣은 경우도 제거
+	 */
+	private static void evictAfterCompletion(Cache cache, Long memberId) {
+		cache.evictEntityData(Member.class, memberId);
+		
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				
+				@Override
+				public void afterCompletion(int status) {
+					cache.evictEntityData(Member.class, memberId);
+				}
+			});
+		}
+	}
+}
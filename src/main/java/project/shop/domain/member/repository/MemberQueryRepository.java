@@ -0,0 +1,133 @@
+package project.shop.domain.member.repository;
+
+import static project.shop.domain.member.entity.QMember.member;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+import project.shop.domain.member.dto.MemberAdminDto;
+import project.shop.domain.member.dto.MemberAdminPageDto;
+import project.shop.domain.member.dto.MemberInfoDto;
+import project.shop.domain.member.dto.MemberSearchCondition;
+import project.shop.domain.member.dto.QMemberAdminDto;
+import project.shop.domain.member.dto.QMemberInfoDto;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.enums.SocialType;
+
+/**
+ * 회원 조회 전용 리포지토리 (QueryDSL)
+ * 
+ * 필요한 컬럼만 DTO로 바로 조회 -> Member 엔티티를 영속성 컨텍스트에 올리지 않음 (스냅샷, 변경 감지 x)
+ * 조회만 하므로 읽기 전용 트랜잭션 (flush x)
+ */
+@Repository
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MemberQueryRepository {
+
+	public static final int MAX_PAGE_SIZE = 100;
+	
+	private final JPAQueryFactory queryFactory;
+	
+	
+	
+	public Optional<MemberInfoDto> findInfoById(Long id) {
+		return Optional.ofNullable(queryFactory
+				.select(new QMemberInfoDto(member.email, member.name, member.nickName))
+				.from(member)
+				.where(member.id.eq(id))
+				.fetchOne());
+	}
+	
+	public Optional<MemberInfoDto> findInfoByEmail(String email) {
+		return Optional.ofNullable(queryFactory
+				.select(new QMemberInfoDto(member.email, member.name, member.nickName))
+				.from(member)
+				.where(member.email.eq(email))
+				.fetchOne());
+	}
+	
+	/**
+	 * 관리자 회원 목록 (keyset 페이징)
+	 * 
+	 * OFFSET 대신 "member_id > 이전 페이지의 마지막 회원 PK" 조건으로 조회 -> 뒤 페이지도 PK 인덱스에서 바로 시작
+	 * size + 1 개를 조회해서 다음 페이지가 있는지 확인 (count 쿼리 x)
+	 * 
+	 * @param lastMemberId	: 이전 페이지의 마지막 회원 PK (첫 페이지는 null)
+	 * @param size			: 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+	 */
+	public MemberAdminPageDto search(MemberSearchCondition condition, Long lastMemberId, int size) {
+		int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+		
+		List<MemberAdminDto> members = queryFactory
+				.select(new QMemberAdminDto(
+						member.id,
+						member.email,
+						member.name,
+						member.nickName,
+						member.role,
+						member.socialType,
+						member.createdDate))
+				.from(member)
+				.where(
+						idGt(lastMemberId),
+						roleEq(condition.role()),
+						socialTypeEq(condition.socialType()),
+						createdDateGoe(condition.createdFrom()),
+						createdDateLt(condition.createdTo()),
+						nameStartsWith(condition.namePrefix()),
+						nickNameStartsWith(condition.nickNamePrefix()))
+				.orderBy(member.id.asc())
+				.limit(pageSize + 1)
+				.fetch();
+		
+		if (members.size() <= pageSize) {
+			return new MemberAdminPageDto(members, null);
+		}
+		
+		List<MemberAdminDto> page = members.subList(0, pageSize);
+		
+		return new MemberAdminPageDto(List.copyOf(page), page.get(pageSize - 1).id());
+	}
+	
+	
+	
+	//== 검색 조건 (null 이면 where 에서 제외) ==//
+	
+	private BooleanExpression idGt(Long lastMemberId) {
+		return lastMemberId == null ? null : member.id.gt(lastMemberId);
+	}
+	
+	private BooleanExpression roleEq(Role role) {
+		return role == null ? null : member.role.eq(role);
+	}
+	
+	private BooleanExpression socialTypeEq(SocialType socialType) {
+		return socialType == null ? null : member.socialType.eq(socialType);
+	}
+	
+	private BooleanExpression createdDateGoe(LocalDateTime createdFrom) {
+		return createdFrom == null ? null : member.createdDate.goe(createdFrom);
+	}
+	
+	private BooleanExpression createdDateLt(LocalDateTime createdTo) {
+		return createdTo == null ? null : member.createdDate.lt(createdTo);
+	}
+	
+	private BooleanExpression nameStartsWith(String namePrefix) {
+		return StringUtils.hasText(namePrefix) ? member.name.startsWith(namePrefix.strip()) : null;
+	}
+	
+	private BooleanExpression nickNameStartsWith(String nickNamePrefix) {
+		return StringUtils.hasText(nickNamePrefix) ? member.nickName.startsWith(nickNamePrefix.strip()) : null;
+	}
+}
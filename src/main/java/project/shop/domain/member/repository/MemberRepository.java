@@ -1,27 +1,60 @@
 package project.shop.domain.member.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import project.shop.domain.member.dto.MemberDuplicateDto;
+import project.shop.domain.member.dto.MemberIdentityDto;
 import project.shop.domain.member.entity.Member;
 import project.shop.domain.member.enums.SocialType;
 
-public interface MemberRepository extends JpaRepository<Member, Long> {
-	// 소셜 로그인으로 반환되는 값 중 email을 통해 이미 생성된 사용자인지, 처음 가입하는 사용자인지 판단하기 위한 메서드
-	Optional<Member> findByEmail(String email);
+/**
+ * findByEmail() 은 MemberNaturalIdRepository 에서 natural id로 조회 (2차 캐시)
+ * updatePasswordHash() 는 MemberNaturalIdRepository 에서 변경된 회원의 캐시만 제거
+ */
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberNaturalIdRepository {
 	
 	boolean existsByEmail(String email); // 이메일 존재 여부
 	
+	@Query("select m.id from Member m where m.email = :email")
+	Optional<Long> findIdByEmail(@Param("email") String email); // 회원 PK만 필요한 경우 (엔티티 조회 x)
+	
 	Optional<Member> findByNickName(String nickName);
 	
-	Optional<Member> findByRefreshToken(String refreshToken);
+	boolean existsByNickName(String nickName); // 닉네임 존재 여부
+	
+	/**
+	 * 회원가입 중복검사
+	 * 이메일, 닉네임 중복을 쿼리 1번으로 확인
+	 * 
+	 * email = ? or nick_name = ? 조건은 DB에 따라 테이블 전체를 읽으므로 (인덱스 병합 x)
+	 * 이메일, 닉네임을 각각의 유니크 인덱스로 확인하는 exists 서브쿼리 2개로 조회
+	 */
+	@Query("select new project.shop.domain.member.dto.MemberDuplicateDto("
+			+ " case when exists (select 1 from Member m where m.email = :email) then true else false end,"
+			+ " case when exists (select 1 from Member m where m.nickName = :nickName) then true else false end)")
+	MemberDuplicateDto findDuplicate(@Param("email") String email, @Param("nickName") String nickName);
+	
+	/**
+	 * 회원 PK 순서로 lastId 다음 회원부터 한 페이지 조회 (keyset 페이징, OFFSET x)
+	 * 전체 회원을 페이지 단위로 읽어서 중복확인 인덱스를 만들 때 사용 (MemberAvailabilityIndex)
+	 */
+	@Query("select new project.shop.domain.member.dto.MemberIdentityDto(m.id, m.email, m.nickName) from Member m"
+			+ " where m.id > :lastId order by m.id")
+	List<MemberIdentityDto> findIdentitiesAfter(@Param("lastId") Long lastId, Pageable pageable);
 	
 	/**
 	 * 소셜 타입과 소셜의 식별값으로 회원을 찾는 메서드
 	 * 정보 제공에 동의한 순간 DB에 저장되어야 하지만, 추가정보를 입력받지 않았으므로
 	 * 유저 객체는 추가정보가 빠진 상태로 DB에 저장됨
 	 * 따라서 추가정보를 입력받아 회원가입을 진행할 때 소셜타입, 식별자로 해당 회원을 찾기위함
+	 * 
+	 * (social_type, social_id) 유니크 인덱스로 조회 (uk_member_social)
 	 */
 	Optional<Member> findBySocialTypeAndSocialId(SocialType socialType, String socialId);
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package project.shop.domain.member.service;
 
+import project.shop.domain.member.dto.MemberAdminPageDto;
 import project.shop.domain.member.dto.MemberInfoDto;
+import project.shop.domain.member.dto.MemberSearchCondition;
 import project.shop.domain.member.dto.MemberSignUpDto;
 import project.shop.domain.member.dto.MemberUpdateDto;
 
@@ -25,4 +27,6 @@ public interface MemberService {
 	
 	MemberInfoDto getMyInfo() throws Exception;
 	
+	MemberAdminPageDto searchMembers(MemberSearchCondition condition, Long lastMemberId, int size); // 관리자 회원 목록 (keyset 페이징)
+	
 }
\ No newline at end of file
@@ -2,19 +2,29 @@ package project.shop.domain.member.service;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.Locale;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.validation.constraints.AssertTrue;
 import lombok.RequiredArgsConstructor;
+import project.shop.domain.member.dto.MemberAdminPageDto;
+import project.shop.domain.member.dto.MemberDuplicateDto;
 import project.shop.domain.member.dto.MemberInfoDto;
+import project.shop.domain.member.dto.MemberSearchCondition;
 import project.shop.domain.member.dto.MemberSignUpDto;
 import project.shop.domain.member.dto.MemberUpdateDto;
 import project.shop.domain.member.entity.Member;
 import project.shop.domain.member.exception.MemberException;
 import project.shop.domain.member.exception.MemberExceptionType;
+import project.shop.domain.member.repository.MemberQueryRepository;
 import project.shop.domain.member.repository.MemberRepository;
 
 @Service
@@ -23,43 +33,98 @@ import project.shop.domain.member.repository.MemberRepository;
 public class MemberServiceImpl implements MemberService {
 
 	private final MemberRepository memberRepository;
+	private final MemberQueryRepository memberQueryRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final TransactionTemplate transactionTemplate;
 	
 	
 	/**
 	 * [회원가입 메서드]
 	 * 
-	 * 유효성 검사 후 회원가입 진행
+	 * 비용이 적은 검사부터 순서대로 진행 -> 가입 실패 시 비밀번호 암호화(bcrypt)까지 가지 않음
+	 * 1. 메모리 검사 : 두 비밀번호 일치, 생년월일 범위
+	 * 2. 중복검사 : 이메일, 닉네임을 쿼리 1번으로 확인 (각각 유니크 인덱스로 조회, 엔티티 조회 x)
+	 * 3. 비밀번호 암호화
+	 * 4. 저장 : 중복검사 이후 동시에 가입한 경우는 유니크 인덱스 위반으로 판단 (email, nick_name)
+	 * 
+	 * 트랜잭션은 4. 저장에만 사용 (NOT_SUPPORTED + TransactionTemplate)
+	 * -> 비밀번호 암호화(bcrypt, 해시 스레드 풀 대기) 동안 DB 커넥션을 잡고 있지 않음
+	 * 중복검사는 리포지토리의 읽기 전용 트랜잭션으로 조회 후 바로 커넥션 반환
 	 */
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void signUp(MemberSignUpDto memberSignUpDto) throws Exception {
 		
+		validateSignUpForm(memberSignUpDto);
+		validateDuplicate(memberSignUpDto);
+		
 		Member member = memberSignUpDto.toEntity(); // 빌더패턴으로 회원객체에 저장
 		
 		member.addUserAuthority(); // entity로 변환 후 USER 권한 부여
 		member.encodePassword(passwordEncoder); // 비밀번호 암호화
 		
-		// 닉네임 중복검사
-		if (memberRepository.findByNickName(memberSignUpDto.nickName()).isPresent()) {
-			throw new MemberException(MemberExceptionType.ALREADY_EXIST_NICKNAME);
-		}
-		// 이메일 중복검사
-		if (memberRepository.findByEmail(memberSignUpDto.email()).isPresent()) {
-			throw new MemberException(MemberExceptionType.ALREADY_EXIST_EMAIL);
+		transactionTemplate.executeWithoutResult(status -> save(member));
+	}
+	
+	
+	
+	/**
+	 * [회원가입 폼 검사 메서드]
+	 * 
+	 * DB 조회 없이 입력값만으로 확인할 수 있는 검사
+	 */
+	private void validateSignUpForm(MemberSignUpDto memberSignUpDto) {
+		// 두 비밀번호가 일치하는지 검사
+		if (!memberSignUpDto.password1().equals(memberSignUpDto.password2())) {
+			throw new MemberException(MemberExceptionType.PASSWORD_MISMATCH);
 		}
 		// 생년월일 범위 검사
 		if (!isBirthDateValid(memberSignUpDto.birth())) {
 			throw new MemberException(MemberExceptionType.BIRTH_DATE_ERROR);
 		}
-		// 두 비밀번호가 일치하는지 검사
-		if (!memberSignUpDto.password1().equals(memberSignUpDto.password2())) {
-			throw new MemberException(MemberExceptionType.PASSWORD_MISMATCH);
-		}
+	}
+	
+	/**
+	 * [회원가입 중복검사 메서드]
+	 * 
+	 * 이메일, 닉네임 중복을 한 번에 조회해서 닉네임 -> 이메일 순서로 중복검사
+	 */
+	private void validateDuplicate(MemberSignUpDto memberSignUpDto) {
+		MemberDuplicateDto duplicate = memberRepository.findDuplicate(memberSignUpDto.email(), memberSignUpDto.nickName());
 		
-		memberRepository.save(member);
+		// 닉네임 중복검사
+		if (duplicate.nickNameExists()) {
+			throw new MemberException(MemberExceptionType.ALREADY_EXIST_NICKNAME);
+		}
+		// 이메일 중복검사
+		if (duplicate.emailExists()) {
+			throw new MemberException(MemberExceptionType.ALREADY_EXIST_EMAIL);
+		}
 	}
 	
+	/**
+	 * [회원 저장 메서드]
+	 * 
+	 * 바로 INSERT 해서 유니크 제약 조건 위반을 이 메서드 안에서 확인
+	 */
+	private void save(Member member) {
+		try {
+			memberRepository.saveAndFlush(member);
+		} catch (DataIntegrityViolationException e) { // 중복검사 이후 같은 이메일, 닉네임으로 먼저 가입된 경우
+			throw new MemberException(isNickNameViolation(e)
+					? MemberExceptionType.ALREADY_EXIST_NICKNAME
+					: MemberExceptionType.ALREADY_EXIST_EMAIL);
+		}
+	}
 	
+	/**
+	 * 유니크 인덱스 위반 메세지에 닉네임 인덱스 이름이 있으면 닉네임 중복 (없으면 이메일 중복)
+	 */
+	private boolean isNickNameViolation(DataIntegrityViolationException e) {
+		String message = e.getMostSpecificCause().getMessage();
+		
+		return message != null && message.toLowerCase(Locale.ROOT).contains(Member.NICK_NAME_INDEX);
+	}
 	
 	/**
 	 * [회원가입 생년월일 범위 체크 메서드]
@@ -93,13 +158,52 @@ public class MemberServiceImpl implements MemberService {
 	public void withdraw(String checkPassword) throws Exception {
 		
 	}
+	
+	
+	
+	/**
+	 * [회원 정보 조회]
+	 * 
+	 * email, name, nickName 컬럼만 조회 (Member 엔티티 조회 x)
+	 */
 	@Override
+	@Transactional(readOnly = true)
 	public MemberInfoDto getInfo(Long id) throws Exception {
-		return null;
+		return memberQueryRepository.findInfoById(id)
+				.orElseThrow(() -> new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
 	}
+	
+	/**
+	 * [내 정보 조회]
+	 * 
+	 * 인증 객체의 email(username)로 조회 -> JWT 인증 필터에서 만든 인증 객체를 그대로 사용
+	 */
 	@Override
+	@Transactional(readOnly = true)
 	public MemberInfoDto getMyInfo() throws Exception {
-		return null;
+		return memberQueryRepository.findInfoByEmail(getLoginEmail())
+				.orElseThrow(() -> new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
+	}
+	
+	/**
+	 * [관리자 회원 목록 조회]
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public MemberAdminPageDto searchMembers(MemberSearchCondition condition, Long lastMemberId, int size) {
+		return memberQueryRepository.search(condition, lastMemberId, size);
+	}
+	
+	
+	
+	private String getLoginEmail() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		
+		if (authentication == null || authentication.getName() == null) {
+			throw new MemberException(MemberExceptionType.NOT_FOUND_MEMBER);
+		}
+		
+		return authentication.getName();
 	}
 	
 	
@@ -0,0 +1,103 @@
+package project.shop.global.cache;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import project.shop.domain.member.entity.Member;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine, 서버 로컬 메모리)
+ * 
+ * 캐시 영역은 SecondLevelCacheProperties의 크기, 만료 시간으로 미리 만들어서
+ * Hibernate에 CacheManager 인스턴스를 그대로 전달 (별도 설정 파일 x)
+ * 
+ * CachingProvider의 CacheManager는 JVM(클래스로더)마다 하나이므로
+ * 영역 이름 앞에 고정된 prefix(second-level-cache.region-prefix)를 붙여서 영역을 나눔 -> 캐시 이름, JMX 지표 이름이 재시작해도 동일
+ * 종료 시에는 CacheManager를 닫지 않고 prefix의 영역만 제거 (같은 JVM의 다른 컨텍스트는 다른 prefix를 사용)
+ * 
+ * 로컬 캐시이므로 같은 서버에서의 변경은 바로 반영되지만 (READ_WRITE, 비밀번호 해시 교체 시 해당 회원만 제거)
+ * 다른 서버에서 변경된 값은 expire-after-write 동안 남아있을 수 있음
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class SecondLevelCacheConfig implements DisposableBean {
+
+	/**
+	 * 2차 캐시를 사용하는 영역 (@Cache, @NaturalIdCache 의 region)
+	 */
+	static final List<String> REGIONS = List.of(Member.CACHE_REGION, Member.NATURAL_ID_CACHE_REGION);
+	
+	private final SecondLevelCacheProperties properties;
+	private final CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+	
+	
+	
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.enabled());
+			hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.statistics());
+			
+			if (properties.enabled()) {
+				createRegions();
+				
+				hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+				hibernateProperties.put(AvailableSettings.CACHE_REGION_PREFIX, properties.regionPrefix());
+				hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+				hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn"); // 설정하지 않은 영역은 경고 후 기본 설정으로 생성
+				
+				log.info("Hibernate 2차 캐시 사용 - 영역: {}", REGIONS);
+			}
+		};
+	}
+	
+	@Override
+	public void destroy() {
+		for (String cacheName : cacheManager.getCacheNames()) {
+			if (cacheName.startsWith(properties.regionPrefix() + ".")) {
+				cacheManager.destroyCache(cacheName);
+			}
+		}
+	}
+	
+	
+	
+	private void createRegions() {
+		for (String region : REGIONS) {
+			String cacheName = properties.regionPrefix() + "." + region; // Hibernate가 조회하는 이름 (prefix.region)
+			
+			if (cacheManager.getCache(cacheName) == null) {
+				cacheManager.createCache(cacheName, configuration(properties.region(region), properties.statistics()));
+			}
+		}
+	}
+	
+	private static CaffeineConfiguration<Object, Object> configuration(SecondLevelCacheProperties.Region region, boolean statistics) {
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		
+		configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+		configuration.setExpireAfterWrite(OptionalLong.of(region.expireAfterWrite().toNanos()));
+		configuration.setStatisticsEnabled(statistics); // JMX (javax.cache:type=CacheStatistics)
+		configuration.setManagementEnabled(statistics);
+		
+		return configuration;
+	}
+}
@@ -0,0 +1,67 @@
+package project.shop.global.cache;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Hibernate 2차 캐시 설정 (second-level-cache)
+ * 
+ * second-level-cache:
+ *   enabled: true
+ *   statistics: true              # Hibernate 통계 수집 -> /actuator/metrics/hibernate.second.level.cache.requests
+ *   region-prefix: shop           # 캐시 이름 앞에 붙는 prefix (shop.member, shop.member-email)
+ *   regions:
+ *     member:                     # 캐시 영역 이름 (@Cache, @NaturalIdCache 의 region)
+ *       maximum-size: 10000       # 최대 항목 수 (넘으면 사용 빈도가 낮은 항목부터 제거, W-TinyLFU)
+ *       expire-after-write: 30m   # 저장 후 만료 시간
+ *     member-email:
+ *       maximum-size: 10000
+ * 
+ * 설정하지 않은 영역, 항목은 기본값 (최대 10000개, 저장 후 30분)
+ * 
+ * @param enabled		: 2차 캐시 사용 여부
+ * @param statistics	: Hibernate 통계 수집 여부 (캐시 적중/실패 수)
+ * @param regionPrefix	: 캐시 이름 prefix (같은 JVM에 2차 캐시를 쓰는 컨텍스트가 여러 개라면 컨텍스트마다 다르게 설정)
+ * @param regions		: 캐시 영역별 설정
+ */
+@ConfigurationProperties(prefix = "second-level-cache")
+public record SecondLevelCacheProperties(@DefaultValue("true") boolean enabled,
+										 @DefaultValue("true") boolean statistics,
+										 @DefaultValue("shop") String regionPrefix,
+										 @DefaultValue Map<String, Region> regions) {
+
+	public SecondLevelCacheProperties {
+		if (regionPrefix == null || regionPrefix.isBlank()) {
+			throw new IllegalArgumentException("second-level-cache region-prefix must not be blank");
+		}
+	}
+	
+
+	public Region region(String name) {
+		return regions.getOrDefault(name, Region.DEFAULT);
+	}
+	
+	
+	
+	/**
+	 * @param maximumSize		: 최대 항목 수
+	 * @param expireAfterWrite	: 저장 후 만료 시간 (다른 서버에서 변경된 값이 남아있을 수 있는 최대 시간)
+	 */
+	public record Region(@DefaultValue("10000") long maximumSize,
+						 @DefaultValue("30m") Duration expireAfterWrite) {
+		
+		public static final Region DEFAULT = new Region(10_000, Duration.ofMinutes(30));
+		
+		public Region {
+			if (maximumSize <= 0) {
+				throw new IllegalArgumentException("second-level-cache maximum-size must be positive");
+			}
+			if (expireAfterWrite == null || expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+				throw new IllegalArgumentException("second-level-cache expire-after-write must be positive");
+			}
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package project.shop.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * QueryDSL 설정
+ * JPAQueryFactory는 thread-safe, 주입되는 EntityManager는 트랜잭션마다 실제 EntityManager로 위임하는 프록시
+ */
+@Configuration
+public class QuerydslConfig {
+
+	@PersistenceContext
+	private EntityManager em;
+	
+	@Bean
+	public JPAQueryFactory jpaQueryFactory() {
+		return new JPAQueryFactory(em);
+	}
+}
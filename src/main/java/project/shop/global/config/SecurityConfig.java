@@ -1,32 +1,54 @@
 package project.shop.global.config;
 
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.unit.DataSize;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import project.shop.domain.member.enums.Role;
 import project.shop.domain.member.repository.MemberRepository;
 import project.shop.global.jwt.filter.JwtAuthenticationProcessingFilter;
+import project.shop.global.jwt.handler.JwtLogoutHandler;
 import project.shop.global.jwt.service.JwtService;
+import project.shop.global.jwt.service.RefreshTokenReIssueCoordinator;
+import project.shop.global.login.cache.MemberPrincipalCache;
 import project.shop.global.login.filter.CustomJsonUsernamePasswordAuthenticationFilter;
 import project.shop.global.login.handler.LoginFailureHandler;
 import project.shop.global.login.handler.LoginSuccessHandler;
+import project.shop.global.login.provider.LoginAuthenticationProvider;
 import project.shop.global.login.service.LoginService;
+import project.shop.global.login.throttle.ClientIpResolver;
+import project.shop.global.login.throttle.LoginThrottle;
+import project.shop.global.login.throttle.TrustedProxyClientIpResolver;
 import project.shop.global.oauth2.handler.OAuth2LoginFailureHandler;
 import project.shop.global.oauth2.handler.OAuth2LoginSuccessHandler;
 import project.shop.global.oauth2.service.CustomOAuth2UserService;
+import project.shop.global.security.BoundedPasswordEncoder;
+import project.shop.global.security.PasswordEncoders;
+import project.shop.global.security.RouteClassifier;
+import project.shop.global.security.SecurityRoutes;
 
 /**
  * 인증은 CustomJsonUsernamePasswordAuthenticationFilter에서 authenticate()로 인증된 사용자로 처리
@@ -44,8 +66,53 @@ public class SecurityConfig {
 	private final OAuth2LoginSuccessHandler oauth2LoginSuccessHandler;
 	private final OAuth2LoginFailureHandler oauth2LoginFailureHandler;
 	private final CustomOAuth2UserService customOAuth2UserService;
+	private final MemberPrincipalCache memberPrincipalCache;
+	private final RefreshTokenReIssueCoordinator refreshTokenReIssueCoordinator;
+	private final MeterRegistry meterRegistry;
+	private final LoginThrottle loginThrottle;
+	
+	@Value("${jwt.access.claims-authentication:true}")
+	private boolean claimsAuthenticationEnabled; // AccessToken 클레임만으로 인증 처리 (DB 조회 x)
+	
+	@Value("${jwt.access.member-lookup-urls:}")
+	private String[] memberLookupUrls; // 클레임이 있어도 DB에서 회원을 조회할 URI 패턴 (콤마로 구분, 관리자 URI는 항상 조회)
+	
+	@Value("${password.bcrypt.strength:10}")
+	private int bcryptStrength; // bcrypt cost, 다른 cost의 해시는 로그인 성공 시 재암호화
+	
+	@Value("${password.hashing.pool-size:0}")
+	private int passwordHashingPoolSize; // 비밀번호 해시 스레드 수 (0 : CPU 코어 수)
+	
+	@Value("${password.hashing.queue-capacity:64}")
+	private int passwordHashingQueueCapacity; // 비밀번호 해시 대기열 크기
+	
+	@Value("${password.hashing.max-wait:2s}")
+	private Duration passwordHashingMaxWait; // 대기열에서 기다릴 수 있는 최대 시간
+	
+	@Value("${password.hashing.retry-after:1s}")
+	private Duration passwordHashingRetryAfter; // 거절 시 Retry-After
+	
+	@Value("${login.max-body-size:4KB}")
+	private DataSize loginMaxBodySize; // JSON 로그인 요청 본문 최대 크기
+	
+	@Value("${login.trusted-proxies:}")
+	private String[] loginTrustedProxies; // X-Forwarded-For를 신뢰할 프록시 주소 (IP, CIDR, 콤마로 구분) -> 로그인, 중복확인 IP별 제한
+	
+	/**
+	 * 정적 리소스 전용 SecurityFilterChain (보안 필터 없음)
+	 * filterChain 보다 먼저 매칭되어 CSS, JS, 이미지 요청은 어떤 보안 필터도 거치지 않음
+	 */
+	@Bean
+	@Order(0)
+	public SecurityFilterChain staticResourceFilterChain() {
+		return new DefaultSecurityFilterChain(new OrRequestMatcher(SecurityRoutes.STATIC_RESOURCES.stream()
+				.map(AntPathRequestMatcher::new)
+				.map(RequestMatcher.class::cast)
+				.toList()));
+	}
 	
 	@Bean
+	@Order(1)
 	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 		http
 			.formLogin(formLogin -> formLogin.disable()) // FormLogin 사용 x
@@ -55,9 +122,8 @@ public class SecurityConfig {
 					.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 사용 x
 			.authorizeHttpRequests(auth -> auth // URL 별 관리 옵션
 //					.requestMatchers(new AntPathRequestMatcher("/**")).permitAll()
-					.requestMatchers("/", "/main", "/index.html", "/member/oauth2/signUp", "/member/signUp", "/member/loginHub",
-									 "/css/**", "/images/**", "/js/**", "/favicon.ico", "/member/guestSearchOrder",
-									 "/member/login").permitAll()
+					.requestMatchers(SecurityRoutes.publicUrls()).permitAll() // 정적 리소스는 staticResourceFilterChain 에서 처리
+					.requestMatchers(SecurityRoutes.adminUrls()).hasRole(Role.ADMIN.name()) // 관리자 API
 					.anyRequest().authenticated()) // 위의 경로 이외에는 모두 인증된 사용자만 접근 가능
 			
 			//== 소셜 로그인 설정 ==//
@@ -67,6 +133,14 @@ public class SecurityConfig {
 					.userInfoEndpoint(user -> user.userService(customOAuth2UserService)) // customUserService 설정
 			)
 			
+			//== 로그아웃 설정 ==//
+			// AccessToken 폐기 + RefreshToken 삭제 후 200 응답 (리다이렉트 x)
+			.logout(logout -> logout
+					.logoutUrl("/member/logout")
+					.addLogoutHandler(jwtLogoutHandler())
+					.logoutSuccessHandler(new HttpStatusReturningLogoutSuccessHandler())
+			)
+			
 //			.formLogin(login -> login
 //					.loginPage("/member/login")
 //					.usernameParameter("email"))
@@ -86,10 +160,21 @@ public class SecurityConfig {
 	
 
 	
-	// 비밀번호 암호화
+	/**
+	 * 비밀번호 암호화
+	 * "{bcrypt}해시" 형식, cost는 password.bcrypt.strength (PasswordHashCostCalibrator로 측정한 값)
+	 * 해시 계산(encode, matches)은 요청 스레드가 아닌 크기가 제한된 전용 스레드 풀에서 실행 (BoundedPasswordEncoder)
+	 * 풀이 가득 차면 바로 거절 -> 503 + Retry-After
+	 */
 	@Bean
 	public PasswordEncoder passwordEncoder() {
-		return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+		return new BoundedPasswordEncoder(
+				PasswordEncoders.createDelegatingPasswordEncoder(bcryptStrength),
+				meterRegistry,
+				passwordHashingPoolSize,
+				passwordHashingQueueCapacity,
+				passwordHashingMaxWait,
+				passwordHashingRetryAfter);
 	}
 	
 	
@@ -97,15 +182,17 @@ public class SecurityConfig {
 	 * AuthenticationManager 설정 후 등록
 	 * PasswordEncoder를 사용하는 AuthenticationProvider 지정 (PasswordEncoder는 위에서 등록한 PasswordEncoder 사용)
 	 * FormLogin(기존 스프링 시큐리티 로그인)과 동일하게 DaoAuthenticationProvider 사용
+	 * (해시 재암호화가 거절되어도 로그인은 성공하도록 LoginAuthenticationProvider 로 확장)
 	 * UserDetailsService는 커스텀 LoginService로 등록
 	 * 또한, FormLogin과 동일하게 AuthenticationManager로는 구현체인 ProviderManager 사용(return ProviderManager)
 	 *
 	 */
 	@Bean
 	public AuthenticationManager authenticationManager() {
-		DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+		LoginAuthenticationProvider provider = new LoginAuthenticationProvider();
 		provider.setPasswordEncoder(passwordEncoder());
 		provider.setUserDetailsService(loginService);
+		provider.setUserDetailsPasswordService(loginService); // 로그인 성공 시 오래된 비밀번호 해시 재암호화
 		
 		return new ProviderManager(provider);
 	}
@@ -130,6 +217,16 @@ public class SecurityConfig {
 	
 	
 	
+	/**
+	 * 로그아웃 시 호출되는 JwtLogoutHandler 빈 등록
+	 */
+	@Bean
+	public JwtLogoutHandler jwtLogoutHandler() {
+		return new JwtLogoutHandler(jwtService);
+	}
+	
+	
+	
 	/**
      * CustomJsonUsernamePasswordAuthenticationFilter 빈 등록
      * 커스텀 필터를 사용하기 위해 만든 커스텀 필터를 Bean으로 등록
@@ -139,21 +236,62 @@ public class SecurityConfig {
 	@Bean
 	public CustomJsonUsernamePasswordAuthenticationFilter customJsonUsernamePasswordLoginFilter() {
 		CustomJsonUsernamePasswordAuthenticationFilter customJsonUsernamePasswordLoginFilter
-			= new CustomJsonUsernamePasswordAuthenticationFilter(objectMapper);
+			= new CustomJsonUsernamePasswordAuthenticationFilter(objectMapper, loginThrottle);
 		
 		customJsonUsernamePasswordLoginFilter.setAuthenticationManager(authenticationManager());
 		customJsonUsernamePasswordLoginFilter.setAuthenticationSuccessHandler(loginSuccessHandler());
 		customJsonUsernamePasswordLoginFilter.setAuthenticationFailureHandler(loginFailureHandler());
+		customJsonUsernamePasswordLoginFilter.setMaxBodySize(loginMaxBodySize.toBytes());
+		customJsonUsernamePasswordLoginFilter.setClientIpResolver(clientIpResolver());
 		
 		return customJsonUsernamePasswordLoginFilter;
 	}
 	
 	
 	
+	/**
+	 * LoginThrottle의 IP별 제한에 사용할 클라이언트 IP (로그인 필터, 이메일/닉네임 중복확인)
+	 */
+	@Bean
+	public ClientIpResolver clientIpResolver() {
+		return new TrustedProxyClientIpResolver(List.of(loginTrustedProxies));
+	}
+	
+	
+	
 	@Bean
 	public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter() {
-		JwtAuthenticationProcessingFilter jwtAuthenticationFilter = new JwtAuthenticationProcessingFilter(jwtService, memberRepository);
+		JwtAuthenticationProcessingFilter jwtAuthenticationFilter = new JwtAuthenticationProcessingFilter(jwtService, memberRepository, memberPrincipalCache, refreshTokenReIssueCoordinator);
+		jwtAuthenticationFilter.setClaimsAuthenticationEnabled(claimsAuthenticationEnabled);
+		jwtAuthenticationFilter.setMemberLookupUrls(memberLookupUrls);
+		jwtAuthenticationFilter.setRouteClassifier(RouteClassifier.fromSecurityRoutes());
 		
 		return jwtAuthenticationFilter;
 	}
+	
+	
+	
+	/**
+	 * 커스텀 필터는 @Bean 으로 등록되어 있어서 스프링 부트가 서블릿 필터로도 자동 등록함
+	 * -> SecurityFilterChain 밖에서 모든 요청(정적 리소스 포함)에 한 번 더 실행되므로 자동 등록 해제
+	 */
+	@Bean
+	public FilterRegistrationBean<JwtAuthenticationProcessingFilter> jwtAuthenticationProcessingFilterRegistration(
+			JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter) {
+		
+		FilterRegistrationBean<JwtAuthenticationProcessingFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationProcessingFilter);
+		registration.setEnabled(false);
+		
+		return registration;
+	}
+	
+	@Bean
+	public FilterRegistrationBean<CustomJsonUsernamePasswordAuthenticationFilter> customJsonUsernamePasswordLoginFilterRegistration(
+			CustomJsonUsernamePasswordAuthenticationFilter customJsonUsernamePasswordLoginFilter) {
+		
+		FilterRegistrationBean<CustomJsonUsernamePasswordAuthenticationFilter> registration = new FilterRegistrationBean<>(customJsonUsernamePasswordLoginFilter);
+		registration.setEnabled(false);
+		
+		return registration;
+	}
 }
\ No newline at end of file
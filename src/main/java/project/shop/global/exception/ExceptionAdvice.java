@@ -2,6 +2,7 @@ package project.shop.global.exception;
 
 import java.net.BindException;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +15,8 @@ import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import project.shop.domain.member.exception.MemberException;
 import project.shop.domain.member.exception.MemberExceptionType;
+import project.shop.global.login.throttle.LoginThrottledException;
+import project.shop.global.security.PasswordHashingRejectedException;
 
 /**
  * Filter에서 발생하는 예외는 ControllerAdvice까지 넘어오지 않음
@@ -33,6 +36,26 @@ public class ExceptionAdvice {
 																 exception.getExceptionType().getHttpStatus());
 	}
 	
+	// 비밀번호 해시 풀이 가득 차서 거절 -> 503 + Retry-After
+	@ExceptionHandler(PasswordHashingRejectedException.class)
+	public ResponseEntity<ExceptionDto> handlerPasswordHashingRejectedEx(PasswordHashingRejectedException exception) {
+		log.warn("PasswordHashingRejectedException 발생! {}", exception.getMessage());
+		
+		return ResponseEntity.status(exception.getExceptionType().getHttpStatus())
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+				.body(new ExceptionDto(exception.getExceptionType().getErrorCode(), exception.getMessage()));
+	}
+	
+	// 중복확인 요청 한도 초과 -> 429 + Retry-After
+	@ExceptionHandler(LoginThrottledException.class)
+	public ResponseEntity<ExceptionDto> handlerLoginThrottledEx(LoginThrottledException exception) {
+		log.info("LoginThrottledException 발생! {}", exception.getMessage());
+		
+		return ResponseEntity.status(exception.getExceptionType().getHttpStatus())
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+				.body(new ExceptionDto(exception.getExceptionType().getErrorCode(), exception.getMessage()));
+	}
+	
 	// @Valid 에서 예외 발생
 	@ExceptionHandler(BindException.class)
 	public ResponseEntity<ExceptionDto> handlerValidEx(BindException exception) {
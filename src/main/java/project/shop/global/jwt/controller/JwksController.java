@@ -0,0 +1,33 @@
+package project.shop.global.jwt.controller;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import project.shop.global.jwt.key.JwtKeyRing;
+
+/**
+ * JWKS 엔드포인트
+ * 다른 서버(서비스)가 secret 없이 공개 키로 토큰을 검증할 수 있도록 비대칭 검증 키를 공개
+ * HS512 키는 공개하지 않음
+ * 
+ * 키는 설정이 바뀌어야만 변경되므로 응답 캐시 허용 (키 교체 시 새 키를 먼저 추가하고 배포)
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+	private final JwtKeyRing jwtKeyRing;
+	
+	@GetMapping("/.well-known/jwks.json")
+	public ResponseEntity<Map<String, Object>> jwks() {
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic())
+				.body(jwtKeyRing.jwks());
+	}
+}
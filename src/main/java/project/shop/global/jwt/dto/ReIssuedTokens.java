@@ -0,0 +1,7 @@
+package project.shop.global.jwt.dto;
+
+/**
+ * RefreshToken으로 재발급된 AccessToken, RefreshToken
+ */
+public record ReIssuedTokens(String accessToken, String refreshToken) {
+}
@@ -0,0 +1,90 @@
+package project.shop.global.jwt.dto;
+
+import java.time.Instant;
+
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import project.shop.domain.member.enums.Role;
+
+/**
+ * 서명/만료 검증을 마친 토큰
+ * 토큰 파싱과 검증은 JwtService.verifyXXXToken() 에서 한 번만 수행하고
+ * 이후에는 이 객체에서 필요한 값을 꺼내서 사용
+ * 
+ * @param subject	: AccessToken / RefreshToken
+ * @param email		: email 클레임 (RefreshToken은 null)
+ * @param memberId	: 회원 PK 클레임 (클레임이 없는 이전 형식의 토큰은 null, RefreshToken에도 포함)
+ * @param role		: 권한 클레임 (클레임이 없는 이전 형식의 토큰은 null)
+ * @param expiresAt	: 만료 시각
+ * @param jwt		: 검증된 토큰 원본, 추가 클레임이 필요할 때 claim() 으로 조회
+ */
+public record VerifiedToken(String subject, String email, Long memberId, Role role, Instant expiresAt, DecodedJWT jwt) {
+
+	public static final String EMAIL_CLAIM = "email";
+	public static final String MEMBER_ID_CLAIM = "id";
+	public static final String ROLE_CLAIM = "role";
+	public static final String FAMILY_ID_CLAIM = "fid"; // RefreshToken의 토큰 패밀리
+	
+	
+	
+	public static VerifiedToken of(DecodedJWT jwt) {
+		return new VerifiedToken(
+				jwt.getSubject(),
+				jwt.getClaim(EMAIL_CLAIM).asString(),
+				jwt.getClaim(MEMBER_ID_CLAIM).asLong(),
+				toRole(jwt.getClaim(ROLE_CLAIM).asString()),
+				jwt.getExpiresAtAsInstant(),
+				jwt);
+	}
+	
+	/**
+	 * 회원 PK, 권한 클레임이 모두 있어야 DB 조회 없이 인증 객체를 만들 수 있음
+	 */
+	public boolean hasMemberClaims() {
+		return email != null && memberId != null && role != null;
+	}
+	
+	/**
+	 * RefreshToken의 토큰 패밀리 (AccessToken은 null)
+	 */
+	public String familyId() {
+		return jwt.getClaim(FAMILY_ID_CLAIM).asString();
+	}
+	
+	/**
+	 * 토큰 식별자 jti (jti가 없는 이전 형식의 AccessToken은 null)
+	 */
+	public String tokenId() {
+		return jwt.getId();
+	}
+	
+	/**
+	 * 발급 시각 (iat가 없는 이전 형식의 AccessToken은 null)
+	 */
+	public Instant issuedAt() {
+		return jwt.getIssuedAtAsInstant();
+	}
+	
+	public Claim claim(String name) {
+		return jwt.getClaim(name);
+	}
+	
+	public String token() {
+		return jwt.getToken();
+	}
+	
+	
+	
+	private static Role toRole(String role) {
+		if (role == null) {
+			return null;
+		}
+		
+		try {
+			return Role.valueOf(role);
+		} catch (IllegalArgumentException e) { // 알 수 없는 권한이면 클레임이 없는 토큰처럼 처리 -> DB 조회
+			return null;
+		}
+	}
+}
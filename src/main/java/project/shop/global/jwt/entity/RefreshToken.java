@@ -0,0 +1,66 @@
+package project.shop.global.jwt.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리프레시 토큰 저장소
+ * 
+ * 토큰 원문은 저장하지 않고 SHA-256 해시(64자 고정 길이)만 저장 -> token_hash 유니크 인덱스로 조회
+ * 회원 1명이 여러 기기에서 로그인할 수 있도록 세션(로그인)마다 한 행씩 저장
+ * 
+ * familyId : 로그인 시 발급된 토큰과 그 토큰으로 재발급(RTR)된 토큰들을 묶는 식별자
+ * deviceLabel : 로그인한 기기 정보 (User-Agent)
+ */
+@Entity
+@Table(name = "REFRESH_TOKEN", indexes = {
+		@Index(name = "uk_refresh_token_hash", columnList = "token_hash", unique = true),
+		@Index(name = "idx_refresh_token_member", columnList = "member_id"),
+		@Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "refresh_token_id")
+	private Long id; // PK
+	
+	@Column(name = "token_hash", nullable = false, length = 64)
+	private String tokenHash; // 리프레시 토큰 SHA-256 해시 (hex)
+	
+	@Column(name = "member_id", nullable = false)
+	private Long memberId; // 회원 PK
+	
+	@Column(name = "family_id", nullable = false, length = 36)
+	private String familyId; // 토큰 패밀리 (UUID)
+	
+	@Column(name = "issued_at", nullable = false)
+	private LocalDateTime issuedAt; // 발급 시각
+	
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt; // 만료 시각
+	
+	@Column(name = "device_label", length = 100)
+	private String deviceLabel; // 로그인 기기
+	
+	
+	
+	public boolean isExpired(LocalDateTime now) {
+		return !expiresAt.isAfter(now);
+	}
+}
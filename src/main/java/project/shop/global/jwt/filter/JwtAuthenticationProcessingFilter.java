@@ -1,15 +1,16 @@
 package project.shop.global.jwt.filter;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
-import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import jakarta.servlet.FilterChain;
@@ -18,14 +19,24 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.enums.Role;
 import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.jwt.dto.ReIssuedTokens;
+import project.shop.global.jwt.dto.VerifiedToken;
 import project.shop.global.jwt.service.JwtService;
-import project.shop.global.util.PasswordUtil;
+import project.shop.global.jwt.service.RefreshTokenReIssueCoordinator;
+import project.shop.global.login.cache.MemberPrincipalCache;
+import project.shop.global.login.cache.MemberPrincipalSnapshot;
+import project.shop.global.login.principal.MemberAuthenticationToken;
+import project.shop.global.login.principal.MemberPrincipal;
+import project.shop.global.security.RequestRoute;
+import project.shop.global.security.RouteClassifier;
+import project.shop.global.security.SecurityRoutes;
 
 /**
  * Jwt 인증 필터
- * "/login" 이외의 URI 요청이 왔을 때 처리하는 필터
+ * 인증이 필요한 URI(RequestRoute.PROTECTED) 요청이 왔을 때 처리하는 필터
+ * 정적 리소스, permitAll URI는 RouteClassifier로 분류하여 토큰 검증 없이 통과 (shouldNotFilter)
  * 
  * 기본적으로 사용자는 요청 헤더에 AccessToken만 담아서 요청
  * AccessToken 만료시에만 RefreshToken을 요청
@@ -35,6 +46,13 @@ import project.shop.global.util.PasswordUtil;
  * 2. RefreshToken이 없고, AccessToken이 없거나 유효하지 않은 경우 -> 인증 실패 처리, 403 Error
  * 3. RefreshToken이 있는 경우 -> DB의 RefreshToken과 비교하여 일치하면 AccessToken 재발급, RefrechToken 재발급 (RTR방식)
  * 							   인증 성공 처리는 하지않고 실패 처리
+ * 
+ * AccessToken에 회원 PK, 권한 클레임이 있으면 DB 조회 없이 클레임만으로 인증 처리 (claimsAuthenticationEnabled)
+ * 권한 변경, 탈퇴가 바로 반영되어야 하는 URI는 memberLookupUrls로 지정하여 항상 DB에서 회원을 조회
+ * 관리자 URI(SecurityRoutes.ADMIN_URLS)는 설정과 상관없이 항상 DB에서 조회 -> 권한을 잃은 관리자의 토큰으로 접근 x
+ * 클레임이 없는 토큰 등 회원 조회가 필요한 나머지 경우는 MemberPrincipalCache를 거쳐 조회
+ * 
+ * 같은 RefreshToken으로 동시에 들어온 재발급 요청은 한 번만 교체하고 같은 토큰을 응답 (RefreshTokenReIssueCoordinator)
  */
 @RequiredArgsConstructor
 @Slf4j
@@ -42,40 +60,37 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 	
 	private final JwtService jwtService;
 	private final MemberRepository memberRepository;
+	private final MemberPrincipalCache memberPrincipalCache;
+	private final RefreshTokenReIssueCoordinator reIssueCoordinator;
 	
-	private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
-	
-	private static final String NO_CHECK_URL = "/login"; // 경로로 들어오는 요청에 대해서는 작동x
+	private boolean claimsAuthenticationEnabled = true; // false 이면 모든 요청에서 DB 조회
+	private RequestMatcher memberLookupRequestMatcher = memberLookupRequestMatcher(List.of()); // 클레임이 있어도 DB 조회가 필요한 URI
+	private RouteClassifier routeClassifier = new RouteClassifier(List.of(), List.of()); // 기본값 : 모든 URI 검증
 
 	
 	
+	/**
+	 * 정적 리소스, permitAll URI는 필터를 거치지 않음 (토큰 추출, 검증 x)
+	 * RouteClassifier는 시작 시 컴파일한 패턴과 문자열 비교만 하므로 요청마다 객체를 만들지 않음
+	 */
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return routeClassifier.classify(request) != RequestRoute.PROTECTED;
+	}
+	
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
 		
-		/**
-		 * "/login" 요청이 들어오면 filterChain.doFilter() 를 호출하여 다음 필터로 제어를 넘김
-		 * 순서에 맞게 다음 필터(또는 서블릿)를 호출하여 넘어감
-		 * 
-		 * return; 을 통해 다음 필터를 호출한 다음, 현재 필터의 진행을 막음
-		 * return; 을 하지 않으면 다음 필터를 호출한 후, 다음 필터로 바로 넘어가지 않고
-		 * 아래 로직들을 다 수행한 후에 넘어가기 때문에 return으로 바로 튕기도록 해야함
-		 */
-		if (request.getRequestURL().equals(NO_CHECK_URL)) {
-			filterChain.doFilter(request, response);
-			
-			return; // return으로 현재필터 진행 막기 (안해주면 아래로 내려가서 계속 필터를 진행함)
-		}
-		
 		/**
 		 * 사용자 요청 헤더에서 RefreshToken 추출
 		 * -> RefreshToken이 없거나 유효하지 않다면 (DB에 저장된 RefreshToken과 다르다면) null 반환
 		 * 사용자의 요청 헤더에 RefreshToken이 있는 경우, AccessToken이 만료되어 요청한 경우밖에 없음
 		 * 따라서 위의 경우를 제외하면 추출한 RefreshToken은 모두 null
 		 */
-		String refreshToken = jwtService
+		VerifiedToken refreshToken = jwtService
 				.extractRefreshToken(request)
-				.filter(jwtService::isTokenValid) // 유효성 검사
+				.flatMap(jwtService::verifyRefreshToken) // 유효성 검사
 				.orElse(null); // RefreshToken이 없거나 유효하지 않다면 null 발생
 		
 		/**
@@ -104,33 +119,41 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 	}
 	
 	/**
-	 * [RefreshToken으로 유저정보 찾기 & AccessToken/RefreshToken 재발급 메서드]
-	 * 
-	 * @param refreshToken 으로 DB에서 유저를 찾고, 해당 유저가 있다면
-	 * JwtService.createAccessToken() 으로 AccessToken 생성
+	 * [RefreshToken 교체 & AccessToken/RefreshToken 재발급 메서드]
 	 * 
-	 * reIssueRefreshToken() 으로 RefreshToken 재발급 & DB에 RefreshToken 업데이트 메서드 호출
+	 * 같은 RefreshToken으로 동시에 들어온 요청은 RefreshTokenReIssueCoordinator 로 하나로 합침
+	 * 처음 들어온 요청만 reIssueTokens() 를 수행하고, 나머지 요청은 같은 결과(AccessToken/RefreshToken)를 응답
 	 * 
 	 * JwtService.sendAccessTokenAndRefreshToken() 으로 응답 헤더에 보냄
 	 */
-	private void checkRefreshTokenAndReIssueAccessToken(HttpServletResponse response, String refreshToken) {
-		memberRepository.findByRefreshToken(refreshToken)
-				.ifPresent(member -> {
-					String reIssuedRefreshToken = reIssueRefreshToken(member);
-					jwtService.sendAccessAndRefreshToken(
-							response,
-							jwtService.createAccessToken(member.getEmail()),
-							reIssuedRefreshToken
-					);
-				});
+	private void checkRefreshTokenAndReIssueAccessToken(HttpServletResponse response, VerifiedToken refreshToken) {
+		reIssueCoordinator.reIssue(refreshToken, this::reIssueTokens)
+				.ifPresent(reIssuedTokens -> jwtService.sendAccessAndRefreshToken(
+						response, reIssuedTokens.accessToken(), reIssuedTokens.refreshToken()));
+	}
+	
+	/**
+	 * jwtService.rotateRefreshToken() 으로 DB의 RefreshToken을 재발급한 RefreshToken으로 교체
+	 * (@param refreshToken 의 회원 PK + 토큰 해시가 일치하는 행만 UPDATE, 조회 x)
+	 * 교체에 성공했다면 토큰의 회원 PK로 회원을 찾아 JwtService.createAccessToken() 으로 AccessToken 생성
+	 * 
+	 * 교체된 행이 없다면 재사용된 RefreshToken이므로 재발급하지 않음 (토큰 패밀리 폐기)
+	 */
+	private Optional<ReIssuedTokens> reIssueTokens(VerifiedToken refreshToken) {
+		return jwtService.rotateRefreshToken(refreshToken)
+				.flatMap(reIssuedRefreshToken -> memberRepository.findById(refreshToken.memberId())
+						.map(member -> new ReIssuedTokens(
+								jwtService.createAccessToken(member.getId(), member.getEmail(), member.getRole()),
+								reIssuedRefreshToken
+						)));
 	}
 	
 	/**
 	 * [AccessToken 체크 & 인증 처리 메서드]
 	 * 
 	 * @param request에서 extractAccessToken() 으로 AccessToken 추출
-	 * isTokenValid() 로 유효한 토큰인지 검증
-	 * 유효한 토큰인 경우 AccessToken에서 extractEmail로 Email을 추출
+	 * verifyAccessToken() 으로 유효한 토큰인지 검증 (토큰 파싱, 서명 검증은 1회만 수행)
+	 * 유효한 토큰인 경우 검증 결과(VerifiedToken)에서 Email을 꺼냄
 	 * findByEmail() 로 해당 이메일을 사용하는 유저 객체 반환
 	 * 
 	 * 유저 객체를 saveAuthentication() 으로 인증 처리하여
@@ -143,68 +166,99 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 		log.info("checkAccessTokenAndAuthentication() 호출");
 		
 		jwtService.extractAccessToken(request)
-				.filter(jwtService::isTokenValid)
-				.ifPresent(accessToken -> jwtService.extractEmail(accessToken)
-						.ifPresent(email -> memberRepository.findByEmail(email)
-								.ifPresent(this::saveAuthentication))); // 인증정보 저장
+				.flatMap(jwtService::verifyAccessToken)
+				.ifPresent(accessToken -> authenticate(request, accessToken)); // 인증정보 저장
 				
 		filterChain.doFilter(request, response);
 	}
 	
 	/**
-	 * [인증 허가 메서드]
-	 * 
-	 * @param member : 직접 만든 회원의 객체
-	 * builder의 user : UserDetails의 User 객체
-	 * 
-	 * new UsernamePasswordAuthenticationToken() 으로 인증 객체인 Authentication 객체 생성
+	 * [검증된 AccessToken으로 인증 처리]
 	 * 
-	 * UsernamePasswordAuthenticationToken의 파라미터
-	 * 1. 위에서 만든 UserDetailsUser 객체 (유저 정보)
-	 * 2. credential (보통 비밀번호로, 인증시에는 null로 제거)
-	 * 3. Collection < ? extends GrantedAuthority>로,
-	 * UserDetails의 User 객체 안에 Set<GrantedAuthority> authorities가 있어서 Getter로 호출
-	 * new NullAuthoritiesMapper() 로 GrantedAuthoritiesMapper 객체를 생성하고 mapAuthorities() 에 담음
+	 * 클레임(회원 PK, 권한)이 모두 있고, DB 조회가 필요한 URI가 아니라면 클레임만으로 인증 처리
+	 * memberLookupUrls에 해당하는 URI는 캐시를 거치지 않고 항상 DB에서 회원을 조회
+	 * 그 외(클레임이 없는 이전 형식의 토큰, claimsAuthenticationEnabled = false)에는 MemberPrincipalCache로 회원 조회
 	 * 
-	 * SecurityContextHolder.createEmptyContext() 로 빈 SecurityContext 객체를 생성
-	 * setAuthentication() 을 이용하여 위에서 만든 Authentication 객체에 대한 인증허가 처리
-	 * 
-	 * 소셜로그인의 경우 password = null 
-	 * 인증 처리시 password가 null이면 안되므로 랜덤 패스워드를 임의로 부여해줌
+	 * 클레임의 권한은 토큰 발급 시점 기준이므로, 권한 변경은 AccessToken 재발급 시점에 반영됨
 	 */
-	private void saveAuthentication(Member member) {
-		String password = member.getPassword();
+	private void authenticate(HttpServletRequest request, VerifiedToken accessToken) {
+		boolean memberLookupRequired = memberLookupRequestMatcher.matches(request);
 		
-		if (password == null) { // 소셜로그인 유저의 비밀번호를 임의로 설정하여 소셜로그인 유저도 인증되도록 설정
-			password = PasswordUtil.generateRandomPassword();
+		if (claimsAuthenticationEnabled && accessToken.hasMemberClaims() && !memberLookupRequired) {
+			saveAuthentication(accessToken.email(), accessToken.role());
+			
+			return;
 		}
 		
-		UserDetails user = User.builder()
-				.username(member.getEmail())
-				.password(member.getPassword())
-				.roles(member.getRole().name())
-				.build();
+		if (accessToken.email() == null) {
+			return;
+		}
 		
-		Authentication authentication = new UsernamePasswordAuthenticationToken(
-				user, null, authoritiesMapper.mapAuthorities(user.getAuthorities()));
+		if (memberLookupRequired) {
+			memberRepository.findByEmail(accessToken.email())
+					.map(MemberPrincipalSnapshot::from)
+					.ifPresent(this::saveAuthentication);
+			
+			return;
+		}
 		
-		SecurityContext context = SecurityContextHolder.createEmptyContext();
-		context.setAuthentication(authentication);
-		SecurityContextHolder.setContext(context);
+		memberPrincipalCache.get(accessToken.email())
+				.ifPresent(this::saveAuthentication);
+	}
+	
+	private void saveAuthentication(MemberPrincipalSnapshot principal) {
+		saveAuthentication(principal.email(), principal.role());
 	}
 	
 	/**
-	 * [RefreshToken 재발급 & DB에 RefreshToken 업데이트 메서드]
+	 * [인증 허가 메서드]
+	 * 
+	 * @param email, role : 회원 정보 (AccessToken 클레임 또는 MemberPrincipalSnapshot)
+	 * 
+	 * 불변 인증 객체 MemberAuthenticationToken(MemberPrincipal) 을 만들어 SecurityContextHolder에 담음
+	 * - 권한 목록은 Role별로 미리 만들어 둔 목록을 공유 (요청마다 User, 권한 Set 생성 x)
+	 * - 토큰으로 인증이 끝났으므로 비밀번호는 담지 않음 (랜덤 비밀번호 생성 x)
 	 * 
-	 * jwtService.createRefreshToken() 으로 RefreshToken 재발급
-	 * DB에 재발급한 RefreshToken 업데이트 후 Flush
+	 * 요청 1번에 MemberPrincipal, MemberAuthenticationToken, SecurityContext 객체 3개만 생성
 	 */
-	private String reIssueRefreshToken(Member member) {
-		String reIssuedRefreshToken = jwtService.createRefreshToken();
-		member.updateRefreshToken(reIssuedRefreshToken);
-		memberRepository.saveAndFlush(member);
+	private void saveAuthentication(String email, Role role) {
+		MemberAuthenticationToken authentication = MemberAuthenticationToken.authenticated(new MemberPrincipal(email, role));
 		
-		return reIssuedRefreshToken;
+		SecurityContextHolder.setContext(new SecurityContextImpl(authentication));
+	}
+	
+	
+	
+	/**
+	 * 토큰 검증을 하지 않을 URI 분류 (SecurityRoutes의 정적 리소스, permitAll URI)
+	 */
+	public void setRouteClassifier(RouteClassifier routeClassifier) {
+		this.routeClassifier = routeClassifier;
+	}
+	
+	/**
+	 * false 로 설정하면 AccessToken의 클레임과 상관없이 매 요청마다 회원을 조회 (MemberPrincipalCache)
+	 */
+	public void setClaimsAuthenticationEnabled(boolean claimsAuthenticationEnabled) {
+		this.claimsAuthenticationEnabled = claimsAuthenticationEnabled;
+	}
+	
+	/**
+	 * 클레임이 있어도 항상 DB에서 회원을 조회할 URI 패턴 (ex. 회원탈퇴, 비밀번호 변경 등 민감한 경로)
+	 * 관리자 URI(SecurityRoutes.ADMIN_URLS)는 항상 포함
+	 */
+	public void setMemberLookupUrls(String... memberLookupUrls) {
+		this.memberLookupRequestMatcher = memberLookupRequestMatcher(
+				memberLookupUrls == null ? List.of() : Arrays.asList(memberLookupUrls));
+	}
+	
+	
+	
+	private static RequestMatcher memberLookupRequestMatcher(List<String> memberLookupUrls) {
+		return new OrRequestMatcher(Stream.concat(SecurityRoutes.ADMIN_URLS.stream(), memberLookupUrls.stream())
+				.map(AntPathRequestMatcher::new)
+				.map(RequestMatcher.class::cast)
+				.toList());
 	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package project.shop.global.jwt.handler;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import project.shop.global.jwt.service.JwtService;
+
+/**
+ * JWT 로그아웃 핸들러
+ * LogoutFilter는 JwtAuthenticationProcessingFilter 보다 앞에 있으므로 인증 객체(Authentication)는 없음
+ * 요청 헤더의 토큰을 직접 검증하여 처리
+ * 
+ * 1. AccessToken -> 만료 전까지 인증되지 않도록 폐기 (AccessTokenRevocationList)
+ * 2. RefreshToken -> 같은 로그인 세션(토큰 패밀리)의 RefreshToken 삭제
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class JwtLogoutHandler implements LogoutHandler {
+
+	private final JwtService jwtService;
+	
+	@Override
+	public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+		jwtService.extractAccessToken(request)
+				.flatMap(jwtService::verifyAccessToken)
+				.ifPresent(jwtService::revokeAccessToken);
+		
+		jwtService.extractRefreshToken(request)
+				.flatMap(jwtService::verifyRefreshToken)
+				.ifPresent(jwtService::destroyRefreshTokenFamily);
+		
+		log.info("로그아웃 처리 완료");
+	}
+}
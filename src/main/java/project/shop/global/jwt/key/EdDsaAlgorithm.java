@@ -0,0 +1,100 @@
+package project.shop.global.jwt.key;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.Base64;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureGenerationException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+/**
+ * Ed25519 서명 알고리즘 ("alg": "EdDSA", RFC 8037)
+ * java-jwt 4.4.0 은 EdDSA를 지원하지 않으므로 JDK의 Ed25519 Signature로 직접 구현
+ * 
+ * 서명 대상은 다른 알고리즘과 동일하게 "Base64Url(header).Base64Url(payload)"
+ * Signature 객체는 thread-safe 하지 않으므로 서명/검증마다 새로 생성
+ */
+class EdDsaAlgorithm extends Algorithm {
+
+	private static final String JCA_NAME = "Ed25519";
+	private static final byte DOT = (byte) '.';
+	
+	private final PublicKey publicKey;
+	private final PrivateKey privateKey;
+	
+	EdDsaAlgorithm(PublicKey publicKey, PrivateKey privateKey) {
+		super("EdDSA", JCA_NAME);
+		
+		if (publicKey == null && privateKey == null) {
+			throw new IllegalArgumentException("Both provided Keys cannot be null.");
+		}
+		
+		this.publicKey = publicKey;
+		this.privateKey = privateKey;
+	}
+	
+	
+	
+	@Override
+	public void verify(DecodedJWT jwt) throws SignatureVerificationException {
+		if (publicKey == null) {
+			throw new SignatureVerificationException(this, new IllegalStateException("The given Public Key is null."));
+		}
+		
+		try {
+			Signature signature = Signature.getInstance(JCA_NAME);
+			signature.initVerify(publicKey);
+			signature.update(jwt.getHeader().getBytes(StandardCharsets.UTF_8));
+			signature.update(DOT);
+			signature.update(jwt.getPayload().getBytes(StandardCharsets.UTF_8));
+			
+			if (!signature.verify(Base64.getUrlDecoder().decode(jwt.getSignature()))) {
+				throw new SignatureVerificationException(this);
+			}
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			throw new SignatureVerificationException(this, e);
+		}
+	}
+	
+	@Override
+	public byte[] sign(byte[] headerBytes, byte[] payloadBytes) throws SignatureGenerationException {
+		if (privateKey == null) {
+			throw new SignatureGenerationException(this, new IllegalStateException("The given Private Key is null."));
+		}
+		
+		try {
+			Signature signature = Signature.getInstance(JCA_NAME);
+			signature.initSign(privateKey);
+			signature.update(headerBytes);
+			signature.update(DOT);
+			signature.update(payloadBytes);
+			
+			return signature.sign();
+		} catch (GeneralSecurityException e) {
+			throw new SignatureGenerationException(this, e);
+		}
+	}
+	
+	@Override
+	@Deprecated
+	public byte[] sign(byte[] contentBytes) throws SignatureGenerationException {
+		if (privateKey == null) {
+			throw new SignatureGenerationException(this, new IllegalStateException("The given Private Key is null."));
+		}
+		
+		try {
+			Signature signature = Signature.getInstance(JCA_NAME);
+			signature.initSign(privateKey);
+			signature.update(contentBytes);
+			
+			return signature.sign();
+		} catch (GeneralSecurityException e) {
+			throw new SignatureGenerationException(this, e);
+		}
+	}
+}
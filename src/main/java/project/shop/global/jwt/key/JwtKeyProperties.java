@@ -0,0 +1,43 @@
+package project.shop.global.jwt.key;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * JWT 서명 키 설정 (jwt.signing)
+ * 
+ * jwt:
+ *   signing:
+ *     active-kid: es-2024-10        # 새 토큰을 서명할 키
+ *     keys:
+ *       - kid: es-2024-10
+ *         algorithm: ES256
+ *         private-key: ${JWT_ES_PRIVATE_KEY}   # PKCS#8 PEM
+ *         public-key: ${JWT_ES_PUBLIC_KEY}     # X.509 PEM
+ *       - kid: hs-2024-01                      # 교체 전 키 -> 검증만 (이전 토큰이 만료되면 삭제)
+ *         algorithm: HS512
+ *         secret: ${JWT_OLD_SECRET}
+ * 
+ * keys가 없으면 jwt.secret 으로 HS512 서명 (kid 헤더 없음, 기존 방식)
+ * 
+ * @param activeKid				: 서명에 사용할 키의 kid (없으면 jwt.secret)
+ * @param acceptUnidentified	: kid 헤더가 없는 토큰을 jwt.secret 으로 검증할지 여부 (교체 전에 발급된 토큰)
+ * @param keys					: 서명, 검증 키 목록
+ */
+@ConfigurationProperties(prefix = "jwt.signing")
+public record JwtKeyProperties(String activeKid,
+							   @DefaultValue("true") boolean acceptUnidentified,
+							   @DefaultValue List<Key> keys) {
+
+	/**
+	 * @param kid			: 키 식별자 (토큰 헤더의 kid)
+	 * @param algorithm		: HS512, ES256, RS256, EdDSA
+	 * @param secret		: HS512 비밀 키
+	 * @param privateKey	: 비대칭 키의 개인 키 (PKCS#8 PEM), 검증만 하는 키는 생략
+	 * @param publicKey		: 비대칭 키의 공개 키 (X.509 PEM)
+	 */
+	public record Key(String kid, JwtSigningAlgorithm algorithm, String secret, String privateKey, String publicKey) {
+	}
+}
@@ -0,0 +1,125 @@
+package project.shop.global.jwt.key;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.auth0.jwt.algorithms.Algorithm;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 서명 키 목록 (키 교체)
+ * 
+ * 새 토큰은 active-kid 키로만 서명하고, 토큰 헤더에 kid를 담음
+ * 검증은 토큰 헤더의 kid로 키를 찾아서 수행 -> 교체 중에는 이전 키도 keys에 남겨두어 기존 토큰이 계속 유효
+ * 
+ * 키 교체 순서
+ * 1. 새 키를 keys에 추가 (검증만, 모든 서버에 배포)
+ * 2. active-kid 를 새 키로 변경 (새 키로 서명)
+ * 3. 이전 키로 서명된 토큰이 모두 만료되면 (RefreshToken 유효기간) 이전 키 삭제
+ * 
+ * kid 헤더가 없는 토큰은 jwt.secret(HS512)으로 검증 (accept-unidentified = true 일 때만)
+ */
+@Component
+@EnableConfigurationProperties(JwtKeyProperties.class)
+@Slf4j
+public class JwtKeyRing {
+
+	private final JwtSigningKey signingKey;
+	private final JwtSigningKey unidentifiedKey; // kid 헤더가 없는 토큰 검증 키 (null 이면 거부)
+	private final Map<String, JwtSigningKey> verificationKeys;
+	
+	public JwtKeyRing(JwtKeyProperties properties, @Value("${jwt.secret}") String secret) {
+		JwtSigningKey legacyKey = new JwtSigningKey(null, JwtSigningAlgorithm.HS512, Algorithm.HMAC512(secret), null, true);
+		
+		Map<String, JwtSigningKey> keys = new LinkedHashMap<>();
+		
+		for (JwtKeyProperties.Key key : properties.keys()) {
+			if (key.kid() == null || key.kid().isBlank() || key.algorithm() == null) {
+				throw new IllegalStateException("JWT 서명 키에는 kid, algorithm이 필요합니다.");
+			}
+			if (keys.put(key.kid(), key.algorithm().createKey(key)) != null) {
+				throw new IllegalStateException("중복된 kid 입니다. kid: " + key.kid());
+			}
+		}
+		
+		this.verificationKeys = Collections.unmodifiableMap(keys);
+		this.unidentifiedKey = properties.acceptUnidentified() ? legacyKey : null;
+		this.signingKey = resolveSigningKey(properties.activeKid(), keys, legacyKey);
+		
+		log.info("JWT 서명 키: {} ({}), 검증 키: {}", signingKey.kid(), signingKey.type(), keys.keySet());
+	}
+	
+	
+	
+	/**
+	 * 새 토큰을 서명할 키
+	 */
+	public JwtSigningKey signingKey() {
+		return signingKey;
+	}
+	
+	/**
+	 * 토큰 헤더의 kid로 검증 키 조회
+	 * kid가 없다면 jwt.secret 키 (accept-unidentified = false 이면 빈 Optional)
+	 */
+	public Optional<JwtSigningKey> verificationKey(String kid) {
+		if (kid == null) {
+			return Optional.ofNullable(unidentifiedKey);
+		}
+		
+		return Optional.ofNullable(verificationKeys.get(kid));
+	}
+	
+	/**
+	 * 검증에 사용하는 모든 키 (kid가 없는 키 포함)
+	 */
+	public Collection<JwtSigningKey> verificationKeys() {
+		if (unidentifiedKey == null) {
+			return verificationKeys.values();
+		}
+		
+		List<JwtSigningKey> keys = new ArrayList<>(verificationKeys.values());
+		keys.add(unidentifiedKey);
+		
+		return keys;
+	}
+	
+	/**
+	 * JWKS(RFC 7517) : 공개할 수 있는 (비대칭) 검증 키 목록
+	 */
+	public Map<String, Object> jwks() {
+		return Map.of("keys", verificationKeys.values().stream()
+				.map(JwtSigningKey::toJwk)
+				.flatMap(Optional::stream)
+				.toList());
+	}
+	
+	
+	
+	private static JwtSigningKey resolveSigningKey(String activeKid, Map<String, JwtSigningKey> keys, JwtSigningKey legacyKey) {
+		if (activeKid == null || activeKid.isBlank()) {
+			return legacyKey;
+		}
+		
+		JwtSigningKey activeKey = keys.get(activeKid);
+		
+		if (activeKey == null) {
+			throw new IllegalStateException("active-kid에 해당하는 키가 없습니다. kid: " + activeKid);
+		}
+		if (!activeKey.canSign()) {
+			throw new IllegalStateException("active-kid 키에 개인 키가 없어 서명할 수 없습니다. kid: " + activeKid);
+		}
+		
+		return activeKey;
+	}
+}
@@ -0,0 +1,187 @@
+package project.shop.global.jwt.key;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.auth0.jwt.algorithms.Algorithm;
+
+/**
+ * 지원하는 JWT 서명 알고리즘
+ * 
+ * HS512	: 대칭 키 (서명, 검증 모두 같은 secret 필요) -> JWKS로 공개하지 않음
+ * ES256	: ECDSA P-256
+ * RS256	: RSA PKCS#1 v1.5 + SHA-256
+ * EdDSA	: Ed25519 (java-jwt 미지원 -> EdDsaAlgorithm)
+ * 
+ * 비대칭 키는 공개 키만 있으면 검증 가능 -> 다른 서버는 JWKS 엔드포인트의 공개 키로 검증
+ */
+public enum JwtSigningAlgorithm {
+
+	HS512(null) {
+		@Override
+		Algorithm algorithm(PublicKey publicKey, PrivateKey privateKey, String secret) {
+			return Algorithm.HMAC512(secret);
+		}
+		
+		@Override
+		void writeJwk(PublicKey publicKey, Map<String, Object> jwk) {
+			throw new UnsupportedOperationException("HS512 키는 공개할 수 없습니다.");
+		}
+	},
+	
+	ES256("EC") {
+		@Override
+		Algorithm algorithm(PublicKey publicKey, PrivateKey privateKey, String secret) {
+			return Algorithm.ECDSA256((ECPublicKey) publicKey, (ECPrivateKey) privateKey);
+		}
+		
+		@Override
+		void writeJwk(PublicKey publicKey, Map<String, Object> jwk) {
+			ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+			
+			jwk.put("kty", "EC");
+			jwk.put("crv", "P-256");
+			jwk.put("x", base64Url(unsigned(ecPublicKey.getW().getAffineX(), 32)));
+			jwk.put("y", base64Url(unsigned(ecPublicKey.getW().getAffineY(), 32)));
+		}
+	},
+	
+	RS256("RSA") {
+		@Override
+		Algorithm algorithm(PublicKey publicKey, PrivateKey privateKey, String secret) {
+			return Algorithm.RSA256((RSAPublicKey) publicKey, (RSAPrivateKey) privateKey);
+		}
+		
+		@Override
+		void writeJwk(PublicKey publicKey, Map<String, Object> jwk) {
+			RSAPublicKey rsaPublicKey = (RSAPublicKey) publicKey;
+			
+			jwk.put("kty", "RSA");
+			jwk.put("n", base64Url(unsigned(rsaPublicKey.getModulus(), 0)));
+			jwk.put("e", base64Url(unsigned(rsaPublicKey.getPublicExponent(), 0)));
+		}
+	},
+	
+	EdDSA("Ed25519") {
+		@Override
+		Algorithm algorithm(PublicKey publicKey, PrivateKey privateKey, String secret) {
+			return new EdDsaAlgorithm(publicKey, privateKey);
+		}
+		
+		@Override
+		void writeJwk(PublicKey publicKey, Map<String, Object> jwk) {
+			byte[] encoded = publicKey.getEncoded(); // X.509 = 12 byte prefix + 32 byte key
+			
+			jwk.put("kty", "OKP");
+			jwk.put("crv", "Ed25519");
+			jwk.put("x", base64Url(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)));
+		}
+	};
+	
+	private final String keyFactoryAlgorithm; // null 이면 대칭 키
+	
+	JwtSigningAlgorithm(String keyFactoryAlgorithm) {
+		this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+	}
+	
+	
+	
+	abstract Algorithm algorithm(PublicKey publicKey, PrivateKey privateKey, String secret);
+	
+	abstract void writeJwk(PublicKey publicKey, Map<String, Object> jwk);
+	
+	public boolean isAsymmetric() {
+		return keyFactoryAlgorithm != null;
+	}
+	
+	/**
+	 * 설정 값으로 서명 키 생성
+	 * 개인 키(secret)가 없으면 검증만 가능한 키
+	 */
+	JwtSigningKey createKey(JwtKeyProperties.Key key) {
+		if (!isAsymmetric()) {
+			if (key.secret() == null || key.secret().isBlank()) {
+				throw new IllegalStateException("HS512 키에는 secret이 필요합니다. kid: " + key.kid());
+			}
+			
+			return new JwtSigningKey(key.kid(), this, algorithm(null, null, key.secret()), null, true);
+		}
+		
+		if (key.publicKey() == null || key.publicKey().isBlank()) {
+			throw new IllegalStateException(name() + " 키에는 public-key가 필요합니다. kid: " + key.kid());
+		}
+		
+		try {
+			KeyFactory keyFactory = KeyFactory.getInstance(keyFactoryAlgorithm);
+			PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(key.publicKey())));
+			PrivateKey privateKey = key.privateKey() == null || key.privateKey().isBlank()
+					? null
+					: keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(key.privateKey())));
+			
+			return new JwtSigningKey(key.kid(), this, algorithm(publicKey, privateKey, null), publicKey, privateKey != null);
+		} catch (GeneralSecurityException | IllegalArgumentException | ClassCastException e) {
+			throw new IllegalStateException("JWT 서명 키를 읽을 수 없습니다. kid: " + key.kid(), e);
+		}
+	}
+	
+	/**
+	 * 공개 키를 JWK(RFC 7517) 형식으로 변환
+	 */
+	Map<String, Object> toJwk(String kid, PublicKey publicKey) {
+		Map<String, Object> jwk = new LinkedHashMap<>();
+		writeJwk(publicKey, jwk);
+		jwk.put("use", "sig");
+		jwk.put("alg", name());
+		jwk.put("kid", kid);
+		
+		return jwk;
+	}
+	
+	
+	
+	/**
+	 * PEM의 "-----BEGIN ...-----" 헤더, 줄바꿈을 제거하고 DER로 디코딩
+	 */
+	private static byte[] decodePem(String pem) {
+		String base64 = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+		
+		return Base64.getDecoder().decode(base64);
+	}
+	
+	/**
+	 * BigInteger의 부호 바이트를 제거 (length > 0 이면 앞을 0으로 채워서 고정 길이)
+	 */
+	private static byte[] unsigned(BigInteger value, int length) {
+		byte[] bytes = value.toByteArray();
+		
+		if (bytes.length > 1 && bytes[0] == 0) {
+			bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+		}
+		
+		if (length > bytes.length) {
+			byte[] padded = new byte[length];
+			System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+			
+			return padded;
+		}
+		
+		return bytes;
+	}
+	
+	private static String base64Url(byte[] bytes) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+}
@@ -0,0 +1,30 @@
+package project.shop.global.jwt.key;
+
+import java.security.PublicKey;
+import java.util.Map;
+import java.util.Optional;
+
+import com.auth0.jwt.algorithms.Algorithm;
+
+/**
+ * JWT 서명 키
+ * 
+ * @param kid		: 키 식별자 (jwt.secret 으로 만든 기존 키는 null -> kid 헤더 없이 서명)
+ * @param type		: 서명 알고리즘
+ * @param algorithm	: java-jwt Algorithm (불변, thread-safe)
+ * @param publicKey	: 비대칭 키의 공개 키 (HS512는 null)
+ * @param canSign	: 개인 키(secret)가 있어 서명할 수 있는지 여부 (false 이면 검증만)
+ */
+public record JwtSigningKey(String kid, JwtSigningAlgorithm type, Algorithm algorithm, PublicKey publicKey, boolean canSign) {
+
+	/**
+	 * JWKS로 공개할 수 있는 키라면 JWK 반환 (HS512는 빈 Optional)
+	 */
+	public Optional<Map<String, Object>> toJwk() {
+		if (publicKey == null || kid == null) {
+			return Optional.empty();
+		}
+		
+		return Optional.of(type.toJwk(kid, publicKey));
+	}
+}
@@ -0,0 +1,57 @@
+package project.shop.global.jwt.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import project.shop.global.jwt.entity.RefreshToken;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+	Optional<RefreshToken> findByTokenHash(String tokenHash); // uk_refresh_token_hash 인덱스로 조회
+	
+	/**
+	 * 회원의 모든 리프레시 토큰 삭제 (모든 기기 로그아웃)
+	 * 엔티티를 조회하지 않고 삭제 쿼리 1번으로 처리
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("delete from RefreshToken r where r.memberId = :memberId")
+	int deleteAllByMemberId(@Param("memberId") Long memberId);
+	
+	/**
+	 * 토큰 패밀리 폐기 (RefreshToken 재사용 감지 시)
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("delete from RefreshToken r where r.memberId = :memberId and r.familyId = :familyId")
+	int deleteAllByMemberIdAndFamilyId(@Param("memberId") Long memberId, @Param("familyId") String familyId);
+	
+	/**
+	 * RefreshToken 교체 (Compare-And-Swap)
+	 * 회원 PK + 사용한 토큰의 해시가 일치하는 행만 새 토큰 해시로 변경
+	 * 
+	 * 조회 없이 UPDATE 1번으로 처리하며, 같은 토큰으로 동시에 재발급을 요청해도
+	 * 하나의 요청만 1을 반환 (나머지는 0 -> 재사용)
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("update RefreshToken r set r.tokenHash = :newTokenHash, r.issuedAt = :issuedAt, r.expiresAt = :expiresAt " +
+		   "where r.memberId = :memberId and r.familyId = :familyId and r.tokenHash = :oldTokenHash and r.expiresAt > :issuedAt")
+	int rotate(@Param("memberId") Long memberId,
+			   @Param("familyId") String familyId,
+			   @Param("oldTokenHash") String oldTokenHash,
+			   @Param("newTokenHash") String newTokenHash,
+			   @Param("issuedAt") LocalDateTime issuedAt,
+			   @Param("expiresAt") LocalDateTime expiresAt);
+	
+	/**
+	 * 만료된 토큰의 PK를 pageable 크기만큼 조회 (idx_refresh_token_expires_at 인덱스)
+	 * 만료 토큰 정리는 이 크기 단위로 나눠서 삭제
+	 */
+	@Query("select r.id from RefreshToken r where r.expiresAt <= :now")
+	List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,191 @@
+package project.shop.global.jwt.revocation;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import project.shop.domain.member.event.MemberWithdrawnEvent;
+import project.shop.global.jwt.dto.VerifiedToken;
+import project.shop.global.util.BloomFilter;
+
+/**
+ * 폐기된 AccessToken 목록 (로그아웃, 회원 탈퇴)
+ * 
+ * AccessToken은 만료 전까지 서명만으로 유효하므로, 폐기된 토큰은 만료될 때까지 이 목록으로 거름
+ * 매 요청마다 DB를 조회하지 않도록 메모리에서만 확인
+ * 
+ * 1. Bloom Filter를 먼저 확인 -> 대부분의 (폐기되지 않은) 토큰은 해시 몇 번으로 바로 통과
+ * 2. Bloom Filter에 있다면 정확한 목록(revocations)에서 다시 확인 (오탐 제거)
+ * 
+ * 폐기 단위
+ * - jti : 토큰 1개 (로그아웃)
+ * - 회원 PK : 폐기 시각 이전에 발급된 회원의 모든 토큰 (회원 탈퇴)
+ * 
+ * 메모리 제한
+ * - Bloom Filter는 크기가 고정된 필터 2개(current, previous)를 AccessToken 유효기간마다 교체
+ *   폐기 항목은 적어도 유효기간 1번 동안 필터에 남으므로, 토큰이 만료되기 전에 필터에서 빠지지 않음
+ * - 정확한 목록은 토큰 만료 시각까지만 보관하고, 필터를 교체할 때 만료된 항목을 제거
+ */
+@Component
+@Slf4j
+public class AccessTokenRevocationList {
+
+	private static final String JTI_KEY_PREFIX = "jti:";
+	private static final String MEMBER_KEY_PREFIX = "member:";
+	
+	private final long expectedRevocations;
+	private final double falsePositiveRate;
+	private final long accessTokenValidityInSeconds;
+	
+	private final Map<String, Revocation> revocations = new ConcurrentHashMap<>();
+	private volatile Generations generations;
+	
+	public AccessTokenRevocationList(MeterRegistry meterRegistry,
+									 @Value("${jwt.access.expiration}") long accessTokenValidityInSeconds,
+									 @Value("${jwt.access.revocation.expected-revocations:100000}") long expectedRevocations,
+									 @Value("${jwt.access.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+		
+		this.accessTokenValidityInSeconds = accessTokenValidityInSeconds;
+		this.expectedRevocations = expectedRevocations;
+		this.falsePositiveRate = falsePositiveRate;
+		this.generations = new Generations(newFilter(), newFilter());
+		
+		Gauge.builder("jwt.access.revocations", revocations, Map::size)
+				.description("만료되지 않은 폐기 항목 수")
+				.register(meterRegistry);
+	}
+	
+	
+	
+	/**
+	 * AccessToken 1개 폐기 (만료 시각까지 보관)
+	 * jti 클레임이 없는 이전 형식의 토큰은 폐기할 수 없음 -> 만료까지 유효
+	 */
+	public void revoke(VerifiedToken accessToken) {
+		String tokenId = accessToken.tokenId();
+		
+		if (tokenId == null) {
+			log.warn("jti 클레임이 없는 AccessToken은 폐기할 수 없습니다.");
+			
+			return;
+		}
+		
+		Instant now = Instant.now();
+		Instant expiresAt = accessToken.expiresAt() != null ? accessToken.expiresAt() : now.plusSeconds(accessTokenValidityInSeconds);
+		
+		add(JTI_KEY_PREFIX + tokenId, new Revocation(now, expiresAt));
+	}
+	
+	/**
+	 * 지금까지 발급된 회원의 모든 AccessToken 폐기
+	 * 지금 발급된 토큰도 AccessToken 유효기간이 지나면 모두 만료되므로 그때까지만 보관
+	 */
+	public void revokeAll(Long memberId) {
+		Instant now = Instant.now();
+		
+		add(MEMBER_KEY_PREFIX + memberId, new Revocation(now, now.plusSeconds(accessTokenValidityInSeconds)));
+	}
+	
+	/**
+	 * 폐기된 AccessToken인지 확인
+	 * Bloom Filter에 없으면 (대부분의 요청) 정확한 목록은 확인하지 않음
+	 */
+	public boolean isRevoked(VerifiedToken accessToken) {
+		Generations filters = generations;
+		
+		String tokenId = accessToken.tokenId();
+		
+		if (tokenId != null && filters.mightContain(JTI_KEY_PREFIX + tokenId)) {
+			Revocation revocation = revocations.get(JTI_KEY_PREFIX + tokenId);
+			
+			if (revocation != null) {
+				return true;
+			}
+		}
+		
+		Long memberId = accessToken.memberId();
+		
+		if (memberId != null && filters.mightContain(MEMBER_KEY_PREFIX + memberId)) {
+			Revocation revocation = revocations.get(MEMBER_KEY_PREFIX + memberId);
+			
+			if (revocation != null) {
+				return revocation.covers(accessToken.issuedAt());
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * 회원 탈퇴가 커밋된 이후에 회원의 모든 AccessToken 폐기
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMemberWithdrawn(MemberWithdrawnEvent event) {
+		if (event.memberId() != null) {
+			revokeAll(event.memberId());
+		}
+	}
+	
+	/**
+	 * AccessToken 유효기간마다 Bloom Filter 교체 + 만료된 항목 제거
+	 * current -> previous, 새 필터 -> current (기존 previous는 버림)
+	 * 
+	 * 버려지는 previous의 항목은 적어도 유효기간 1번 전에 추가된 항목이므로 이미 만료된 토큰
+	 */
+	@Scheduled(fixedDelayString = "#{${jwt.access.expiration} * 1000}",
+			   initialDelayString = "#{${jwt.access.expiration} * 1000}")
+	public void rotate() {
+		generations = new Generations(newFilter(), generations.current());
+		
+		Instant now = Instant.now();
+		revocations.values().removeIf(revocation -> revocation.isExpired(now));
+	}
+	
+	
+	
+	private void add(String key, Revocation revocation) {
+		revocations.merge(key, revocation, Revocation::latest); // 정확한 목록을 먼저 저장 -> 필터에서 찾았는데 목록에 없는 경우 방지
+		generations.current().put(key);
+	}
+	
+	private BloomFilter newFilter() {
+		return new BloomFilter(expectedRevocations, falsePositiveRate);
+	}
+	
+	
+	
+	private record Generations(BloomFilter current, BloomFilter previous) {
+		
+		boolean mightContain(String key) {
+			return current.mightContain(key) || previous.mightContain(key);
+		}
+	}
+	
+	/**
+	 * @param revokedAt	: 폐기 시각 (회원 단위 폐기는 이 시각 이전에 발급된 토큰만 폐기)
+	 * @param expiresAt	: 보관 기한 (토큰 만료 시각)
+	 */
+	private record Revocation(Instant revokedAt, Instant expiresAt) {
+		
+		boolean isExpired(Instant now) {
+			return expiresAt.isBefore(now);
+		}
+		
+		boolean covers(Instant issuedAt) {
+			return issuedAt == null || !issuedAt.isAfter(revokedAt);
+		}
+		
+		static Revocation latest(Revocation stored, Revocation revocation) {
+			return revocation.expiresAt().isAfter(stored.expiresAt()) ? revocation : stored;
+		}
+	}
+}
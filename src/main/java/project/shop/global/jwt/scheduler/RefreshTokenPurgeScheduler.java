@@ -0,0 +1,62 @@
+package project.shop.global.jwt.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import project.shop.global.jwt.repository.RefreshTokenRepository;
+
+/**
+ * 만료된 리프레시 토큰 정리
+ * 
+ * 한 번에 전부 삭제하면 큰 트랜잭션으로 테이블 락이 오래 잡히므로
+ * batch-size 만큼 PK를 조회해서 삭제하는 작업을 max-batches 번까지만 반복
+ * (삭제 1번 = 트랜잭션 1개, 남은 토큰은 다음 주기에 삭제)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RefreshTokenPurgeScheduler {
+
+	private final RefreshTokenRepository refreshTokenRepository;
+	
+	@Value("${jwt.refresh.purge.batch-size:1000}")
+	private int batchSize;
+	
+	@Value("${jwt.refresh.purge.max-batches:10}")
+	private int maxBatches;
+	
+	
+	
+	@Scheduled(fixedDelayString = "${jwt.refresh.purge.interval-ms:600000}",
+			   initialDelayString = "${jwt.refresh.purge.interval-ms:600000}")
+	public void purgeExpiredTokens() {
+		LocalDateTime now = LocalDateTime.now();
+		int purged = 0;
+		
+		for (int batch = 0; batch < maxBatches; batch++) {
+			List<Long> expiredIds = refreshTokenRepository.findExpiredIds(now, PageRequest.ofSize(batchSize));
+			
+			if (expiredIds.isEmpty()) {
+				break;
+			}
+			
+			refreshTokenRepository.deleteAllByIdInBatch(expiredIds);
+			purged += expiredIds.size();
+			
+			if (expiredIds.size() < batchSize) { // 마지막 배치
+				break;
+			}
+		}
+		
+		if (purged > 0) {
+			log.info("만료된 리프레시 토큰 {}개 삭제", purged);
+		}
+	}
+}
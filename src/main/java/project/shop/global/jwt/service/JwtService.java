@@ -4,16 +4,31 @@ import java.util.Optional;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import project.shop.domain.member.enums.Role;
+import project.shop.global.jwt.dto.VerifiedToken;
+import project.shop.global.jwt.entity.RefreshToken;
 
 public interface JwtService {
 
 	String createAccessToken(String email);
 	
+	String createAccessToken(Long memberId, String email, Role role); // 회원 PK, 권한 클레임 포함
+	
 	String createRefreshToken();
 	
-	void updateRefreshToken(String email, String refreshToken);
+	String createRefreshToken(Long memberId, String familyId); // 회원 PK, 토큰 패밀리 클레임 포함
+	
+	String issueRefreshToken(Long memberId, String deviceLabel); // 새 로그인 세션의 RefreshToken 발급 + 저장 (로그인 1회 = 1행)
+	
+	Optional<RefreshToken> findRefreshToken(String refreshToken); // 토큰 해시로 조회 (만료된 토큰 제외)
+	
+	Optional<String> rotateRefreshToken(VerifiedToken refreshToken); // 같은 패밀리로 RefreshToken 재발급 후 교체 (RTR), 재사용이면 빈 Optional
 	
-	void destroyRefreshToken(String email); // 토큰 파기
+	void destroyRefreshToken(String email); // 토큰 파기 (회원의 모든 세션)
+	
+	void destroyRefreshTokenFamily(VerifiedToken refreshToken); // 토큰 파기 (RefreshToken의 세션)
+	
+	void revokeAccessToken(VerifiedToken accessToken); // AccessToken 폐기 (만료 전까지 인증 x)
 	
 	void sendAccessAndRefreshToken(HttpServletResponse response, String accessToken, String refreshToken);
 	
@@ -31,4 +46,8 @@ public interface JwtService {
 	
 	boolean isTokenValid(String token); // 유효성 검사
 	
+	Optional<VerifiedToken> verifyAccessToken(String accessToken); // AccessToken 검증 + 클레임 추출 (파싱 1회)
+	
+	Optional<VerifiedToken> verifyRefreshToken(String refreshToken); // RefreshToken 검증 (파싱 1회)
+	
 }
\ No newline at end of file
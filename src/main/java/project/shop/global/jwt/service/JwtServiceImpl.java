@@ -1,17 +1,25 @@
 package project.shop.global.jwt.service;
 
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AccessLevel;
@@ -19,15 +27,26 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import project.shop.domain.member.enums.Role;
 import project.shop.domain.member.exception.MemberException;
 import project.shop.domain.member.exception.MemberExceptionType;
 import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.jwt.dto.VerifiedToken;
+import project.shop.global.jwt.entity.RefreshToken;
+import project.shop.global.jwt.key.JwtKeyRing;
+import project.shop.global.jwt.key.JwtSigningKey;
+import project.shop.global.jwt.repository.RefreshTokenRepository;
+import project.shop.global.jwt.revocation.AccessTokenRevocationList;
+import project.shop.global.util.TokenHashUtil;
 
+/**
+ * 트랜잭션은 RefreshToken을 저장/변경/삭제하는 메서드에만 적용
+ * 토큰 생성, 추출, 검증은 매 요청 JWT 필터에서 호출되므로 트랜잭션(DB 커넥션) 없이 처리
+ */
 @Service
 @RequiredArgsConstructor
 @Setter(value = AccessLevel.PRIVATE)
 @Getter
-@Transactional
 @Slf4j
 public class JwtServiceImpl implements JwtService {
 
@@ -36,9 +55,6 @@ public class JwtServiceImpl implements JwtService {
 	 * yml 파일에 작성해둔 설정 값들을 가져와서 사용
 	 * static으로 선언시 값이 들어오지 않음
 	 */
-	@Value("${jwt.secret}")
-	private String secret;
-	
 	@Value("${jwt.access.expiration}")
 	private long accessTokenValidityInSeconds;
 	
@@ -53,65 +69,220 @@ public class JwtServiceImpl implements JwtService {
 	
 	/**
 	 * JWT의 Subject와 Claim으로 email 사용 -> 클레임의 name을 "email"로 설정
+	 * AccessToken에는 회원 PK("id"), 권한("role") 클레임도 함께 담아서 필터에서 DB 조회 없이 인증 처리
 	 * JWT의 헤더에 들어오는 값 : 'Authorization(Key) = Bearer {토큰} (Value)' 형식
 	 */
 	private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
 	private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
-	private static final String EMAIL_CLAIM = "email";
+	private static final String EMAIL_CLAIM = VerifiedToken.EMAIL_CLAIM;
+	private static final String MEMBER_ID_CLAIM = VerifiedToken.MEMBER_ID_CLAIM;
+	private static final String ROLE_CLAIM = VerifiedToken.ROLE_CLAIM;
+	private static final String FAMILY_ID_CLAIM = VerifiedToken.FAMILY_ID_CLAIM;
 	private static final String BEARER = "Bearer ";
+	private static final int DEVICE_LABEL_MAX_LENGTH = 100;
 	
 	private final MemberRepository memberRepository;
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final AccessTokenRevocationList accessTokenRevocationList;
+	private final JwtKeyRing jwtKeyRing;
+	
+	/**
+	 * Algorithm, JWTVerifier는 불변 객체이며 thread-safe
+	 * 요청마다 새로 만들지 않고, 설정 값이 주입된 뒤 검증 키마다 한 번만 생성해서 재사용
+	 */
+	@Getter(AccessLevel.NONE)
+	private Map<JwtSigningKey, KeyVerifiers> verifiers;
 
 	
 	
+	@PostConstruct
+	void initVerifiers() {
+		Map<JwtSigningKey, KeyVerifiers> keyVerifiers = new IdentityHashMap<>();
+		
+		for (JwtSigningKey key : jwtKeyRing.verificationKeys()) {
+			keyVerifiers.put(key, new KeyVerifiers(
+					JWT.require(key.algorithm()).build(),
+					JWT.require(key.algorithm()).withSubject(ACCESS_TOKEN_SUBJECT).build(),
+					JWT.require(key.algorithm()).withSubject(REFRESH_TOKEN_SUBJECT).build()));
+		}
+		
+		verifiers = keyVerifiers;
+	}
+	
+	
+	
 	/**
 	 * AccessToken 생성 메서드
+	 * 회원 PK, 권한 클레임이 없는 토큰 -> 필터에서 DB 조회 후 인증 처리
 	 */
 	@Override
 	public String createAccessToken(String email) {
-		return JWT.create() // JWT 토큰을 생성하는 빌더 반환
+		return createAccessToken(null, email, null);
+	}
+	
+	/**
+	 * AccessToken 생성 메서드
+	 * 회원 PK, 권한을 클레임으로 담아두면 필터에서 DB 조회 없이 검증된 클레임만으로 인증 처리
+	 * jti(UUID), 발급 시각(iat)은 로그아웃, 회원 탈퇴 시 토큰 폐기에 사용 (AccessTokenRevocationList)
+	 */
+	@Override
+	public String createAccessToken(Long memberId, String email, Role role) {
+		long now = System.currentTimeMillis();
+		
+		JWTCreator.Builder builder = JWT.create() // JWT 토큰을 생성하는 빌더 반환
 				.withSubject(ACCESS_TOKEN_SUBJECT) // JWT의 Subject 지정 -> AccessToken이므로 AccessToken
-				.withExpiresAt(new Date(System.currentTimeMillis() + accessTokenValidityInSeconds * 1000)) // 토큰 만료 시간 설정
-				.withClaim(EMAIL_CLAIM, email) // 식별자나 이름 등의 정보를 더 추가 가능, .withClaim(클래임 이름, 클래임 값)으로 설정해주면 됨
-				.sign(Algorithm.HMAC512(secret)); // HMAC512 알고리즘 사용, application-jwt.yml에서 지정한 secret키로 암호화
+				.withJWTId(UUID.randomUUID().toString())
+				.withIssuedAt(new Date(now))
+				.withExpiresAt(new Date(now + accessTokenValidityInSeconds * 1000)) // 토큰 만료 시간 설정
+				.withClaim(EMAIL_CLAIM, email); // 식별자나 이름 등의 정보를 더 추가 가능, .withClaim(클래임 이름, 클래임 값)으로 설정해주면 됨
+		
+		if (memberId != null && role != null) { // 둘 중 하나라도 없으면 클레임을 담지 않음 -> DB 조회로 인증
+			builder.withClaim(MEMBER_ID_CLAIM, memberId)
+				   .withClaim(ROLE_CLAIM, role.name());
+		}
+		
+		return sign(builder); // JwtKeyRing의 서명 키(active-kid)로 서명
 	}
 
 	/**
 	 * RefreshToken 생성
 	 * RefreshToken은 Claim에 email도 넣지 않으므로 withClaim() x
+	 * 같은 초에 발급된 토큰도 서로 다른 해시를 갖도록 jti(UUID) 추가
 	 */
 	@Override
 	public String createRefreshToken() {
-		return JWT.create()
-				.withSubject(REFRESH_TOKEN_SUBJECT)
-				.withExpiresAt(new Date(System.currentTimeMillis() + refreshTokenValidityInSeconds * 1000))
-				.sign(Algorithm.HMAC512(secret));
+		return sign(refreshTokenBuilder());
+	}
+	
+	/**
+	 * RefreshToken 생성
+	 * 회원 PK("id"), 토큰 패밀리("fid") 클레임을 담아서
+	 * 재발급 시 DB 조회 없이 UPDATE 1번으로 교체할 수 있도록 함
+	 */
+	@Override
+	public String createRefreshToken(Long memberId, String familyId) {
+		return sign(refreshTokenBuilder()
+				.withClaim(MEMBER_ID_CLAIM, memberId)
+				.withClaim(FAMILY_ID_CLAIM, familyId));
 	}
 
 	/**
-	 * RefreshToken DB 저장(업데이트)
+	 * RefreshToken 발급 + DB 저장
+	 * 로그인 시 발급된 토큰이므로 새 토큰 패밀리 생성
+	 * 로그인 세션마다 한 행씩 저장되므로 기존 세션의 RefreshToken은 그대로 유지
+	 * 토큰 원문 대신 해시를 저장
 	 */
 	@Override
-	public void updateRefreshToken(String email, String refreshToken) {
-		memberRepository.findByEmail(email)
-			.ifPresentOrElse(
-					member -> member.updateRefreshToken(refreshToken),
-					() -> new MemberException(MemberExceptionType.NOT_FOUND_MEMBER)
-			);
+	@Transactional
+	public String issueRefreshToken(Long memberId, String deviceLabel) {
+		String familyId = UUID.randomUUID().toString();
+		String refreshToken = createRefreshToken(memberId, familyId);
+		LocalDateTime now = LocalDateTime.now();
+		
+		refreshTokenRepository.save(RefreshToken.builder()
+				.tokenHash(TokenHashUtil.hash(refreshToken))
+				.memberId(memberId)
+				.familyId(familyId)
+				.issuedAt(now)
+				.expiresAt(now.plusSeconds(refreshTokenValidityInSeconds))
+				.deviceLabel(truncateDeviceLabel(deviceLabel))
+				.build());
+		
+		return refreshToken;
+	}
+	
+	/**
+	 * RefreshToken 조회
+	 * 토큰 해시로 인덱스 조회, 만료된 토큰은 빈 Optional 반환
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<RefreshToken> findRefreshToken(String refreshToken) {
+		LocalDateTime now = LocalDateTime.now();
+		
+		return refreshTokenRepository.findByTokenHash(TokenHashUtil.hash(refreshToken))
+				.filter(storedToken -> !storedToken.isExpired(now));
+	}
+	
+	/**
+	 * RefreshToken 재발급 (RTR)
+	 * 
+	 * 검증된 RefreshToken의 클레임(회원 PK, 토큰 패밀리)으로 새 RefreshToken을 만들고
+	 * "회원 PK + 사용한 토큰 해시"가 일치하는 행만 새 토큰 해시로 변경 (조회 없이 UPDATE 1번)
+	 * 
+	 * 변경된 행이 없다면 이미 교체된 토큰(또는 로그아웃된 토큰)을 다시 사용한 것이므로
+	 * 재사용으로 판단하여 토큰 패밀리 전체를 폐기하고 빈 Optional 반환
+	 */
+	@Override
+	@Transactional
+	public Optional<String> rotateRefreshToken(VerifiedToken refreshToken) {
+		Long memberId = refreshToken.memberId();
+		String familyId = refreshToken.familyId();
+		
+		if (memberId == null || familyId == null) { // 클레임이 없는 RefreshToken은 재발급 x -> 다시 로그인
+			return Optional.empty();
+		}
+		
+		String reIssuedRefreshToken = createRefreshToken(memberId, familyId);
+		LocalDateTime now = LocalDateTime.now();
+		
+		int rotated = refreshTokenRepository.rotate(
+				memberId,
+				familyId,
+				TokenHashUtil.hash(refreshToken.token()),
+				TokenHashUtil.hash(reIssuedRefreshToken),
+				now,
+				now.plusSeconds(refreshTokenValidityInSeconds));
+		
+		if (rotated == 1) {
+			return Optional.of(reIssuedRefreshToken);
+		}
+		
+		log.warn("RefreshToken 재사용이 감지되어 토큰 패밀리를 폐기합니다. memberId: {}, familyId: {}", memberId, familyId);
+		refreshTokenRepository.deleteAllByMemberIdAndFamilyId(memberId, familyId);
+		
+		return Optional.empty();
 	}
 
 	/**
 	 * RefreshToken 파기
+	 * 회원의 모든 세션의 RefreshToken 삭제
 	 */
 	@Override
+	@Transactional
 	public void destroyRefreshToken(String email) {
-		memberRepository.findByEmail(email)
+		memberRepository.findIdByEmail(email)
 			.ifPresentOrElse(
-					member -> member.destroyRefreshToken(),
-					() -> new MemberException(MemberExceptionType.NOT_FOUND_MEMBER)
+					refreshTokenRepository::deleteAllByMemberId,
+					() -> {
+						throw new MemberException(MemberExceptionType.NOT_FOUND_MEMBER);
+					}
 			);
 	}
 
+	/**
+	 * RefreshToken 파기
+	 * RefreshToken의 토큰 패밀리(로그인 세션 1개)만 삭제 -> 다른 세션은 유지
+	 */
+	@Override
+	@Transactional
+	public void destroyRefreshTokenFamily(VerifiedToken refreshToken) {
+		if (refreshToken.memberId() == null || refreshToken.familyId() == null) {
+			return;
+		}
+		
+		refreshTokenRepository.deleteAllByMemberIdAndFamilyId(refreshToken.memberId(), refreshToken.familyId());
+	}
+	
+	/**
+	 * AccessToken 폐기
+	 * 만료 시각까지 AccessTokenRevocationList에 보관 -> verifyAccessToken() 에서 빈 Optional 반환
+	 */
+	@Override
+	public void revokeAccessToken(VerifiedToken accessToken) {
+		accessTokenRevocationList.revoke(accessToken);
+	}
+
 	/**
 	 * AccessToken + RefreshToken 헤더에 실어서 보내기
 	 */
@@ -171,24 +342,14 @@ public class JwtServiceImpl implements JwtService {
 
 	/**
 	 * AccessToken에서 Email 추출
-	 * 추출 전에 JWT.require()로 검증기 생성
-	 * verify로 AccessToken 검증 후
+	 * verifyAccessToken() 으로 AccessToken 검증 후
 	 * 유효하지 않다면 빈 Optional 객체 반환
+	 * 
+	 * 필터처럼 검증과 추출이 모두 필요한 곳에서는 verifyAccessToken() 을 직접 사용 (토큰 파싱 1회)
 	 */
 	@Override
 	public Optional<String> extractEmail(String accessToken) {
-		try {
-			// 토큰 유효성 검사를 하는데에 사용할 알고리즘이 있는 JWT verifier builder 반환
-			return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secret))
-					.build() // 반환된 빌더로 JWT verifier 생성
-					.verify(accessToken) // accessToken을 검증하고, 유효하지 않다면 예외 발생
-					.getClaim(EMAIL_CLAIM) // Claim(Email) 가져오기
-					.asString());
-		} catch (Exception e) {
-			log.error("엑세스 토큰이 유효하지 않습니다.");
-			
-			return Optional.empty();
-		}
+		return verifyAccessToken(accessToken).map(VerifiedToken::email);
 	}
 
 	/**
@@ -212,15 +373,95 @@ public class JwtServiceImpl implements JwtService {
 	 */
 	@Override
 	public boolean isTokenValid(String token) {
+		return verify(KeyVerifiers::token, token).isPresent();
+	}
+
+	/**
+	 * AccessToken 검증
+	 * 서명, 만료, Subject(AccessToken)를 한 번에 검증하고
+	 * 검증된 토큰을 VerifiedToken으로 반환 -> 유효하지 않다면 빈 Optional 객체 반환
+	 * 폐기된 토큰(로그아웃, 회원 탈퇴)도 빈 Optional 반환
+	 */
+	@Override
+	public Optional<VerifiedToken> verifyAccessToken(String accessToken) {
+		return verify(KeyVerifiers::accessToken, accessToken)
+				.filter(verifiedToken -> !accessTokenRevocationList.isRevoked(verifiedToken));
+	}
+
+	/**
+	 * RefreshToken 검증
+	 * 서명, 만료, Subject(RefreshToken) 검증
+	 */
+	@Override
+	public Optional<VerifiedToken> verifyRefreshToken(String refreshToken) {
+		return verify(KeyVerifiers::refreshToken, refreshToken);
+	}
+	
+	
+	
+	/**
+	 * 토큰을 한 번만 디코딩하고, 헤더의 kid로 찾은 검증 키로 서명, 만료, Subject 검증
+	 * 검증 키가 없는 kid(삭제된 키, 알 수 없는 키)는 빈 Optional 반환
+	 */
+	private Optional<VerifiedToken> verify(Function<KeyVerifiers, JWTVerifier> verifierSelector, String token) {
 		try {
-			JWT.require(Algorithm.HMAC512(secret)).build().verify(token);
+			DecodedJWT jwt = JWT.decode(token);
+			KeyVerifiers keyVerifiers = jwtKeyRing.verificationKey(jwt.getKeyId())
+					.map(verifiers::get)
+					.orElse(null);
 			
-			return true;
-		} catch (Exception e) {
-			log.error("유효하지 않은 토큰입니다.", e.getMessage());
+			if (keyVerifiers == null) {
+				log.error("검증 키가 없는 토큰입니다. kid: {}", jwt.getKeyId());
+				
+				return Optional.empty();
+			}
 			
-			return false;
+			return Optional.of(VerifiedToken.of(verifierSelector.apply(keyVerifiers).verify(jwt)));
+		} catch (JWTVerificationException e) {
+			log.error("유효하지 않은 토큰입니다. {}", e.getMessage());
+			
+			return Optional.empty();
+		}
+	}
+	
+	/**
+	 * 서명 키에 kid가 있다면 헤더에 kid를 담아서 서명 (jwt.secret 키는 kid 없음)
+	 */
+	private String sign(JWTCreator.Builder builder) {
+		JwtSigningKey signingKey = jwtKeyRing.signingKey();
+		
+		if (signingKey.kid() != null) {
+			builder.withKeyId(signingKey.kid());
 		}
+		
+		return builder.sign(signingKey.algorithm());
+	}
+	
+	private JWTCreator.Builder refreshTokenBuilder() {
+		return JWT.create()
+				.withSubject(REFRESH_TOKEN_SUBJECT)
+				.withJWTId(UUID.randomUUID().toString())
+				.withExpiresAt(new Date(System.currentTimeMillis() + refreshTokenValidityInSeconds * 1000));
+	}
+	
+	private String truncateDeviceLabel(String deviceLabel) {
+		if (deviceLabel == null || deviceLabel.length() <= DEVICE_LABEL_MAX_LENGTH) {
+			return deviceLabel;
+		}
+		
+		return deviceLabel.substring(0, DEVICE_LABEL_MAX_LENGTH);
+	}
+	
+	
+	
+	/**
+	 * 검증 키 1개의 JWTVerifier
+	 * 
+	 * @param token			: 토큰 종류 상관없이 서명, 만료만 검증
+	 * @param accessToken	: Subject가 AccessToken인 토큰만 통과
+	 * @param refreshToken	: Subject가 RefreshToken인 토큰만 통과
+	 */
+	private record KeyVerifiers(JWTVerifier token, JWTVerifier accessToken, JWTVerifier refreshToken) {
 	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package project.shop.global.jwt.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import project.shop.global.jwt.dto.ReIssuedTokens;
+import project.shop.global.jwt.dto.VerifiedToken;
+import project.shop.global.util.TokenHashUtil;
+
+/**
+ * 같은 RefreshToken으로 동시에 들어온 재발급 요청을 하나로 합치는 컴포넌트 (single-flight)
+ * 
+ * AccessToken이 만료된 직후 클라이언트가 여러 요청을 동시에 보내면 모두 같은 RefreshToken으로 재발급을 요청함
+ * 각각 RefreshToken 교체를 시도하면 하나를 제외한 나머지는 재사용으로 판단되어 토큰 패밀리가 폐기(로그아웃)되므로
+ * 
+ * 1. 처음 들어온 요청만 재발급(교체)을 수행
+ * 2. 나머지 요청은 처음 요청의 결과를 기다렸다가 같은 AccessToken/RefreshToken을 응답
+ * 3. 재발급 결과는 grace-period 동안 보관하여, 조금 늦게 도착한 같은 토큰의 요청에도 같은 결과를 응답
+ * 
+ * 재발급 작업은 Map의 락을 잡지 않은 상태에서 수행 (putIfAbsent로 자리만 선점)
+ * 프로세스 단위로 동작하므로 다른 서버로 들어온 요청은 합쳐지지 않음
+ */
+@Component
+@Slf4j
+public class RefreshTokenReIssueCoordinator {
+
+	private final Cache<String, CompletableFuture<Optional<ReIssuedTokens>>> reIssues; // Key: 사용한 RefreshToken 해시
+	private final Duration waitTimeout;
+	private final Counter coalescedCounter;
+	
+	public RefreshTokenReIssueCoordinator(MeterRegistry meterRegistry,
+										  @Value("${jwt.refresh.reissue.grace-period:10s}") Duration gracePeriod,
+										  @Value("${jwt.refresh.reissue.wait-timeout:5s}") Duration waitTimeout,
+										  @Value("${jwt.refresh.reissue.maximum-size:10000}") long maximumSize) {
+		
+		this.reIssues = Caffeine.newBuilder()
+				.expireAfterWrite(gracePeriod)
+				.maximumSize(maximumSize)
+				.build();
+		this.waitTimeout = waitTimeout;
+		this.coalescedCounter = Counter.builder("jwt.refresh.reissue.coalesced")
+				.description("진행 중이거나 완료된 재발급 결과를 함께 사용한 요청 수")
+				.register(meterRegistry);
+	}
+	
+	
+	
+	/**
+	 * @param refreshToken	: 검증된 RefreshToken
+	 * @param reIssuer		: 실제 재발급 작업 (RefreshToken 교체 + AccessToken 발급)
+	 * @return 재발급된 토큰, 재사용 등으로 재발급하지 못했다면 빈 Optional
+	 */
+	public Optional<ReIssuedTokens> reIssue(VerifiedToken refreshToken, Function<VerifiedToken, Optional<ReIssuedTokens>> reIssuer) {
+		String key = TokenHashUtil.hash(refreshToken.token());
+		
+		CompletableFuture<Optional<ReIssuedTokens>> reIssue = new CompletableFuture<>();
+		CompletableFuture<Optional<ReIssuedTokens>> inFlight = reIssues.asMap().putIfAbsent(key, reIssue);
+		
+		if (inFlight != null) { // 이미 같은 토큰으로 재발급 중이거나 재발급이 끝난 경우
+			coalescedCounter.increment();
+			
+			return await(inFlight);
+		}
+		
+		try {
+			Optional<ReIssuedTokens> reIssuedTokens = reIssuer.apply(refreshToken);
+			reIssue.complete(reIssuedTokens);
+			
+			return reIssuedTokens;
+		} catch (RuntimeException e) {
+			reIssues.invalidate(key); // 실패한 결과는 보관하지 않음 -> 다음 요청이 다시 시도
+			reIssue.completeExceptionally(e);
+			
+			throw e;
+		}
+	}
+	
+	
+	
+	private Optional<ReIssuedTokens> await(CompletableFuture<Optional<ReIssuedTokens>> inFlight) {
+		try {
+			return inFlight.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			
+			return Optional.empty();
+		} catch (ExecutionException | TimeoutException e) {
+			log.warn("함께 대기하던 RefreshToken 재발급이 실패했습니다. {}", e.getMessage());
+			
+			return Optional.empty();
+		}
+	}
+}
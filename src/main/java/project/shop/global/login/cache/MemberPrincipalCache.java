@@ -0,0 +1,171 @@
+package project.shop.global.login.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.event.MemberPrincipalChangedEvent;
+import project.shop.domain.member.repository.MemberRepository;
+
+/**
+ * 인증된 회원 정보(MemberPrincipalSnapshot) 캐시
+ * JwtAuthenticationProcessingFilter, LoginService에서 매 요청마다 findByEmail() 로 DB를 조회하지 않도록 앞단에 둠
+ * 
+ * 크기(maximum-size)와 TTL(ttl)로 제한, 초과하거나 만료된 항목은 Caffeine이 제거
+ * 권한 변경, 비밀번호 변경, 회원 탈퇴 시 MemberPrincipalChangedEvent를 받아 커밋 이후에 제거
+ * 
+ * DB 조회는 Caffeine get(key, loader) (ConcurrentHashMap.compute) 안에서 하지 않음
+ * compute는 해시 버킷을 synchronized로 잠그므로, 가상 스레드가 그 안에서 JDBC 응답을 기다리면 캐리어 스레드까지 고정(pinning)됨
+ * -> 같은 키의 동시 조회는 loading 맵의 CompletableFuture 하나로 합치고, 조회 자체는 락 밖에서 수행
+ * 
+ * hit/miss/eviction 카운터는 recordStats() 로 수집하여 cache.gets, cache.evictions 등의 메트릭으로 노출
+ * (이벤트로 인한 제거 횟수는 member.principal.cache.invalidations)
+ */
+@Component
+@Slf4j
+public class MemberPrincipalCache {
+
+	private static final String CACHE_NAME = "memberPrincipal";
+	
+	private final MemberRepository memberRepository;
+	private final Cache<String, MemberPrincipalSnapshot> cache;
+	private final ConcurrentHashMap<String, CompletableFuture<MemberPrincipalSnapshot>> loading = new ConcurrentHashMap<>(); // 조회 중인 키
+	private final Counter invalidationCounter;
+	
+	public MemberPrincipalCache(MemberRepository memberRepository,
+								MeterRegistry meterRegistry,
+								@Value("${member.principal-cache.maximum-size:10000}") long maximumSize,
+								@Value("${member.principal-cache.ttl:5m}") Duration ttl) {
+		
+		this.memberRepository = memberRepository;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+		this.invalidationCounter = Counter.builder("member.principal.cache.invalidations")
+				.description("회원 정보 변경 이벤트로 제거된 캐시 항목 수")
+				.register(meterRegistry);
+		
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+	
+	
+	
+	/**
+	 * 캐시에 없으면 DB에서 조회 후 저장
+	 * 존재하지 않는 회원은 캐시하지 않음
+	 */
+	public Optional<MemberPrincipalSnapshot> get(String email) {
+		MemberPrincipalSnapshot cached = cache.getIfPresent(email);
+		
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		return Optional.ofNullable(loadOnce(email));
+	}
+	
+	/**
+	 * DB 조회 없이 캐시에 있는 경우에만 반환
+	 */
+	public Optional<MemberPrincipalSnapshot> getIfPresent(String email) {
+		return Optional.ofNullable(cache.getIfPresent(email));
+	}
+	
+	/**
+	 * 이미 조회한 엔티티로 캐시 갱신 (ex. 로그인 시 조회한 회원)
+	 */
+	public void put(Member member) {
+		cache.put(member.getEmail(), MemberPrincipalSnapshot.from(member));
+	}
+	
+	public void evict(String email) {
+		loading.remove(email); // 조회 중인 값은 캐시에 저장하지 않음 (변경 전 값일 수 있음)
+		cache.invalidate(email);
+		invalidationCounter.increment();
+	}
+	
+	public CacheStats stats() {
+		return cache.stats();
+	}
+	
+	
+	
+	/**
+	 * 권한, 비밀번호 변경, 탈퇴가 커밋된 이후에 캐시에서 제거
+	 * 커밋 전에 제거하면 다른 요청이 커밋 전의 값을 다시 캐시에 담을 수 있으므로 AFTER_COMMIT
+	 * 트랜잭션 밖에서 발행된 이벤트는 바로 처리 (fallbackExecution)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onMemberPrincipalChanged(MemberPrincipalChangedEvent event) {
+		log.debug("회원 정보 변경으로 인증 캐시 제거: {}", event.email());
+		
+		evict(event.email());
+	}
+	
+	
+	
+	/**
+	 * 키 하나당 DB 조회 1회 (나머지 요청은 조회가 끝날 때까지 대기)
+	 * 조회 중에 evict() 되었으면 결과를 반환만 하고 캐시에는 저장하지 않음
+	 */
+	private MemberPrincipalSnapshot loadOnce(String email) {
+		CompletableFuture<MemberPrincipalSnapshot> future = new CompletableFuture<>();
+		CompletableFuture<MemberPrincipalSnapshot> inFlight = loading.putIfAbsent(email, future);
+		
+		if (inFlight != null) {
+			return join(inFlight);
+		}
+		
+		try {
+			MemberPrincipalSnapshot snapshot = load(email);
+			
+			loading.computeIfPresent(email, (key, current) -> { // evict() 와 순서 보장 (메모리 연산만 수행)
+				if (current == future && snapshot != null) {
+					cache.put(key, snapshot);
+				}
+				return current == future ? null : current;
+			});
+			future.complete(snapshot);
+			
+			return snapshot;
+		} catch (RuntimeException e) {
+			loading.remove(email, future);
+			future.completeExceptionally(e);
+			throw e;
+		}
+	}
+	
+	private static MemberPrincipalSnapshot join(CompletableFuture<MemberPrincipalSnapshot> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+	
+	private MemberPrincipalSnapshot load(String email) {
+		return memberRepository.findByEmail(email)
+				.map(MemberPrincipalSnapshot::from)
+				.orElse(null);
+	}
+}
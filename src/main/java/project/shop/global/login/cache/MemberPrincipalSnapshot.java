@@ -0,0 +1,20 @@
+package project.shop.global.login.cache;
+
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.enums.Role;
+
+/**
+ * 인증에 필요한 회원 정보만 담은 불변 스냅샷
+ * JPA 엔티티(Member)를 캐시에 그대로 담지 않고, 인증 처리에 필요한 값만 복사해서 보관
+ * 비밀번호 해시는 보관하지 않고 비밀번호 존재 여부만 보관 (소셜 로그인 회원 : false)
+ */
+public record MemberPrincipalSnapshot(Long id, String email, Role role, boolean hasPassword) {
+
+	public static MemberPrincipalSnapshot from(Member member) {
+		return new MemberPrincipalSnapshot(
+				member.getId(),
+				member.getEmail(),
+				member.getRole(),
+				member.getPassword() != null);
+	}
+}
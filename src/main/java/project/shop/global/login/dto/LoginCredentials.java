@@ -0,0 +1,14 @@
+package project.shop.global.login.dto;
+
+/**
+ * JSON 로그인 요청 본문
+ * {
+ * 		"email": "aaa@bbb.com",
+ * 		"password": "test123@"
+ * }
+ * 
+ * @param email		: 회원 아이디 (없으면 null)
+ * @param password	: 비밀번호 (없으면 null)
+ */
+public record LoginCredentials(String email, String password) {
+}
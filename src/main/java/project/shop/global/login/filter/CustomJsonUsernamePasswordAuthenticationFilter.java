@@ -1,21 +1,32 @@
 package project.shop.global.login.filter;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.Map;
+import java.io.InputStream;
 
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
-import org.springframework.util.StreamUtils;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import project.shop.global.login.dto.LoginCredentials;
+import project.shop.global.login.throttle.ClientIpResolver;
+import project.shop.global.login.throttle.LoginThrottle;
+import project.shop.global.login.throttle.LoginThrottledException;
+import project.shop.global.security.PasswordHashingRejectedException;
+import project.shop.global.util.LimitedInputStream;
 
 /**
  * Spring Security 폼 기반의 UsernamePasswordAuthenticationFilter를 참고하여 만든 커스텀 필터
@@ -27,31 +38,41 @@ public class CustomJsonUsernamePasswordAuthenticationFilter extends AbstractAuth
 
 	private static final String DEFAULT_LOGIN_REQUEST_URL = "/member/login"; // "/login"으로 오는 요청을 처리
 	private static final String HTTP_METHOD = "POST"; // 로그인 HTTP 메서드는 POST
-	private static final String CONTENT_TYPE = "application/json"; // Json 타입의 데이터로 오는 로그인 요청만 처리
+	private static final MediaType CONTENT_TYPE = MediaType.APPLICATION_JSON; // Json 타입의 데이터로 오는 로그인 요청만 처리
 	private static final String EMAIL_KEY = "email"; // 회원 로그인 시 이메일 요청 Json Key: "email"
 	private static final String PASSWORD_KEY = "password"; // 회원 로그인 시 비밀번호 요청 Json Key: "password"
+	private static final int DEFAULT_MAX_BODY_SIZE = 4 * 1024; // 로그인 요청 본문 최대 크기 (byte)
 	private static final AntPathRequestMatcher DEFAULT_LOGIN_ANT_PATH_REQUEST_MATCHER =
 			new AntPathRequestMatcher(DEFAULT_LOGIN_REQUEST_URL, HTTP_METHOD); // "/login" + POST로 온 요청에 매칭
 	
 	private final ObjectMapper objectMapper;
+	private final LoginThrottle loginThrottle;
 	
-	public CustomJsonUsernamePasswordAuthenticationFilter(ObjectMapper objectMapper) {
+	private long maxBodySize = DEFAULT_MAX_BODY_SIZE;
+	private ClientIpResolver clientIpResolver = ClientIpResolver.remoteAddress();
+	
+	public CustomJsonUsernamePasswordAuthenticationFilter(ObjectMapper objectMapper, LoginThrottle loginThrottle) {
 		super(DEFAULT_LOGIN_ANT_PATH_REQUEST_MATCHER); // 위에서 설정한 "/login" + POST로 온 요청을 처리하기위해 설정
 		this.objectMapper = objectMapper;
+		this.loginThrottle = loginThrottle;
 	}
 
 	/**
 	 * [인증 처리 메서드]
 	 * 
 	 * UsernamePasswordAuthenticationFilter와 동일하게 UsernamePasswordAuthenticationToken 사용
-	 * StreamUtils를 통해 request에서 messageBody(Json) 반환
 	 * 요청 Json Example
 	 * {
 	 * 		"email": "aaa@bbb.com"
 	 * 		"password": "test123@"
 	 * }
-	 * 꺼낸 messageBody를 objectMapper.readValue() 를 사용해 Map으로 변환 (Key: Json키 -> email, password)
-	 * Map의 Key(email, password)로 해당 이메일, 비밀번호 추출 후
+	 * 
+	 * 본문을 읽기 전에 Content-Type(application/json), Content-Length(maxBodySize 이하) 확인
+	 * 비밀번호 해시, DB 조회 전에 LoginThrottle로 시도 한도 확인 (IP -> 본문 읽기 전, 이메일 -> 인증 전)
+	 * 클라이언트 IP는 ClientIpResolver로 결정 (프록시 뒤에서는 TrustedProxyClientIpResolver)
+	 * 한도를 넘으면 LoginThrottledException -> LoginFailureHandler에서 429 응답
+	 * 
+	 * 본문은 String, Map으로 복사하지 않고 스트리밍 파서로 email, password 값만 읽음 (readCredentials())
 	 * UsernamePasswordAuthenticationToken의 파라미터 principal, credentials에 대입
 	 * 
 	 * AbstractAuthenticationProcessingFilter(부모)의 getAuthenticationManager()로 AuthenticationManager 객체를 반환 받은 후
@@ -62,19 +83,123 @@ public class CustomJsonUsernamePasswordAuthenticationFilter extends AbstractAuth
 	public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response)
 			throws AuthenticationException, IOException {
 		
-		if (request.getContentType() == null || !request.getContentType().equals(CONTENT_TYPE)) {
+		if (!isJson(request.getContentType())) {
 			throw new AuthenticationServiceException("Authentication Content-Type not Supported: " + request.getContentType());
 		}
 		
-		String messageBody = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+		if (request.getContentLengthLong() > maxBodySize) {
+			throw new AuthenticationServiceException("Authentication request body too large: " + request.getContentLengthLong());
+		}
 		
-		Map<String, String> emailPasswordMap = objectMapper.readValue(messageBody, Map.class);
+		String clientIp = clientIpResolver.resolve(request);
 		
-		String email = emailPasswordMap.get(EMAIL_KEY);
-		String password = emailPasswordMap.get(PASSWORD_KEY);
+		try {
+			loginThrottle.acquireForAddress(clientIp);
+		} catch (LoginThrottledException e) {
+			throw new AuthenticationServiceException(e.getMessage(), e);
+		}
+		
+		LoginCredentials credentials = readCredentials(request);
+		
+		String email = credentials.email();
+		String password = credentials.password();
 		
 		UsernamePasswordAuthenticationToken authRequest = new UsernamePasswordAuthenticationToken(email, password); // Principal과 credentials 전달
 		
-		return this.getAuthenticationManager().authenticate(authRequest);
+		try {
+			loginThrottle.acquireForEmail(email);
+			
+			Authentication authentication = this.getAuthenticationManager().authenticate(authRequest);
+			loginThrottle.recordSuccess(email, clientIp);
+			
+			return authentication;
+		} catch (BadCredentialsException | UsernameNotFoundException e) { // 비밀번호 불일치, 존재하지 않는 회원 (LoginService)
+			loginThrottle.recordFailure(email, clientIp);
+			throw e;
+		} catch (LoginThrottledException e) { // 로그인 시도 한도 초과 -> LoginFailureHandler에서 429 응답
+			throw new AuthenticationServiceException(e.getMessage(), e);
+		} catch (PasswordHashingRejectedException e) { // 비밀번호 해시 풀이 가득 참 -> LoginFailureHandler에서 503 응답
+			throw new AuthenticationServiceException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * 로그인 요청 본문 최대 크기 (byte)
+	 * Content-Length가 없는 요청(chunked)은 읽는 도중에 초과하면 중단
+	 */
+	public void setMaxBodySize(long maxBodySize) {
+		this.maxBodySize = maxBodySize;
+	}
+	
+	/**
+	 * LoginThrottle의 IP별 제한에 사용할 클라이언트 IP 결정 방식 (기본값 : getRemoteAddr())
+	 */
+	public void setClientIpResolver(ClientIpResolver clientIpResolver) {
+		this.clientIpResolver = clientIpResolver;
+	}
+	
+	
+	
+	/**
+	 * 요청 본문에서 email, password 값만 스트리밍으로 읽음
+	 * 
+	 * - 최상위 값은 객체만 허용, email, password 값은 문자열만 허용
+	 * - 다른 필드는 값을 만들지 않고 건너뜀 (skipChildren)
+	 * - email, password를 모두 찾으면 나머지 본문은 읽지 않음
+	 * 
+	 * 형식이 잘못되었거나 maxBodySize를 넘으면 AuthenticationServiceException -> LoginFailureHandler
+	 */
+	private LoginCredentials readCredentials(HttpServletRequest request) throws IOException {
+		InputStream body = new LimitedInputStream(request.getInputStream(), maxBodySize);
+		
+		try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new AuthenticationServiceException("Authentication request body must be a JSON object");
+			}
+			
+			String email = null;
+			String password = null;
+			
+			while ((email == null || password == null) && parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				
+				if (EMAIL_KEY.equals(field)) {
+					email = readString(parser, value, field);
+				} else if (PASSWORD_KEY.equals(field)) {
+					password = readString(parser, value, field);
+				} else {
+					parser.skipChildren();
+				}
+			}
+			
+			return new LoginCredentials(email, password);
+		} catch (LimitedInputStream.LimitExceededException e) {
+			throw new AuthenticationServiceException("Authentication request body too large", e);
+		} catch (JsonProcessingException e) {
+			throw new AuthenticationServiceException("Authentication request body is not valid JSON", e);
+		}
+	}
+	
+	private static String readString(JsonParser parser, JsonToken value, String field) throws IOException {
+		if (value == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		if (value != JsonToken.VALUE_STRING) {
+			throw new AuthenticationServiceException("Authentication field must be a string: " + field);
+		}
+		return parser.getText();
+	}
+	
+	private static boolean isJson(String contentType) {
+		if (contentType == null) {
+			return false;
+		}
+		
+		try {
+			return CONTENT_TYPE.equalsTypeAndSubtype(MediaType.parseMediaType(contentType)); // charset 파라미터 허용
+		} catch (InvalidMediaTypeException e) {
+			return false;
+		}
 	}
-}
\ No newline at end of file
+}
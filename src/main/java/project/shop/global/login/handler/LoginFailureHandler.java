@@ -2,6 +2,8 @@ package project.shop.global.login.handler;
 
 import java.io.IOException;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 
@@ -9,6 +11,8 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import project.shop.global.login.throttle.LoginThrottledException;
+import project.shop.global.security.PasswordHashingRejectedException;
 
 /**
  * JWT 로그인 실패 시 처리하는 핸들러
@@ -20,6 +24,22 @@ public class LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
 	@Override
 	public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
 			AuthenticationException exception) throws IOException, ServletException {
+		
+		if (exception.getCause() instanceof PasswordHashingRejectedException rejected) { // 비밀번호 해시 풀이 가득 참
+			writeRejected(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, rejected.getRetryAfterSeconds(), rejected.getMessage());
+			
+			log.warn("로그인 요청이 거절되었습니다. 메세지: {}", rejected.getMessage());
+			
+			return;
+		}
+		
+		if (exception.getCause() instanceof LoginThrottledException throttled) { // 로그인 시도 한도 초과
+			writeRejected(response, HttpStatus.TOO_MANY_REQUESTS.value(), throttled.getRetryAfterSeconds(), throttled.getMessage());
+			
+			log.info("로그인 시도가 제한되었습니다. IP: {}", request.getRemoteAddr());
+			
+			return;
+		}
 	
 		response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 		response.setCharacterEncoding("UTF-8");
@@ -28,4 +48,14 @@ public class LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
 		
 		log.info("로그인에 실패했습니다. 메세지: {}", exception.getMessage());
 	}
+	
+	
+	
+	private void writeRejected(HttpServletResponse response, int status, long retryAfterSeconds, String message) throws IOException {
+		response.setStatus(status);
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		response.setCharacterEncoding("UTF-8");
+		response.setContentType("text/plain;charset=UTF-8");
+		response.getWriter().write(message);
+	}
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package project.shop.global.login.handler;
 import java.io.IOException;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
@@ -12,6 +13,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.exception.MemberException;
+import project.shop.domain.member.exception.MemberExceptionType;
 import project.shop.domain.member.repository.MemberRepository;
 import project.shop.global.jwt.service.JwtService;
 
@@ -30,16 +34,16 @@ public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 										Authentication authentication) throws IOException, ServletException {
 		
 		String email = extractEmail(authentication); // 인증 정보에서 Username(email) 추출
-		String accessToken = jwtService.createAccessToken(email); // JwtService의 create 메서드를 사용해 AccessToken 발급
-		String refreshToken = jwtService.createRefreshToken(); // JwtService의 create 메서드를 사용해 RefreshToken 발급
+		Member member = memberRepository.findByEmail(email)
+				.orElseThrow(() -> new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
+		
+		// JwtService의 create 메서드를 사용해 AccessToken 발급 (회원 PK, 권한 클레임 포함)
+		String accessToken = jwtService.createAccessToken(member.getId(), email, member.getRole());
+		// JwtService의 issue 메서드를 사용해 RefreshToken 발급 + 로그인 기기별로 RefreshToken 저장
+		String refreshToken = jwtService.issueRefreshToken(member.getId(), request.getHeader(HttpHeaders.USER_AGENT));
 		
 		jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken); // 응답 헤더에 상태와 토큰들 실어서 보냄
 		
-		memberRepository.findByEmail(email)
-			.ifPresent(member -> {
-				member.updateRefreshToken(refreshToken);
-				memberRepository.saveAndFlush(member);
-			});
 		log.info("로그인에 성공하였습니다. 이메일: {}", email);
 		log.info("AccessToken을 발급합니다. AccessToken: {}", accessToken);
 		log.info("AccessToken 만료 기간: {}", accessTokenExpiration);
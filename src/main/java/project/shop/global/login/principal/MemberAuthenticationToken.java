@@ -0,0 +1,60 @@
+package project.shop.global.login.principal;
+
+import java.util.Collection;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * JWT로 인증된 회원의 인증 객체 (불변)
+ * 
+ * UsernamePasswordAuthenticationToken은 생성할 때마다 권한 목록을 복사하므로
+ * MemberPrincipal의 공유 권한 목록을 그대로 반환하는 인증 객체를 사용
+ * 
+ * 항상 인증된 상태이며, credentials(비밀번호), details는 없음
+ */
+public record MemberAuthenticationToken(MemberPrincipal principal) implements Authentication {
+
+	public static MemberAuthenticationToken authenticated(MemberPrincipal principal) {
+		return new MemberAuthenticationToken(principal);
+	}
+	
+	
+	
+	@Override
+	public String getName() {
+		return principal.getUsername();
+	}
+	
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return principal.getAuthorities();
+	}
+	
+	@Override
+	public Object getCredentials() {
+		return null;
+	}
+	
+	@Override
+	public Object getDetails() {
+		return null;
+	}
+	
+	@Override
+	public Object getPrincipal() {
+		return principal;
+	}
+	
+	@Override
+	public boolean isAuthenticated() {
+		return true;
+	}
+	
+	@Override
+	public void setAuthenticated(boolean isAuthenticated) throws IllegalArgumentException {
+		if (!isAuthenticated) {
+			throw new IllegalArgumentException("MemberAuthenticationToken은 불변 객체이므로 인증 상태를 변경할 수 없습니다.");
+		}
+	}
+}
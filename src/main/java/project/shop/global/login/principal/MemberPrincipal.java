@@ -0,0 +1,56 @@
+package project.shop.global.login.principal;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import project.shop.domain.member.enums.Role;
+
+/**
+ * JWT로 인증된 회원 (불변)
+ * 
+ * JwtAuthenticationProcessingFilter에서 요청마다 생성되므로 최소한의 값만 가짐
+ * - 비밀번호는 갖지 않음 (인증은 토큰으로 끝났으므로 필요 없음) -> getPassword() == null
+ * - 권한 목록은 Role마다 한 번만 만들어서 공유 (불변 List)
+ * 
+ * UserDetails를 구현하므로 @AuthenticationPrincipal UserDetails 로 받을 수 있음
+ */
+public record MemberPrincipal(String email, Role role) implements UserDetails {
+
+	private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+	
+	static {
+		for (Role role : Role.values()) {
+			AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority(role.getKey()))); // ROLE_USER ...
+		}
+	}
+	
+	
+	
+	/**
+	 * Role별로 미리 만든 권한 목록 (role == null 이면 빈 목록)
+	 */
+	public static List<GrantedAuthority> authorities(Role role) {
+		return role == null ? List.of() : AUTHORITIES.get(role);
+	}
+	
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return authorities(role);
+	}
+	
+	@Override
+	public String getPassword() {
+		return null;
+	}
+	
+	@Override
+	public String getUsername() {
+		return email;
+	}
+}
@@ -0,0 +1,38 @@
+package project.shop.global.login.provider;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import lombok.extern.slf4j.Slf4j;
+import project.shop.global.security.PasswordHashingRejectedException;
+
+/**
+ * 로그인(이메일, 비밀번호) 인증 Provider
+ * 
+ * DaoAuthenticationProvider는 비밀번호 검증에 성공한 뒤 오래된 해시라면 입력한 비밀번호를 다시 암호화(encode)하여
+ * UserDetailsPasswordService.updatePassword() 호출
+ * 
+ * 해시 재암호화는 로그인에 꼭 필요한 작업이 아니므로 best-effort 로 처리
+ * 해시 전용 스레드 풀이 가득 차서 encode가 거절되면 (PasswordHashingRejectedException)
+ * 기존 해시를 그대로 두고 로그인은 성공 처리 -> 다음 로그인 때 다시 재암호화 시도
+ */
+@Slf4j
+public class LoginAuthenticationProvider extends DaoAuthenticationProvider {
+
+	@Override
+	protected Authentication createSuccessAuthentication(Object principal, Authentication authentication, UserDetails user) {
+		try {
+			return super.createSuccessAuthentication(principal, authentication, user);
+		} catch (PasswordHashingRejectedException e) { // 비밀번호 검증은 이미 성공 -> 재암호화만 건너뜀
+			log.warn("비밀번호 해시 스레드 풀이 가득 차서 해시를 재암호화하지 않았습니다. email: {}", user.getUsername());
+			
+			UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken.authenticated(
+					principal, authentication.getCredentials(), user.getAuthorities());
+			result.setDetails(authentication.getDetails());
+			
+			return result;
+		}
+	}
+}
@@ -2,26 +2,55 @@ package project.shop.global.login.service;
 
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import project.shop.domain.member.entity.Member;
-import project.shop.domain.member.exception.MemberException;
 import project.shop.domain.member.exception.MemberExceptionType;
 import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.login.cache.MemberPrincipalCache;
 
+/**
+ * 로그인 회원 조회 (UserDetailsService) + 비밀번호 해시 재암호화 (UserDetailsPasswordService)
+ * 
+ * DaoAuthenticationProvider는 로그인 성공 후 PasswordEncoder.upgradeEncoding() 이 true 이면
+ * 입력한 비밀번호를 현재 설정(bcrypt cost)으로 다시 암호화하여 updatePassword() 호출
+ */
 @Service
 @RequiredArgsConstructor
-public class LoginService implements UserDetailsService {
+@Slf4j
+public class LoginService implements UserDetailsService, UserDetailsPasswordService {
 
 	private final MemberRepository memberRepository;
+	private final MemberPrincipalCache memberPrincipalCache;
 
+	/**
+	 * 비밀번호 검증에는 비밀번호 해시가 필요하므로 회원은 DB에서 조회
+	 * (캐시에는 비밀번호 해시를 담지 않음)
+	 * 
+	 * 캐시에 비밀번호가 없는 회원(소셜 로그인 회원)으로 올라와 있다면 DB 조회 없이 실패 처리
+	 * 
+	 * 실패는 UsernameNotFoundException으로 던짐 -> DaoAuthenticationProvider가 BadCredentialsException으로 바꿔서
+	 * 비밀번호 불일치와 같은 실패로 처리 (응답으로 회원 존재 여부가 드러나지 않고, LoginThrottle 실패 횟수에도 포함)
+	 * (다른 예외는 InternalAuthenticationServiceException으로 감싸져서 실패 횟수에 포함되지 않음)
+	 * 조회한 회원으로 캐시를 갱신하여 로그인 직후의 요청은 JwtAuthenticationProcessingFilter에서 캐시로 처리
+	 */
 	@Override
 	public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+		memberPrincipalCache.getIfPresent(email)
+				.filter(principal -> !principal.hasPassword())
+				.ifPresent(principal -> {
+					throw new UsernameNotFoundException(MemberExceptionType.WRONG_PASSWORD.getErrorMessage());
+				});
+		
 		Member member = memberRepository.findByEmail(email)
-				.orElseThrow(() -> new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
+				.orElseThrow(() -> new UsernameNotFoundException(MemberExceptionType.NOT_FOUND_MEMBER.getErrorMessage()));
+		
+		memberPrincipalCache.put(member);
 		
 		return User.builder()
 				.username(member.getEmail())
@@ -29,4 +58,25 @@ public class LoginService implements UserDetailsService {
 				.roles(member.getRole().name())
 				.build();
 	}
+	
+	/**
+	 * 비밀번호 해시 재암호화
+	 * 오래된 형식, cost가 다른 bcrypt 해시를 로그인 성공 시 현재 설정으로 만든 해시로 교체
+	 * 
+	 * 로그인 때 조회한 해시가 그대로인 경우에만 변경 (그 사이 비밀번호가 변경되었다면 무시)
+	 */
+	@Override
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		int updated = memberRepository.updatePasswordHash(user.getUsername(), user.getPassword(), newPassword);
+		
+		if (updated == 0) {
+			log.info("비밀번호가 변경되어 해시를 재암호화하지 않았습니다. email: {}", user.getUsername());
+			
+			return user;
+		}
+		
+		return User.withUserDetails(user)
+				.password(newPassword)
+				.build();
+	}
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package project.shop.global.login.throttle;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * LoginThrottle의 IP별 제한에 사용할 클라이언트 IP
+ * 
+ * 기본값은 request.getRemoteAddr() (직접 연결한 주소)
+ * 리버스 프록시, 로드 밸런서 뒤에서는 모든 요청의 주소가 프록시 주소가 되므로
+ * TrustedProxyClientIpResolver (login.trusted-proxies) 또는 server.forward-headers-strategy=native 설정 필요
+ */
+@FunctionalInterface
+public interface ClientIpResolver {
+
+	String resolve(HttpServletRequest request);
+	
+	static ClientIpResolver remoteAddress() {
+		return HttpServletRequest::getRemoteAddr;
+	}
+}
@@ -0,0 +1,111 @@
+package project.shop.global.login.throttle;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 키(이메일, IP) 하나의 토큰 버킷 + 연속 실패 횟수
+ * 
+ * 상태는 불변 객체(State) 하나로 두고 AtomicReference CAS로 교체 -> 락 없이 여러 요청 스레드가 동시에 갱신
+ * 토큰은 시도 시점에 지난 시간만큼 채움 (별도 스케줄러 x)
+ * 
+ * 모든 시간은 나노초 (Ticker.read())
+ */
+class LoginAttemptBucket {
+
+	private final AtomicReference<State> state;
+	
+	LoginAttemptBucket(int capacity, long now) {
+		this.state = new AtomicReference<>(new State(capacity, now, 0, now));
+	}
+	
+	
+	
+	/**
+	 * 토큰 하나 사용
+	 * 
+	 * @return 0 이면 허용, 0보다 크면 거절 (다시 시도할 수 있을 때까지 남은 나노초)
+	 */
+	long tryAcquire(long now, int capacity, double tokensPerNano) {
+		while (true) {
+			State current = state.get();
+			
+			if (now - current.blockedUntil() < 0) { // 백오프 중 -> 토큰을 쓰지 않고 거절
+				return current.blockedUntil() - now;
+			}
+			
+			double tokens = refill(current, now, capacity, tokensPerNano);
+			
+			if (tokens < 1) {
+				return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+			}
+			
+			if (state.compareAndSet(current, new State(tokens - 1, now, current.failures(), current.blockedUntil()))) {
+				return 0;
+			}
+		}
+	}
+	
+	/**
+	 * 실패 기록, 연속 실패가 threshold 이상이면 backoffBase * 2^(실패 - threshold) 동안 거절
+	 */
+	void recordFailure(long now, int threshold, long backoffBaseNanos, long backoffMaxNanos) {
+		while (true) {
+			State current = state.get();
+			int failures = current.failures() == Integer.MAX_VALUE ? current.failures() : current.failures() + 1;
+			long blockedUntil = current.blockedUntil();
+			
+			if (failures >= threshold) {
+				blockedUntil = now + backoff(failures - threshold, backoffBaseNanos, backoffMaxNanos);
+			}
+			
+			if (state.compareAndSet(current, new State(current.tokens(), current.refilledAt(), failures, blockedUntil))) {
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * 성공 시 연속 실패 초기화 (남은 토큰은 유지)
+	 */
+	void recordSuccess() {
+		while (true) {
+			State current = state.get();
+			
+			if (current.failures() == 0) {
+				return;
+			}
+			
+			// blockedUntil = refilledAt (<= now) -> 백오프 해제
+			if (state.compareAndSet(current, new State(current.tokens(), current.refilledAt(), 0, current.refilledAt()))) {
+				return;
+			}
+		}
+	}
+	
+	int failures() {
+		return state.get().failures();
+	}
+	
+	
+	
+	private static double refill(State state, long now, int capacity, double tokensPerNano) {
+		long elapsed = Math.max(0, now - state.refilledAt());
+		return Math.min(capacity, state.tokens() + elapsed * tokensPerNano);
+	}
+	
+	private static long backoff(int exponent, long baseNanos, long maxNanos) {
+		if (exponent >= Long.numberOfLeadingZeros(baseNanos) - 1) { // 2^exponent 곱하면 overflow
+			return maxNanos;
+		}
+		return Math.min(maxNanos, baseNanos << exponent);
+	}
+	
+	/**
+	 * @param tokens		: 남은 토큰 (refilledAt 시점)
+	 * @param refilledAt	: 마지막으로 토큰을 채운 시각
+	 * @param failures		: 연속 실패 횟수
+	 * @param blockedUntil	: 백오프가 끝나는 시각
+	 */
+	private record State(double tokens, long refilledAt, int failures, long blockedUntil) {
+	}
+}
@@ -0,0 +1,194 @@
+package project.shop.global.login.throttle;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 무차별 대입(brute-force) 제한
+ * 
+ * 실패한 로그인도 bcrypt 계산 1회 + DB 조회 1회가 필요하므로 막지 않으면 적은 비용으로 CPU를 소모시킬 수 있음
+ * CustomJsonUsernamePasswordAuthenticationFilter에서 인증(비밀번호 해시, DB 조회) 전에 검사
+ * 
+ * 1. 이메일별, 클라이언트 IP별 토큰 버킷 -> 버킷이 비면 거절
+ * 2. 연속 실패가 backoff-threshold 이상이면 지수 백오프 (1s, 2s, 4s ... backoff-max)
+ * 3. 로그인 성공 시 해당 이메일, IP의 연속 실패 초기화
+ * 
+ * 클라이언트 IP는 필터에서 ClientIpResolver로 결정
+ * 리버스 프록시, 로드 밸런서 뒤에 배포할 때는 login.trusted-proxies 설정 필요 (TrustedProxyClientIpResolver)
+ * 
+ * 버킷은 키별로 락 없이(CAS) 갱신하고, 키 목록은 Caffeine(ConcurrentHashMap 기반)에 저장
+ * 최대 항목 수(maximum-size)와 마지막 시도 이후 유휴 시간(idle-timeout)으로 메모리 제한
+ * 
+ * 이메일, 닉네임 중복확인(/member/availability/**)도 가입 여부를 알려주므로 클라이언트 IP별 별도 버킷으로 제한
+ * -> 로그인 실패 응답에서 숨긴 이메일 존재 여부를 중복확인으로 대량 수집하지 못하도록
+ * 
+ * 거절 시 LoginThrottledException -> 429 + Retry-After
+ * 
+ * 메트릭
+ * - login.throttle.rejected	: 거절된 로그인 시도, 중복확인 수 (scope = email / ip / availability)
+ * - login.throttle.keys		: 저장 중인 키 수 (scope = email / ip / availability)
+ */
+@Component
+@EnableConfigurationProperties(LoginThrottleProperties.class)
+@Slf4j
+public class LoginThrottle {
+
+	private final LoginThrottleProperties properties;
+	private final Ticker ticker;
+	private final Limiter emailLimiter;
+	private final Limiter ipLimiter;
+	private final Limiter availabilityLimiter;
+	
+	@Autowired
+	public LoginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+		this(properties, meterRegistry, Ticker.systemTicker());
+	}
+	
+	LoginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+		this.properties = properties;
+		this.ticker = ticker;
+		this.emailLimiter = new Limiter("email", properties.email(), LoginThrottleExceptionType.TOO_MANY_ATTEMPTS, meterRegistry);
+		this.ipLimiter = new Limiter("ip", properties.ip(), LoginThrottleExceptionType.TOO_MANY_ATTEMPTS, meterRegistry);
+		this.availabilityLimiter = new Limiter("availability", properties.availability(),
+				LoginThrottleExceptionType.TOO_MANY_AVAILABILITY_CHECKS, meterRegistry);
+	}
+	
+	
+	
+	/**
+	 * 클라이언트 IP의 시도 가능 여부 확인 (요청 본문을 읽기 전)
+	 * 
+	 * @throws LoginThrottledException 한도 초과
+	 */
+	public void acquireForAddress(String clientIp) {
+		ipLimiter.acquire(clientIp);
+	}
+	
+	/**
+	 * 이메일의 시도 가능 여부 확인 (비밀번호 확인 전)
+	 * 
+	 * @throws LoginThrottledException 한도 초과
+	 */
+	public void acquireForEmail(String email) {
+		emailLimiter.acquire(normalize(email));
+	}
+	
+	/**
+	 * 클라이언트 IP의 이메일, 닉네임 중복확인 가능 여부 확인 (로그인 버킷과 별도)
+	 * 
+	 * @throws LoginThrottledException 한도 초과
+	 */
+	public void acquireForAvailabilityCheck(String clientIp) {
+		availabilityLimiter.acquire(clientIp);
+	}
+	
+	/**
+	 * 비밀번호 불일치, 존재하지 않는 회원
+	 */
+	public void recordFailure(String email, String clientIp) {
+		emailLimiter.recordFailure(normalize(email));
+		ipLimiter.recordFailure(clientIp);
+	}
+	
+	public void recordSuccess(String email, String clientIp) {
+		emailLimiter.recordSuccess(normalize(email));
+		ipLimiter.recordSuccess(clientIp);
+	}
+	
+	
+	
+	private static String normalize(String email) {
+		return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+	}
+	
+	/**
+	 * 키 종류(email, ip) 하나의 버킷 목록
+	 */
+	private class Limiter {
+		
+		private final String scope;
+		private final LoginThrottleProperties.Policy policy;
+		private final LoginThrottleExceptionType exceptionType;
+		private final double tokensPerNano;
+		private final Cache<String, LoginAttemptBucket> buckets;
+		private final Counter rejectedCounter;
+		
+		Limiter(String scope, LoginThrottleProperties.Policy policy, LoginThrottleExceptionType exceptionType,
+				MeterRegistry meterRegistry) {
+			Duration idleTimeout = properties.idleTimeout().compareTo(properties.backoffMax()) < 0
+					? properties.backoffMax() // 백오프 중인 키가 먼저 제거되지 않도록
+					: properties.idleTimeout();
+			
+			this.scope = scope;
+			this.policy = policy;
+			this.exceptionType = exceptionType;
+			this.tokensPerNano = (double) policy.capacity() / policy.refillPeriod().toNanos();
+			this.buckets = Caffeine.newBuilder()
+					.maximumSize(properties.maximumSize())
+					.expireAfterAccess(idleTimeout)
+					.ticker(ticker)
+					.build();
+			this.rejectedCounter = Counter.builder("login.throttle.rejected")
+					.description("시도 한도를 넘어 거절된 요청 수 (로그인, 중복확인)")
+					.tag("scope", scope)
+					.register(meterRegistry);
+			
+			Gauge.builder("login.throttle.keys", buckets, Cache::estimatedSize)
+					.tag("scope", scope)
+					.register(meterRegistry);
+		}
+		
+		void acquire(String key) {
+			if (!properties.enabled() || key == null) {
+				return;
+			}
+			
+			long now = ticker.read();
+			long waitNanos = buckets.get(key, k -> new LoginAttemptBucket(policy.capacity(), now))
+					.tryAcquire(now, policy.capacity(), tokensPerNano);
+			
+			if (waitNanos > 0) {
+				rejectedCounter.increment();
+				log.debug("시도 한도 초과 ({}), 남은 시간: {}ms", scope, waitNanos / 1_000_000);
+				
+				throw new LoginThrottledException(exceptionType, Duration.ofNanos(waitNanos));
+			}
+		}
+		
+		void recordFailure(String key) {
+			if (!properties.enabled() || key == null) {
+				return;
+			}
+			
+			long now = ticker.read();
+			buckets.get(key, k -> new LoginAttemptBucket(policy.capacity(), now))
+					.recordFailure(now, policy.backoffThreshold(),
+							properties.backoffBase().toNanos(), properties.backoffMax().toNanos());
+		}
+		
+		void recordSuccess(String key) {
+			if (!properties.enabled() || key == null) {
+				return;
+			}
+			
+			LoginAttemptBucket bucket = buckets.getIfPresent(key);
+			
+			if (bucket != null) {
+				bucket.recordSuccess();
+			}
+		}
+	}
+}
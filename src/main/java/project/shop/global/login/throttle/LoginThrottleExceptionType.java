@@ -0,0 +1,40 @@
+package project.shop.global.login.throttle;
+
+import org.springframework.http.HttpStatus;
+
+import project.shop.global.exception.BaseExceptionType;
+
+public enum LoginThrottleExceptionType implements BaseExceptionType {
+	//== 로그인 시도가 너무 많은 경우 ==//
+	TOO_MANY_ATTEMPTS(701, HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+	
+	//== 이메일, 닉네임 중복확인 요청이 너무 많은 경우 ==//
+	TOO_MANY_AVAILABILITY_CHECKS(702, HttpStatus.TOO_MANY_REQUESTS, "중복확인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+	
+	private int errorCode; // 에러코드
+	private HttpStatus httpStatus; // Http 상태코드
+	private String errorMessage; // 에러 메세지
+	
+	private LoginThrottleExceptionType(int errorCode, HttpStatus httpStatus, String errorMessage) {
+		this.errorCode = errorCode;
+		this.httpStatus = httpStatus;
+		this.errorMessage = errorMessage;
+	}
+	
+	
+
+	@Override
+	public int getErrorCode() {
+		return this.errorCode;
+	}
+
+	@Override
+	public HttpStatus getHttpStatus() {
+		return this.httpStatus;
+	}
+
+	@Override
+	public String getErrorMessage() {
+		return this.errorMessage;
+	}
+}
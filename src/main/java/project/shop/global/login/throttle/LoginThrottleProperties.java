@@ -0,0 +1,71 @@
+package project.shop.global.login.throttle;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 로그인 시도 제한 설정 (login.throttle)
+ * 
+ * login:
+ *   throttle:
+ *     email:
+ *       capacity: 5              # 이메일당 연속 시도 가능 횟수
+ *       refill-period: 5m        # capacity 만큼 다시 채워지는 시간
+ *       backoff-threshold: 3     # 연속 실패가 이 횟수 이상이면 지수 백오프
+ *     ip:
+ *       capacity: 30
+ *       refill-period: 1m
+ *       backoff-threshold: 20
+ *     availability:              # 클라이언트 IP별 이메일, 닉네임 중복확인 (/member/availability/**)
+ *       capacity: 20
+ *       refill-period: 1m
+ *       backoff-threshold: 0     # 실패를 기록하지 않으므로 사용 x
+ *     backoff-base: 1s           # 첫 백오프 시간 (이후 실패마다 2배)
+ *     backoff-max: 15m
+ *     maximum-size: 100000       # 키 종류(email, ip)별 최대 항목 수
+ *     idle-timeout: 30m          # 마지막 시도 이후 이 시간이 지나면 제거
+ * 
+ * @param enabled		: 시도 제한 사용 여부
+ * @param email			: 이메일별 제한 (설정하려면 세 값 모두 지정)
+ * @param ip			: 클라이언트 IP별 제한
+ * @param availability	: 클라이언트 IP별 중복확인 제한 (가입 여부 확인으로 이메일 목록 수집 방지)
+ * @param backoffBase	: 첫 백오프 시간
+ * @param backoffMax	: 최대 백오프 시간
+ * @param maximumSize	: 키 종류별 최대 항목 수
+ * @param idleTimeout	: 사용하지 않는 항목을 제거할 시간 (backoff-max 보다 짧으면 backoff-max)
+ */
+@ConfigurationProperties(prefix = "login.throttle")
+public record LoginThrottleProperties(@DefaultValue("true") boolean enabled,
+									  Policy email,
+									  Policy ip,
+									  Policy availability,
+									  @DefaultValue("1s") Duration backoffBase,
+									  @DefaultValue("15m") Duration backoffMax,
+									  @DefaultValue("100000") long maximumSize,
+									  @DefaultValue("30m") Duration idleTimeout) {
+
+	public LoginThrottleProperties {
+		email = email != null ? email : new Policy(5, Duration.ofMinutes(5), 3);
+		ip = ip != null ? ip : new Policy(30, Duration.ofMinutes(1), 20);
+		availability = availability != null ? availability : new Policy(20, Duration.ofMinutes(1), 0);
+	}
+	
+	
+	
+
+	/**
+	 * @param capacity			: 버킷 크기 (연속 시도 가능 횟수)
+	 * @param refillPeriod		: 빈 버킷이 가득 찰 때까지 걸리는 시간
+	 * @param backoffThreshold	: 연속 실패가 이 횟수 이상이면 백오프 시작
+	 */
+	public record Policy(int capacity, Duration refillPeriod, int backoffThreshold) {
+		
+		public Policy {
+			if (capacity < 1 || refillPeriod == null || refillPeriod.isNegative() || refillPeriod.isZero()) {
+				throw new IllegalArgumentException("login.throttle 의 capacity는 1 이상, refill-period는 0보다 커야 합니다.");
+			}
+		}
+	}
+}
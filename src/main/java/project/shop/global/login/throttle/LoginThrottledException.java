@@ -0,0 +1,42 @@
+package project.shop.global.login.throttle;
+
+import java.time.Duration;
+
+import project.shop.global.exception.BaseException;
+import project.shop.global.exception.BaseExceptionType;
+
+/**
+ * 이메일 또는 클라이언트 IP의 로그인 시도 한도, 클라이언트 IP의 중복확인 한도를 넘은 경우
+ * -> 429 Too Many Requests + Retry-After 헤더로 응답
+ */
+public class LoginThrottledException extends BaseException {
+
+	private final BaseExceptionType exceptionType;
+	private final Duration retryAfter; // 클라이언트가 다시 시도할 때까지 기다릴 시간
+	
+	public LoginThrottledException(Duration retryAfter) {
+		this(LoginThrottleExceptionType.TOO_MANY_ATTEMPTS, retryAfter);
+	}
+	
+	public LoginThrottledException(BaseExceptionType exceptionType, Duration retryAfter) {
+		this.exceptionType = exceptionType;
+		this.retryAfter = retryAfter;
+	}
+	
+	@Override
+	public BaseExceptionType getExceptionType() {
+		return exceptionType;
+	}
+	
+	@Override
+	public String getMessage() {
+		return exceptionType.getErrorMessage();
+	}
+	
+	/**
+	 * Retry-After 헤더 값 (초, 최소 1초)
+	 */
+	public long getRetryAfterSeconds() {
+		return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+	}
+}
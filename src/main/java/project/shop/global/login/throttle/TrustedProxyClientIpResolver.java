@@ -0,0 +1,151 @@
+package project.shop.global.login.throttle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 신뢰하는 프록시를 거친 요청만 X-Forwarded-For 헤더로 클라이언트 IP 결정
+ * 
+ * 배포 환경 요구 사항
+ * - 리버스 프록시, 로드 밸런서 뒤에 배포할 때는 프록시 주소(IP, CIDR)를 login.trusted-proxies에 설정 (콤마로 구분)
+ *   설정하지 않으면 모든 클라이언트가 프록시 IP 하나의 버킷을 공유 -> 한 명의 실패로 모두 429
+ * - server.forward-headers-strategy=native (Tomcat RemoteIpValve) 로 getRemoteAddr() 를 이미 바꿨다면 설정하지 않음
+ * - 프록시는 X-Forwarded-For 끝에 직접 연결한 주소를 추가해야 함 (클라이언트가 보낸 값은 위조 가능)
+ * 
+ * 직접 연결한 주소가 신뢰하는 프록시가 아니라면 헤더는 무시하고 getRemoteAddr() 사용
+ * 신뢰하는 프록시라면 X-Forwarded-For를 오른쪽(마지막 프록시가 추가한 값)부터 확인해서
+ * 신뢰하는 프록시가 아닌 첫 번째 주소를 클라이언트 IP로 사용
+ * 
+ * 헤더 값은 IPv4(점 4개로 구분된 0~255), IPv6 리터럴만 사용 (isIpAddress())
+ * IpAddressMatcher는 InetAddress로 변환하므로 호스트 이름(cafe, face.cafe 등)이 들어가면 DNS 조회 또는 예외 발생
+ */
+public class TrustedProxyClientIpResolver implements ClientIpResolver {
+
+	private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+	private static final Pattern IPV4 = Pattern.compile("(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)(\\.(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)){3}");
+	private static final Pattern IPV6_GROUP = Pattern.compile("[0-9a-fA-F]{1,4}");
+	private static final int IPV6_GROUPS = 8;
+	
+	private final List<IpAddressMatcher> trustedProxies;
+	
+	/**
+	 * @param trustedProxies 신뢰하는 프록시 주소 (IP 또는 CIDR, 예: 10.0.0.0/8)
+	 */
+	public TrustedProxyClientIpResolver(List<String> trustedProxies) {
+		this.trustedProxies = trustedProxies.stream()
+				.map(String::trim)
+				.filter(proxy -> !proxy.isEmpty())
+				.map(IpAddressMatcher::new)
+				.toList();
+	}
+	
+	
+	
+	@Override
+	public String resolve(HttpServletRequest request) {
+		String clientIp = request.getRemoteAddr();
+		
+		if (!isTrustedProxy(clientIp)) {
+			return clientIp;
+		}
+		
+		List<String> forwardedFor = forwardedFor(request);
+		
+		for (int i = forwardedFor.size() - 1; i >= 0; i--) {
+			String address = forwardedFor.get(i);
+			
+			if (!isIpAddress(address)) { // 형식이 잘못된 값 -> 마지막으로 확인한 주소 사용
+				break;
+			}
+			
+			clientIp = address;
+			
+			if (!isTrustedProxy(address)) {
+				break;
+			}
+		}
+		
+		return clientIp;
+	}
+	
+	
+	
+	private boolean isTrustedProxy(String address) {
+		return isIpAddress(address) && trustedProxies.stream().anyMatch(proxy -> proxy.matches(address));
+	}
+	
+	/**
+	 * IPv4, IPv6 리터럴인지 확인 (호스트 이름 x -> DNS 조회 방지)
+	 */
+	private static boolean isIpAddress(String address) {
+		return address != null && (IPV4.matcher(address).matches() || isIpv6(address));
+	}
+	
+	/**
+	 * 16진수 1~4자리 그룹 8개를 콜론으로 구분 (예: 2001:db8:0:0:0:0:0:1)
+	 * - "::" 는 한 번만, 0으로 채운 그룹 1개 이상을 생략 (예: 2001:db8::1, ::1)
+	 * - 마지막 그룹 2개는 IPv4로 표기 가능 (예: ::ffff:192.0.2.1)
+	 * - zone id(%eth0) 는 사용 x
+	 */
+	private static boolean isIpv6(String address) {
+		int compressed = address.indexOf("::");
+		
+		if (compressed != address.lastIndexOf("::")) {
+			return false;
+		}
+		
+		if (compressed < 0) {
+			return countIpv6Groups(address, true) == IPV6_GROUPS;
+		}
+		
+		String head = address.substring(0, compressed);
+		String tail = address.substring(compressed + 2);
+		int headGroups = head.isEmpty() ? 0 : countIpv6Groups(head, false);
+		int tailGroups = tail.isEmpty() ? 0 : countIpv6Groups(tail, true);
+		
+		return headGroups >= 0 && tailGroups >= 0 && headGroups + tailGroups < IPV6_GROUPS;
+	}
+	
+	/**
+	 * 콜론으로 구분된 그룹 수 (IPv4 표기는 2개), 형식이 잘못되었다면 -1
+	 */
+	private static int countIpv6Groups(String groups, boolean ipv4Allowed) {
+		String[] parts = groups.split(":", -1);
+		int count = 0;
+		
+		for (int i = 0; i < parts.length; i++) {
+			if (ipv4Allowed && i == parts.length - 1 && IPV4.matcher(parts[i]).matches()) {
+				count += 2;
+			} else if (IPV6_GROUP.matcher(parts[i]).matches()) {
+				count++;
+			} else {
+				return -1;
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * 여러 개의 X-Forwarded-For 헤더, 콤마로 구분된 값을 순서대로 펼침
+	 */
+	private static List<String> forwardedFor(HttpServletRequest request) {
+		List<String> addresses = new ArrayList<>();
+		Enumeration<String> headers = request.getHeaders(X_FORWARDED_FOR);
+		
+		for (String header : Collections.list(headers)) {
+			for (String address : header.split(",")) {
+				addresses.add(address.trim());
+			}
+		}
+		
+		return addresses;
+	}
+}
@@ -10,11 +10,12 @@ import lombok.Getter;
 import project.shop.domain.member.enums.Role;
 
 /**
- * DefaultOAuth2User를 상속하고, email과 role 필드를 추가로 가짐
+ * DefaultOAuth2User를 상속하고, memberId, email과 role 필드를 추가로 가짐
  */
 @Getter
 public class CustomOAuth2User extends DefaultOAuth2User {
 
+	private Long memberId; // 회원 PK -> AccessToken 클레임
 	private String email;
 	private Role role;
 	
@@ -29,10 +30,11 @@ public class CustomOAuth2User extends DefaultOAuth2User {
 	 * 							{@link #getAttributes()}
 	 */
 	public CustomOAuth2User(Collection<? extends GrantedAuthority> authorities, Map<String, Object> attributes,
-			String nameAttributeKey, String email, Role role) {
+			String nameAttributeKey, Long memberId, String email, Role role) {
 		
 		super(authorities, attributes, nameAttributeKey); // 부모 객체인 DefaultOAuth2User 생성
+		this.memberId = memberId;
 		this.email = email;
-		this.role = role; // email과 role 파라미터를 추가로 받아 주입하여 CustomOAuth2User 생성
+		this.role = role; // memberId, email과 role 파라미터를 추가로 받아 주입하여 CustomOAuth2User 생성
 	}
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package project.shop.global.oauth2;
 
-import java.util.Map;
 import java.util.UUID;
 
 import lombok.Builder;
@@ -8,14 +7,10 @@ import lombok.Getter;
 import project.shop.domain.member.entity.Member;
 import project.shop.domain.member.enums.Role;
 import project.shop.domain.member.enums.SocialType;
-import project.shop.global.oauth2.userinfo.GoogleOAuth2UserInfo;
-import project.shop.global.oauth2.userinfo.KakaoOAuth2UserInfo;
-import project.shop.global.oauth2.userinfo.NaverOAuth2UserInfo;
 import project.shop.global.oauth2.userinfo.OAuth2UserInfo;
 
 /**
- * 각 소셜에서 받아오는 데이터가 다르므로
- * 소셜별로 받는 데이터를 분기 처리하는 DTO 클래스
+ * 소셜 로그인 유저 정보(OAuth2UserInfo)와 nameAttributeKey를 담는 DTO 클래스
  */
 @Getter
 public class OAuthAttributes {
@@ -32,44 +27,15 @@ public class OAuthAttributes {
 	
 	
 	/**
-	 * @param socialType에 맞는 메소드 호출하여 OAuthAttributes 객체 반환
      * @param userNameAttributeName -> OAuth2 로그인 시 키(PK)가 되는 값
-     * @param attributes : OAuth 서비스의 유저 정보들
+     * @param oauth2UserInfo : OAuth2UserInfoClient가 소셜별 userInfo 응답을 역직렬화한 유저 정보
      * 
-     * 소셜별 of 메소드(ofGoogle, ofKaKao, ofNaver)들은 각각 소셜 로그인 API에서 제공하는
-     * 회원의 식별값(id), attributes, nameAttributeKey를 저장 후 build
+     * 소셜별 분기(카카오, 네이버, 구글)는 OAuth2UserInfoClient에서 응답을 역직렬화할 때 한 번만 처리
 	 */
-	public static OAuthAttributes of(SocialType socialType, String userNameAttributeName, Map<String, Object> attributes) {
-		if (socialType == SocialType.NAVER) {
-			return ofNaver(userNameAttributeName, attributes);
-		}
-		if (socialType == SocialType.KAKAO) {
-			return ofKakao(userNameAttributeName, attributes);
-		}
-		
-		return ofGoogle(userNameAttributeName, attributes);
-	}
-	
-	
-	
-	private static OAuthAttributes ofKakao(String userNameAttributeName, Map<String, Object> attributes) {
+	public static OAuthAttributes of(String userNameAttributeName, OAuth2UserInfo oauth2UserInfo) {
 		return OAuthAttributes.builder()
 				.nameAttributeKey(userNameAttributeName)
-				.oauth2UserInfo(new KakaoOAuth2UserInfo(attributes))
-				.build();
-	}
-	
-	private static OAuthAttributes ofGoogle(String userNameAttributeName, Map<String, Object> attributes) {
-		return OAuthAttributes.builder()
-				.nameAttributeKey(userNameAttributeName)
-				.oauth2UserInfo(new GoogleOAuth2UserInfo(attributes))
-				.build();
-	}
-	
-	private static OAuthAttributes ofNaver(String userNameAttributeName, Map<String, Object> attributes) {
-		return OAuthAttributes.builder()
-				.nameAttributeKey(userNameAttributeName)
-				.oauth2UserInfo(new NaverOAuth2UserInfo(attributes))
+				.oauth2UserInfo(oauth2UserInfo)
 				.build();
 	}
 	
@@ -79,7 +45,10 @@ public class OAuthAttributes {
 	 * of 메서드로 OAuthAttributes 객체가 생성되어 유저 정보가 담긴 OAuth2UserInfo가
 	 * @param socialType별로 주입된 상태
 	 * 
-	 * @param oauth2UserInfo 에서 socialId(식별값), nickname, imageUrl을 가져와서 build
+	 * @param oauth2UserInfo 에서 socialId(식별값), imageUrl을 가져와서 build
+	 * 
+	 * 닉네임은 유니크 인덱스가 있으므로 소셜 닉네임을 그대로 저장하지 않음 (소셜 회원끼리 닉네임이 같을 수 있음)
+	 * 추가정보 입력(회원가입) 시 중복검사 후 저장
 	 * 
 	 * email에는 UUID로 중복 없는 랜덤값 생성
 	 * role은 GUEST로 설정
@@ -89,7 +58,6 @@ public class OAuthAttributes {
 				.socialType(socialType)
 				.socialId(oauth2UserInfo.getId())
 				.email(UUID.randomUUID() + "@socialUser.com")
-				.nickName(oauth2UserInfo.getNickname())
 				.imageUrl(oauth2UserInfo.getImageUrl())
 				.role(Role.GUEST)
 				.build();
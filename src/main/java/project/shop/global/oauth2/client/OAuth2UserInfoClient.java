@@ -0,0 +1,260 @@
+package project.shop.global.oauth2.client;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import project.shop.domain.member.enums.SocialType;
+import project.shop.global.oauth2.userinfo.GoogleOAuth2UserInfo;
+import project.shop.global.oauth2.userinfo.GoogleUserInfoResponse;
+import project.shop.global.oauth2.userinfo.KakaoOAuth2UserInfo;
+import project.shop.global.oauth2.userinfo.KakaoUserInfoResponse;
+import project.shop.global.oauth2.userinfo.NaverOAuth2UserInfo;
+import project.shop.global.oauth2.userinfo.NaverUserInfoResponse;
+import project.shop.global.oauth2.userinfo.OAuth2UserInfo;
+
+/**
+ * 소셜 로그인 사용자 정보(userInfo) 요청 클라이언트
+ * CustomOAuth2UserService에서 요청마다 DefaultOAuth2UserService를 만들지 않고 이 클라이언트를 공유
+ * 
+ * 응답은 Map<String, Object>로 만들지 않고 응답 바이트에서 바로 소셜별 불변 객체(XXXUserInfoResponse)로 역직렬화
+ * -> 사용하지 않는 필드는 건너뛰고, 중첩된 Map을 getter마다 꺼내서 캐스팅하지 않음
+ * 
+ * 소셜(registrationId)별로
+ * 1. HttpClient 하나 -> 연결 풀(keep-alive) 재사용, 연결 제한 시간(connect-timeout)
+ * 2. 응답 제한 시간(read-timeout) -> 초과하면 로그인 실패 (요청 스레드를 무한정 점유하지 않음)
+ * 3. 동시 요청 수 제한(bulkhead) -> 한 소셜이 느려져도 그 소셜 요청만 밀리고 다른 소셜 로그인은 처리
+ *    자리가 없으면 acquire-timeout 만큼만 기다리고 실패 (OAuth2AuthenticationException -> OAuth2LoginFailureHandler)
+ * 
+ * [가상 스레드 모드] spring.threads.virtual.enabled=true
+ * - Tomcat 요청 처리, @Async / MVC 비동기 처리(applicationTaskExecutor), @Scheduled 가 가상 스레드에서 실행 (스프링 부트)
+ * - HttpClient 내부 작업도 가상 스레드에서 실행 -> 소셜 서버 응답을 기다리는 동안 플랫폼 스레드를 점유하지 않음
+ * 가상 스레드에서는 synchronized 블록 안에서 I/O를 기다리면 캐리어 스레드까지 고정(pinning)되므로
+ * 블로킹 작업(DB 조회, HTTP 요청)은 synchronized, ConcurrentHashMap.compute() 밖에서 수행 (MemberPrincipalCache 참고)
+ * 비밀번호 해시는 CPU 작업이므로 가상 스레드 모드에서도 BoundedPasswordEncoder의 플랫폼 스레드 풀에서 실행
+ * 
+ * 메트릭
+ * - oauth2.userinfo.requests			: 요청 시간 (provider = KAKAO / NAVER / GOOGLE, outcome = success / error / rejected)
+ * - oauth2.userinfo.bulkhead.available	: 남은 동시 요청 수 (provider)
+ */
+@Component
+@EnableConfigurationProperties(OAuth2UserInfoProperties.class)
+@Slf4j
+public class OAuth2UserInfoClient implements DisposableBean {
+
+	private static final String PROVIDER_BUSY = "provider_busy";
+	private static final String INVALID_USER_INFO_RESPONSE = "invalid_user_info_response"; // DefaultOAuth2UserService와 같은 에러코드
+	private static final String MISSING_USER_INFO_URI = "missing_user_info_uri";
+	
+	private final OAuth2UserInfoProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final MappingJackson2HttpMessageConverter messageConverter;
+	private final ExecutorService executor; // HttpClient 내부 작업 (null 이면 HttpClient 기본값)
+	private final ConcurrentHashMap<String, Route> routes = new ConcurrentHashMap<>();
+	
+	public OAuth2UserInfoClient(OAuth2UserInfoProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper,
+								@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.messageConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+		this.executor = virtualThreads ? Executors.newVirtualThreadPerTaskExecutor() : null;
+		
+		log.info("소셜 로그인 userInfo 클라이언트: {} 스레드", virtualThreads ? "가상" : "플랫폼");
+	}
+	
+	
+	
+	/**
+	 * 소셜 로그인 API의 사용자 정보 제공 URI로 요청을 보내서 소셜별 OAuth2UserInfo 객체를 생성 후 반환
+	 * 
+	 * @throws OAuth2AuthenticationException 응답 오류, 식별값 없음, 제한 시간 초과, 동시 요청 수 초과
+	 */
+	public OAuth2UserInfo loadUserInfo(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
+		ClientRegistration registration = userRequest.getClientRegistration();
+		
+		if (!StringUtils.hasText(registration.getProviderDetails().getUserInfoEndpoint().getUri())) {
+			throw new OAuth2AuthenticationException(new OAuth2Error(MISSING_USER_INFO_URI,
+					"userInfo URI가 설정되지 않았습니다: " + registration.getRegistrationId(), null));
+		}
+		
+		Route route = routes.computeIfAbsent(registration.getRegistrationId(), this::createRoute);
+		
+		return route.loadUserInfo(userRequest);
+	}
+	
+	@Override
+	public void destroy() {
+		routes.values().forEach(route -> route.httpClient().close());
+		
+		if (executor != null) {
+			executor.close();
+		}
+	}
+	
+	
+	
+	private Route createRoute(String registrationId) {
+		OAuth2UserInfoProperties.Provider provider = properties.provider(registrationId);
+		SocialType socialType = SocialType.fromRegistrationId(registrationId);
+		
+		HttpClient.Builder builder = HttpClient.newBuilder()
+				.connectTimeout(provider.connectTimeout())
+				.followRedirects(HttpClient.Redirect.NEVER);
+		
+		if (executor != null) {
+			builder.executor(executor);
+		}
+		
+		HttpClient httpClient = builder.build();
+		
+		JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+		requestFactory.setReadTimeout(provider.readTimeout());
+		
+		RestClient restClient = RestClient.builder()
+				.requestFactory(requestFactory)
+				.messageConverters(converters -> {
+					converters.clear();
+					converters.add(messageConverter); // JSON 응답만 사용
+				})
+				.build();
+		
+		Semaphore bulkhead = new Semaphore(provider.maxConcurrent());
+		
+		Gauge.builder("oauth2.userinfo.bulkhead.available", bulkhead, Semaphore::availablePermits)
+				.description("소셜별 남은 동시 userInfo 요청 수")
+				.tag("provider", socialType.name())
+				.register(meterRegistry);
+		
+		log.info("소셜 로그인 userInfo 클라이언트 생성: {} (connect {}, read {}, 동시 {})",
+				registrationId, provider.connectTimeout(), provider.readTimeout(), provider.maxConcurrent());
+		
+		return new Route(httpClient, restClient, decoder(socialType), bulkhead, provider.acquireTimeout().toNanos(),
+				timer(socialType, "success"), timer(socialType, "error"), timer(socialType, "rejected"));
+	}
+	
+	/**
+	 * 소셜별 응답 타입과 OAuth2UserInfo 생성 방법
+	 */
+	private static UserInfoDecoder<?> decoder(SocialType socialType) {
+		return switch (socialType) {
+			case KAKAO -> new UserInfoDecoder<>(KakaoUserInfoResponse.class, KakaoOAuth2UserInfo::new);
+			case NAVER -> new UserInfoDecoder<>(NaverUserInfoResponse.class, NaverOAuth2UserInfo::new);
+			case GOOGLE -> new UserInfoDecoder<>(GoogleUserInfoResponse.class, GoogleOAuth2UserInfo::new);
+		};
+	}
+	
+	private Timer timer(SocialType socialType, String outcome) {
+		return Timer.builder("oauth2.userinfo.requests")
+				.description("소셜별 userInfo 요청 시간")
+				.tag("provider", socialType.name())
+				.tag("outcome", outcome)
+				.register(meterRegistry);
+	}
+	
+	/**
+	 * 소셜(registrationId) 하나의 클라이언트, bulkhead, 메트릭
+	 */
+	private record Route(HttpClient httpClient, RestClient restClient, UserInfoDecoder<?> decoder, Semaphore bulkhead,
+						 long acquireTimeoutNanos, Timer successTimer, Timer errorTimer, Timer rejectedTimer) {
+		
+		OAuth2UserInfo loadUserInfo(OAuth2UserRequest userRequest) {
+			long start = System.nanoTime();
+			
+			if (!acquire()) {
+				rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				
+				throw new OAuth2AuthenticationException(new OAuth2Error(PROVIDER_BUSY,
+						"소셜 로그인 요청이 많아 처리할 수 없습니다: " + userRequest.getClientRegistration().getRegistrationId(), null));
+			}
+			
+			try {
+				OAuth2UserInfo userInfo = decoder.read(restClient, userRequest);
+				successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				
+				return userInfo;
+			} catch (RuntimeException e) {
+				errorTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				throw e;
+			} finally {
+				bulkhead.release();
+			}
+		}
+		
+		private boolean acquire() {
+			try {
+				return bulkhead.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+	}
+	
+	/**
+	 * userInfo 응답을 type 으로 역직렬화 후 OAuth2UserInfo 생성
+	 */
+	private record UserInfoDecoder<T>(Class<T> type, Function<T, OAuth2UserInfo> factory) {
+		
+		OAuth2UserInfo read(RestClient restClient, OAuth2UserRequest userRequest) {
+			ClientRegistration registration = userRequest.getClientRegistration();
+			T response;
+			
+			try {
+				response = restClient.get()
+						.uri(registration.getProviderDetails().getUserInfoEndpoint().getUri())
+						.accept(MediaType.APPLICATION_JSON)
+						.headers(headers -> headers.setBearerAuth(userRequest.getAccessToken().getTokenValue()))
+						.retrieve()
+						.body(type);
+			} catch (RestClientException e) { // 4xx, 5xx, 제한 시간 초과, 잘못된 JSON
+				throw invalidResponse(registration, e.getMessage(), e);
+			}
+			
+			if (response == null) {
+				throw invalidResponse(registration, "응답 본문이 없습니다.", null);
+			}
+			
+			OAuth2UserInfo userInfo = factory.apply(response);
+			
+			if (userInfo.getId() == null) {
+				throw invalidResponse(registration, "응답에 소셜 식별값이 없습니다.", null);
+			}
+			
+			return userInfo;
+		}
+		
+		private static OAuth2AuthenticationException invalidResponse(ClientRegistration registration, String message, Throwable cause) {
+			OAuth2Error error = new OAuth2Error(INVALID_USER_INFO_RESPONSE,
+					"userInfo 응답을 처리할 수 없습니다 (" + registration.getRegistrationId() + "): " + message, null);
+			
+			return cause == null
+					? new OAuth2AuthenticationException(error)
+					: new OAuth2AuthenticationException(error, cause);
+		}
+	}
+}
\ No newline at end of file
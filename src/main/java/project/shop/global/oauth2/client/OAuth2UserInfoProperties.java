@@ -0,0 +1,49 @@
+package project.shop.global.oauth2.client;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 소셜 로그인 사용자 정보(userInfo) 요청 설정 (oauth2.user-info)
+ * 
+ * oauth2:
+ *   user-info:
+ *     providers:
+ *       kakao:                    # registrationId
+ *         connect-timeout: 1s
+ *         read-timeout: 2s
+ *         max-concurrent: 100     # 동시에 보낼 수 있는 요청 수 (bulkhead)
+ *         acquire-timeout: 50ms   # 자리가 없을 때 기다릴 시간
+ *       naver:
+ *         read-timeout: 5s
+ * 
+ * 설정하지 않은 소셜, 항목은 기본값 (connect 2s, read 3s, 동시 50개, 대기 100ms)
+ * 
+ * @param providers	: registrationId별 설정
+ */
+@ConfigurationProperties(prefix = "oauth2.user-info")
+public record OAuth2UserInfoProperties(@DefaultValue Map<String, Provider> providers) {
+
+	public Provider provider(String registrationId) {
+		return providers.getOrDefault(registrationId, Provider.DEFAULT);
+	}
+	
+	
+	
+	/**
+	 * @param connectTimeout	: 연결 제한 시간
+	 * @param readTimeout		: 응답 제한 시간
+	 * @param maxConcurrent		: 동시 요청 수 제한 (한 소셜이 느려져도 다른 소셜 요청은 처리)
+	 * @param acquireTimeout	: 동시 요청 수가 가득 찼을 때 기다릴 시간
+	 */
+	public record Provider(@DefaultValue("2s") Duration connectTimeout,
+						   @DefaultValue("3s") Duration readTimeout,
+						   @DefaultValue("50") int maxConcurrent,
+						   @DefaultValue("100ms") Duration acquireTimeout) {
+		
+		public static final Provider DEFAULT = new Provider(Duration.ofSeconds(2), Duration.ofSeconds(3), 50, Duration.ofMillis(100));
+	}
+}
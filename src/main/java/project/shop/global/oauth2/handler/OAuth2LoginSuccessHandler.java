@@ -2,7 +2,7 @@ package project.shop.global.oauth2.handler;
 
 import java.io.IOException;
 
-import org.eclipse.jdt.internal.compiler.util.FloatUtil;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
@@ -12,23 +12,24 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import project.shop.domain.member.entity.Member;
 import project.shop.domain.member.enums.Role;
-import project.shop.domain.member.exception.MemberException;
-import project.shop.domain.member.exception.MemberExceptionType;
-import project.shop.domain.member.repository.MemberRepository;
 import project.shop.global.jwt.service.JwtService;
-import project.shop.global.jwt.service.JwtServiceImpl;
 import project.shop.global.oauth2.CustomOAuth2User;
 
+/**
+ * 소셜 로그인 성공 처리
+ * 
+ * 회원 PK, email, role은 CustomOAuth2UserService에서 조회한 값(CustomOAuth2User)을 그대로 사용 -> 회원 재조회 x
+ * 토큰 헤더는 JwtService를 통해 한 번만 설정하고, DB 쓰기는 RefreshToken 저장(INSERT 1번)만 수행
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 
+	private static final String OAUTH2_SIGN_UP_URL = "/member/oauth2/signUp"; // 프론트의 회원가입 추가정보 입력 폼
+	
 	private final JwtService jwtService;
-	private final JwtServiceImpl jwtServiceImpl;
-	private final MemberRepository memberRepository;
 	
 	
 	
@@ -38,41 +39,37 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 		
 		log.info("OAuth2 Login 성공!");
 		
-		try {
-			CustomOAuth2User oauth2User = (CustomOAuth2User) authentication.getPrincipal();
-			
-			// Role이 GUEST일 경우는 처음 요청한 회원이므로 회원가입 페이지로 리다이렉트
-			if (oauth2User.getRole() == Role.GUEST) {
-				String accessToken = jwtService.createAccessToken(oauth2User.getEmail());
-				response.addHeader(jwtServiceImpl.getAccessHeader(), "Bearer " + accessToken);
-				response.sendRedirect("/member/oauth2/signUp"); // 프론트의 회원가입 추가정보 입력 폼으로 리다이렉트
-				
-				jwtService.sendAccessAndRefreshToken(response, accessToken, null);
-				
-//				Member findMember = memberRepository.findByEmail(oauth2User.getEmail()).orElseThrow(() ->
-//						new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
-//				
-//				findMember.addUserAuthority(); // USER 로 권한 업데이트
-			}else {
-				loginSuccess(response, oauth2User); // 로그인에 성공한 경우 access, refresh 토큰 생성
-			}
-		} catch (Exception e) {
-			// TODO: handle exception
+		CustomOAuth2User oauth2User = (CustomOAuth2User) authentication.getPrincipal();
+		
+		// Role이 GUEST일 경우는 처음 요청한 회원이므로 회원가입 페이지로 리다이렉트
+		if (oauth2User.getRole() == Role.GUEST) {
+			signUpRedirect(response, oauth2User);
+		} else {
+			loginSuccess(request, response, oauth2User); // 로그인에 성공한 경우 access, refresh 토큰 생성
 		}
 	}
 	
 	
 	
+	/**
+	 * 추가정보 입력 전(GUEST)에는 AccessToken만 발급 -> RefreshToken 저장 x (DB 쓰기 x)
+	 * 리다이렉트 시 응답이 커밋되므로 헤더를 먼저 설정
+	 */
+	private void signUpRedirect(HttpServletResponse response, CustomOAuth2User oauth2User) throws IOException {
+		String accessToken = jwtService.createAccessToken(oauth2User.getMemberId(), oauth2User.getEmail(), oauth2User.getRole());
+		
+		jwtService.setAccessTokenHeader(response, accessToken);
+		response.sendRedirect(OAUTH2_SIGN_UP_URL);
+	}
+	
 	// TODO : 소셜 로그인 시에도 무조건 토큰 생성하지 말고 JWT 인증 필터처럼 RefreshToken 유/무에 따라 다르게 처리하기
-	private void loginSuccess(HttpServletResponse response, CustomOAuth2User oauth2User) throws IOException {
-		String accessToken = jwtService.createAccessToken(oauth2User.getEmail());
-		String refreshToken = jwtService.createRefreshToken();
+	private void loginSuccess(HttpServletRequest request, HttpServletResponse response, CustomOAuth2User oauth2User) {
+		String accessToken = jwtService.createAccessToken(oauth2User.getMemberId(), oauth2User.getEmail(), oauth2User.getRole());
+		// 회원 PK로 RefreshToken 발급 + 로그인 기기별로 저장 (INSERT 1번)
+		String refreshToken = jwtService.issueRefreshToken(oauth2User.getMemberId(), request.getHeader(HttpHeaders.USER_AGENT));
 		
-		response.addHeader(jwtServiceImpl.getAccessHeader(), "Bearer " + accessToken);
-		response.addHeader(jwtServiceImpl.getRefreshHeader(), "Bearer " + refreshToken);
+		jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken); // 응답 헤더에 상태와 토큰들 실어서 보냄
 		
-		jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
-		jwtService.updateRefreshToken(oauth2User.getEmail(), refreshToken);
+		log.info("소셜 로그인에 성공하였습니다. memberId: {}", oauth2User.getMemberId());
 	}
-	
-}
\ No newline at end of file
+}
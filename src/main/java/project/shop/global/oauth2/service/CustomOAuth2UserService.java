@@ -1,10 +1,8 @@
 package project.shop.global.oauth2.service;
 
-import java.util.Collections;
 import java.util.Map;
 
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -16,8 +14,11 @@ import lombok.extern.slf4j.Slf4j;
 import project.shop.domain.member.entity.Member;
 import project.shop.domain.member.enums.SocialType;
 import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.login.principal.MemberPrincipal;
 import project.shop.global.oauth2.CustomOAuth2User;
 import project.shop.global.oauth2.OAuthAttributes;
+import project.shop.global.oauth2.client.OAuth2UserInfoClient;
+import project.shop.global.oauth2.userinfo.OAuth2UserInfo;
 
 @Service
 @Slf4j
@@ -25,9 +26,7 @@ import project.shop.global.oauth2.OAuthAttributes;
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
 	private final MemberRepository memberRepository;
-	
-	private static final String NAVER = "naver";
-	private static final String KAKAO = "kakao";
+	private final OAuth2UserInfoClient oauth2UserInfoClient;
 	
 	
 	
@@ -36,13 +35,11 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 		log.info("CustomOAuth2UserService.loadUser() 실행 - OAuth2 로그인 요청 진입");
 		
 		/**
-		 * DefaultOAuth2UserService 객체를 생성하여, loadUser(userRequest)를 통해 DefaultOAuth2User 객체를 생성 후 반환
-         * DefaultOAuth2UserService의 loadUser()는 소셜 로그인 API의 사용자 정보 제공 URI로 요청을 보내서
-         * 사용자 정보를 얻은 후, 이를 통해 DefaultOAuth2User 객체를 생성 후 반환
-         * 결과적으로, OAuth2User는 OAuth 서비스에서 가져온 유저 정보를 담고 있는 유저
+		 * OAuth2UserInfoClient의 loadUserInfo(userRequest)를 통해 소셜별 OAuth2UserInfo 객체를 생성 후 반환
+         * 소셜별 연결 풀, 제한 시간, 동시 요청 수 제한을 적용하여 소셜 로그인 API의 사용자 정보 제공 URI로 요청을 보내서
+         * 응답을 소셜별 불변 객체로 한 번만 역직렬화 (Map<String, Object> 변환 x)
 		 */
-		OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate = new DefaultOAuth2UserService();
-		OAuth2User oauth2User = delegate.loadUser(userRequest);
+		OAuth2UserInfo oauth2UserInfo = oauth2UserInfoClient.loadUserInfo(userRequest);
 		
 		/**
 		 * userRequest에서 registrationId 추출 후 registrationId로 SocialType 저장
@@ -50,22 +47,23 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
          * userNameAttributeName은 이후에 nameAttributeKey로 설정됨
 		 */
 		String registrationId = userRequest.getClientRegistration().getRegistrationId();
-		SocialType socialType =getSocialType(registrationId);
+		SocialType socialType = SocialType.fromRegistrationId(registrationId);
 		String userNameAttributeName = userRequest.getClientRegistration()
 				.getProviderDetails().getUserInfoEndpoint().getUserNameAttributeName(); // OAuth2 로그인 시 키(PK)가 되는 값
 		
-		Map<String, Object> attributes = oauth2User.getAttributes(); // 소셜 로그인에서 API가 제공하는 userInfo의 Json 값 (유저 정보들)
-		
-		// socialType에 따라 유저 정보를 통해 OAuthAttributes 객체 생성
-		OAuthAttributes extractAttributes = OAuthAttributes.of(socialType, userNameAttributeName, attributes);
+		OAuthAttributes extractAttributes = OAuthAttributes.of(userNameAttributeName, oauth2UserInfo);
 		
 		Member createMember = getMember(extractAttributes, socialType); // getMember() 로 Member 객체 생성 후 반환
 		
-		// DefaultOAuth2User를 구현한 CustomOAuth2User 객체를 생성해서 반환
+		/**
+		 * DefaultOAuth2User를 구현한 CustomOAuth2User 객체를 생성해서 반환
+		 * 로그인 이후에는 memberId, email, role만 사용하므로 attributes에는 nameAttributeKey(소셜 식별값)만 담음
+		 */
 		return new CustomOAuth2User(
-				Collections.singleton(new SimpleGrantedAuthority(createMember.getRole().getKey())),
-				attributes,
+				MemberPrincipal.authorities(createMember.getRole()),
+				Map.of(extractAttributes.getNameAttributeKey(), oauth2UserInfo.getId()),
 				extractAttributes.getNameAttributeKey(),
+				createMember.getId(),
 				createMember.getEmail(),
 				createMember.getRole()
 		);
@@ -73,23 +71,6 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 	
 	
 	
-	/**
-	 * @param registrationId
-	 * "naver", "kakao", "google" 로 분기 처리하여 맞는 소셜타입을 반환하는 메서드
-	 */
-	private SocialType getSocialType(String registrationId) {
-		if (NAVER.equals(registrationId)) {
-			return SocialType.NAVER;
-		}
-		if (KAKAO.equals(registrationId)) {
-			return SocialType.KAKAO;
-		}
-		
-		return SocialType.GOOGLE;
-	}
-	
-	
-	
 	/**
 	 * @param attributes
 	 * @param socialType
@@ -99,13 +80,10 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 	 * 만약 회원이 없다면 saveMember() 를 호출하여 회원을 저장
 	 */
 	private Member getMember(OAuthAttributes attributes, SocialType socialType) {
-		Member findMember = memberRepository.findBySocialTypeAndSocialId(socialType, attributes.getOauth2UserInfo().getId()).orElse(null);
+		String socialId = attributes.getOauth2UserInfo().getId();
 		
-		if (findMember == null) {
-			return saveMember(attributes, socialType);
-		}
-		
-		return findMember;
+		return memberRepository.findBySocialTypeAndSocialId(socialType, socialId)
+				.orElseGet(() -> saveMember(attributes, socialType));
 	}
 	
 	/**
@@ -113,10 +91,21 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 	 * toEntity() 를 통해 빌더로 Member 객체 생성 후 반환
 	 * 
 	 * 생성된 Member 객체를 DB에 저장: socialType, socialId, email, role 값만 있는 상태
+	 * 
+	 * 같은 소셜 계정으로 동시에 첫 로그인하면 (social_type, social_id) 유니크 인덱스 때문에 한 요청만 INSERT 성공
+	 * 실패한 요청은 재시도하지 않고 먼저 저장된 회원을 한 번 더 조회해서 사용 (INSERT 1회 + 조회 1회)
+	 * saveAndFlush() 로 바로 INSERT 해서 유니크 인덱스 위반을 이 메서드 안에서 확인
 	 */
 	private Member saveMember(OAuthAttributes attributes, SocialType socialType) {
 		Member createMember = attributes.toEntity(socialType, attributes.getOauth2UserInfo());
 		
-		return memberRepository.save(createMember);
+		try {
+			return memberRepository.saveAndFlush(createMember);
+		} catch (DataIntegrityViolationException e) {
+			log.info("동시에 저장된 소셜 회원 조회 - socialType: {}, socialId: {}", socialType, createMember.getSocialId());
+			
+			return memberRepository.findBySocialTypeAndSocialId(socialType, createMember.getSocialId())
+					.orElseThrow(() -> e); // 다른 제약 조건 위반
+		}
 	}
 }
\ No newline at end of file
@@ -1,32 +1,32 @@
 package project.shop.global.oauth2.userinfo;
 
-import java.util.Map;
-
 /**
  * 구글은 네이버, 카카오와는 달리 유저정보가 감싸져 있지 않음
- * 바로 get으로 유저정보 Key를 사용해서 꺼냄
+ * 응답 객체의 값을 그대로 반환
  */
 public class GoogleOAuth2UserInfo extends OAuth2UserInfo {
 
-	public GoogleOAuth2UserInfo(Map<String, Object> attributes) {
-		super(attributes);
+	private final GoogleUserInfoResponse response;
+	
+	public GoogleOAuth2UserInfo(GoogleUserInfoResponse response) {
+		this.response = response;
 	}
 
 	
 	
 	@Override
 	public String getId() {
-		return (String) attributes.get("sub");
+		return response.sub();
 	}
 
 	@Override
 	public String getNickname() {
-		return (String) attributes.get("name");
+		return response.name();
 	}
 
 	@Override
 	public String getImageUrl() {
-		return (String) attributes.get("picture");
+		return response.picture();
 	}
 }
 
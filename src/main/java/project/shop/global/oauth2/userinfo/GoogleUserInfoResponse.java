@@ -0,0 +1,20 @@
+package project.shop.global.oauth2.userinfo;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 구글 userInfo 응답 중 사용하는 값만 담은 불변 객체
+ * 응답 바이트에서 바로 역직렬화, 나머지 필드는 건너뜀
+ * 
+ * {
+ *    "sub": "식별값",
+ *    "name": "name",
+ *    "picture": "https//lh3.googleusercontent.com/~~"
+ * }
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GoogleUserInfoResponse(@JsonProperty("sub") String sub,
+									 @JsonProperty("name") String name,
+									 @JsonProperty("picture") String picture) {
+}
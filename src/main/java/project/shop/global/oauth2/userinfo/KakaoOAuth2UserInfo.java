@@ -1,58 +1,35 @@
 package project.shop.global.oauth2.userinfo;
 
-import java.util.Map;
-
 /**
  * 카카오는 네이버와 다르게 유저정보가 'kakao_account_profile'로 2번 감싸져있는 구조 ('kakao_account' -> 'profile')
- * 따라서 getdmf 2번 사용하여 데이터를 꺼낸 후 사용하고 싶은 정보의 Key로 꺼내서 사용
- * 이 때, getId는 Long으로 반환되어 (String) 으로 캐스팅 할 수 없으므로
- * String.valueOf() 를 사용하여 캐스팅
+ * 생성 시 한 번만 profile을 꺼내두고, getter는 꺼낸 값을 그대로 반환
+ * 이 때, id는 Long으로 반환되므로 String.valueOf() 를 사용하여 변환
  */
 public class KakaoOAuth2UserInfo extends OAuth2UserInfo {
 
-	public KakaoOAuth2UserInfo(Map<String, Object> attributes) {
-		super(attributes);
+	private final String id;
+	private final KakaoUserInfoResponse.Profile profile; // 프로필 동의 항목이 없으면 null
+	
+	public KakaoOAuth2UserInfo(KakaoUserInfoResponse response) {
+		this.id = response.id() == null ? null : String.valueOf(response.id());
+		this.profile = response.profile();
 	}
 
 	
 	
 	@Override
 	public String getId() {
-		return String.valueOf(attributes.get("id"));
+		return id;
 	}
 
 	@Override
 	public String getNickname() {
-		Map<String, Object> account = (Map<String, Object>) attributes.get("kakao_account");
-		
-		if (account == null) {
-			return null;
-		}
-		
-		Map<String, Object> profile = (Map<String, Object>) account.get("profile");
-		
-		if (profile == null) {
-			return null;
-		}
-		
-		return (String) profile.get("nickname");
+		return profile == null ? null : profile.nickname();
 	}
 
 	@Override
 	public String getImageUrl() {
-		Map<String, Object> account = (Map<String, Object>) attributes.get("kakao_account");
-		
-		if (account == null) {
-			return null;
-		}
-		
-		Map<String, Object> profile = (Map<String, Object>) account.get("profile");
-		
-		if (profile == null) {
-			return null;
-		}
-		
-		return (String) profile.get("thumbnail_image_url");
+		return profile == null ? null : profile.thumbnailImageUrl();
 	}
 }
 
@@ -0,0 +1,41 @@
+package project.shop.global.oauth2.userinfo;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 카카오 userInfo 응답 (/v2/user/me) 중 사용하는 값만 담은 불변 객체
+ * 응답 바이트에서 바로 역직렬화, 나머지 필드는 건너뜀
+ * 
+ * {
+ *     "id": 123456789,
+ *     "kakao_account": {
+ *         "profile": {
+ *             "nickname": "홍길동",
+ *             "thumbnail_image_url": "http://yyy.kakao.com/.../img_110x110.jpg"
+ *         }
+ *     }
+ * }
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record KakaoUserInfoResponse(@JsonProperty("id") Long id,
+									@JsonProperty("kakao_account") Account account) {
+
+	/**
+	 * 프로필 동의 항목이 없으면 null
+	 */
+	public Profile profile() {
+		return account == null ? null : account.profile();
+	}
+	
+	
+	
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public record Account(@JsonProperty("profile") Profile profile) {
+	}
+	
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public record Profile(@JsonProperty("nickname") String nickname,
+						  @JsonProperty("thumbnail_image_url") String thumbnailImageUrl) {
+	}
+}
@@ -1,53 +1,33 @@
 package project.shop.global.oauth2.userinfo;
 
-import java.util.Map;
-
 /**
  * 네이버는 attributes를 받았을 때 바로 유저정보가 있는게 아니라
  * 'response' Key로 한 번 감싸져있기 때문에
- * get("response")로 꺼낸 후
- * 사용할 정보 Key로 꺼내서 사용
- * 또한 get으로 꺼내면 Object로 반환되기 때문에 String으로 캐스팅하여 반환해야함
+ * 생성 시 한 번만 response를 꺼내두고 getter는 꺼낸 값을 그대로 반환
  */
 public class NaverOAuth2UserInfo extends OAuth2UserInfo {
 
-	public NaverOAuth2UserInfo(Map<String, Object> attributes) {
-		super(attributes);
+	private final NaverUserInfoResponse.Response response; // 응답에 response가 없으면 null
+	
+	public NaverOAuth2UserInfo(NaverUserInfoResponse response) {
+		this.response = response.response();
 	}
 
 	
 	
 	@Override
 	public String getId() {
-		Map<String, Object> response = (Map<String, Object>) attributes.get("response");
-		
-		if (response == null) {
-			return null;
-		}
-		
-		return (String) response.get("id");
+		return response == null ? null : response.id();
 	}
 
 	@Override
 	public String getNickname() {
-		Map<String, Object> response = (Map<String, Object>) attributes.get("response");
-		
-		if (response == null) {
-			return null;
-		}
-		
-		return (String) response.get("name");
+		return response == null ? null : response.name();
 	}
 
 	@Override
 	public String getImageUrl() {
-		Map<String, Object> response = (Map<String, Object>) attributes.get("response");
-		
-		if (response == null) {
-			return null;
-		}
-		
-		return (String) response.get("profile_image");
+		return response == null ? null : response.profileImage();
 	}
 }
 
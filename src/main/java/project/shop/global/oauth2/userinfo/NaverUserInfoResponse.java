@@ -0,0 +1,28 @@
+package project.shop.global.oauth2.userinfo;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 네이버 userInfo 응답 (/v1/nid/me) 중 사용하는 값만 담은 불변 객체
+ * 응답 바이트에서 바로 역직렬화, 나머지 필드는 건너뜀
+ * 
+ * {
+ *   "resultcode": "00",
+ *   "message": "success",
+ *   "response": {
+ *     "id": "32742776",
+ *     "name": "오픈 API",
+ *     "profile_image": "https://ssl.pstatic.net/static/pwe/address/nodata_33x33.gif"
+ *   }
+ * }
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NaverUserInfoResponse(@JsonProperty("response") Response response) {
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public record Response(@JsonProperty("id") String id,
+						   @JsonProperty("name") String name,
+						   @JsonProperty("profile_image") String profileImage) {
+	}
+}
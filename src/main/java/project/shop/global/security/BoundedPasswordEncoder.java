@@ -0,0 +1,171 @@
+package project.shop.global.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시(encode, matches)를 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * 
+ * bcrypt는 CPU를 많이 사용하므로 로그인이 몰리면 (이벤트 오픈, 크리덴셜 스터핑)
+ * 요청 스레드가 모두 해시 계산에 묶여 다른 API까지 느려짐
+ * 
+ * 1. 해시 작업은 크기가 고정된 스레드 풀(pool-size)에서만 실행 -> 동시에 사용하는 코어 수 제한
+ * 2. 대기열(queue-capacity)이 가득 차면 바로 거절
+ * 3. 대기열에서 max-wait 보다 오래 기다린 작업은 실행하지 않고 거절 (이미 클라이언트가 포기했을 가능성)
+ * 
+ * 거절 시 PasswordHashingRejectedException -> 503 + Retry-After
+ * 
+ * 메트릭
+ * - password.hashing.queue.size	: 대기 중인 작업 수
+ * - password.hashing.active		: 실행 중인 작업 수
+ * - password.hashing.wait			: 대기열에서 기다린 시간
+ * - password.hashing.duration		: 해시 계산 시간 (operation = encode / matches)
+ * - password.hashing.rejected		: 거절된 작업 수
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final long maxWaitNanos;
+	private final Duration retryAfter;
+	
+	private final Timer waitTimer;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Counter rejectedCounter;
+	
+	/**
+	 * @param poolSize		: 해시 스레드 수 (0 이하이면 CPU 코어 수)
+	 * @param queueCapacity	: 대기열 크기
+	 * @param maxWait		: 대기열에서 기다릴 수 있는 최대 시간
+	 * @param retryAfter	: 거절 시 Retry-After 헤더 값
+	 */
+	public BoundedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry,
+								  int poolSize, int queueCapacity, Duration maxWait, Duration retryAfter) {
+		
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		
+		this.delegate = delegate;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+		this.maxWaitNanos = maxWait.toNanos();
+		this.retryAfter = retryAfter;
+		
+		this.waitTimer = Timer.builder("password.hashing.wait")
+				.description("비밀번호 해시 작업이 대기열에서 기다린 시간")
+				.register(meterRegistry);
+		this.encodeTimer = Timer.builder("password.hashing.duration").tag("operation", "encode").register(meterRegistry);
+		this.matchesTimer = Timer.builder("password.hashing.duration").tag("operation", "matches").register(meterRegistry);
+		this.rejectedCounter = Counter.builder("password.hashing.rejected")
+				.description("대기열이 가득 찼거나 오래 기다려서 거절된 비밀번호 해시 작업 수")
+				.register(meterRegistry);
+		
+		Gauge.builder("password.hashing.queue.size", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+		Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+		Gauge.builder("password.hashing.pool.size", executor, ThreadPoolExecutor::getMaximumPoolSize).register(meterRegistry);
+	}
+	
+	
+	
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return execute(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+	}
+	
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return execute(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+	}
+	
+	/**
+	 * 해시 계산 없이 문자열만 비교하므로 요청 스레드에서 바로 실행
+	 */
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+	
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+	
+	
+	
+	private <T> T execute(Callable<T> hashing) {
+		long submittedAt = System.nanoTime();
+		Future<T> future;
+		
+		try {
+			future = executor.submit(() -> {
+				long waited = System.nanoTime() - submittedAt;
+				waitTimer.record(waited, TimeUnit.NANOSECONDS);
+				
+				if (waited > maxWaitNanos) { // 너무 오래 기다린 작업은 계산하지 않음
+					throw reject();
+				}
+				
+				return hashing.call();
+			});
+		} catch (RejectedExecutionException e) { // 대기열이 가득 참
+			throw reject();
+		}
+		
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			
+			throw reject();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+	
+	private PasswordHashingRejectedException reject() {
+		rejectedCounter.increment();
+		
+		return new PasswordHashingRejectedException(retryAfter);
+	}
+	
+	
+	
+	private static class HashingThreadFactory implements ThreadFactory {
+		
+		private final AtomicInteger sequence = new AtomicInteger();
+		
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package project.shop.global.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 설정한 cost(strength)와 다른 cost로 만들어진 해시는 재암호화 대상으로 판단하는 BCryptPasswordEncoder
+ * 
+ * BCryptPasswordEncoder.upgradeEncoding() 은 cost가 낮은 해시만 재암호화 대상으로 판단하므로
+ * cost를 낮췄을 때 (하드웨어 변경, 로그인 지연 시간 목표 변경) 기존의 비싼 해시는 계속 비싼 채로 남음
+ * -> cost가 다르면 높든 낮든 로그인 성공 시 현재 cost로 재암호화 (UserDetailsPasswordService)
+ */
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+	private final int strength;
+	
+	public CostAwareBCryptPasswordEncoder(int strength) {
+		super(strength);
+		this.strength = strength;
+	}
+	
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		if (encodedPassword == null || encodedPassword.isEmpty()) {
+			return false;
+		}
+		
+		int cost = cost(encodedPassword);
+		
+		return cost < 0 || cost != strength;
+	}
+	
+	public int getStrength() {
+		return strength;
+	}
+	
+	
+	
+	/**
+	 * "$2a$10$..." 형식의 해시에서 cost(10) 추출, 형식이 다르면 -1
+	 */
+	static int cost(String encodedPassword) {
+		if (encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$'
+				|| encodedPassword.charAt(6) != '$') {
+			return -1;
+		}
+		
+		char tens = encodedPassword.charAt(4);
+		char ones = encodedPassword.charAt(5);
+		
+		if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+			return -1;
+		}
+		
+		return (tens - '0') * 10 + (ones - '0');
+	}
+}
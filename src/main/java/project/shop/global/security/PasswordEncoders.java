@@ -0,0 +1,53 @@
+package project.shop.global.security;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.LdapShaPasswordEncoder;
+import org.springframework.security.crypto.password.Md4PasswordEncoder;
+import org.springframework.security.crypto.password.MessageDigestPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.StandardPasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+
+/**
+ * PasswordEncoderFactories.createDelegatingPasswordEncoder() 와 같은 "{id}해시" 형식의 DelegatingPasswordEncoder
+ * 
+ * bcrypt는 설정한 cost(strength)로 암호화하고, cost가 다른 해시는 재암호화 대상 (CostAwareBCryptPasswordEncoder)
+ * 나머지 id는 PasswordEncoderFactories와 동일 -> 이전에 저장된 모든 형식의 해시를 검증하고 로그인 성공 시 bcrypt로 재암호화
+ * (scrypt, argon2 해시 검증에는 PasswordEncoderFactories와 마찬가지로 BouncyCastle 필요)
+ */
+public final class PasswordEncoders {
+
+	public static final String BCRYPT_ID = "bcrypt";
+	
+	private PasswordEncoders() {
+	}
+	
+	@SuppressWarnings("deprecation")
+	public static PasswordEncoder createDelegatingPasswordEncoder(int bcryptStrength) {
+		Map<String, PasswordEncoder> encoders = new HashMap<>();
+		encoders.put(BCRYPT_ID, new CostAwareBCryptPasswordEncoder(bcryptStrength));
+		
+		//== 이전 형식 (검증 후 재암호화) ==//
+		encoders.put("ldap", new LdapShaPasswordEncoder());
+		encoders.put("MD4", new Md4PasswordEncoder());
+		encoders.put("MD5", new MessageDigestPasswordEncoder("MD5"));
+		encoders.put("noop", NoOpPasswordEncoder.getInstance());
+		encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_5());
+		encoders.put("pbkdf2@SpringSecurity_v5_8", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+		encoders.put("scrypt", SCryptPasswordEncoder.defaultsForSpringSecurity_v4_1());
+		encoders.put("scrypt@SpringSecurity_v5_8", SCryptPasswordEncoder.defaultsForSpringSecurity_v5_8());
+		encoders.put("SHA-1", new MessageDigestPasswordEncoder("SHA-1"));
+		encoders.put("SHA-256", new MessageDigestPasswordEncoder("SHA-256"));
+		encoders.put("sha256", new StandardPasswordEncoder());
+		encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_2());
+		encoders.put("argon2@SpringSecurity_v5_8", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+		
+		return new DelegatingPasswordEncoder(BCRYPT_ID, encoders);
+	}
+}
@@ -0,0 +1,136 @@
+package project.shop.global.security;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * bcrypt cost 측정 및 추천
+ * 
+ * 현재 서버에서 cost별로 encode 시간을 측정하고, p99가 목표 시간(target-latency) 이하인 가장 높은 cost를 추천
+ * 추천 값은 password.bcrypt.strength 에 설정 -> 기존 해시는 로그인 성공 시 새 cost로 재암호화
+ * 
+ * 1. 애플리케이션 시작 시 : --password.bcrypt.calibrate=true (결과는 로그로 출력)
+ * 2. 단독 실행 : java -cp <classpath> project.shop.global.security.PasswordHashCostCalibrator [목표ms] [샘플 수]
+ * 
+ * 측정 중에는 CPU를 사용하므로 트래픽이 없는 시점에 실행
+ * 로그인 요청은 BoundedPasswordEncoder 대기 시간이 더해지므로 목표 시간은 여유 있게 설정
+ */
+@Component
+@ConditionalOnProperty(name = "password.bcrypt.calibrate", havingValue = "true")
+@Slf4j
+public class PasswordHashCostCalibrator implements ApplicationRunner {
+
+	private static final int MIN_COST = 8;
+	private static final int MAX_COST = 16;
+	private static final String SAMPLE_PASSWORD = "calibration-Passw0rd!";
+	
+	@Value("${password.bcrypt.target-latency:250ms}")
+	private Duration targetLatency;
+	
+	@Value("${password.bcrypt.calibration-samples:20}")
+	private int samples;
+	
+	@Value("${password.bcrypt.strength:10}")
+	private int currentStrength;
+	
+	
+	
+	@Override
+	public void run(ApplicationArguments args) {
+		List<CostMeasurement> measurements = measure(targetLatency, samples);
+		
+		measurements.forEach(measurement -> log.info("bcrypt cost {} : p50 {}ms, p99 {}ms",
+				measurement.cost(), measurement.p50().toMillis(), measurement.p99().toMillis()));
+		
+		recommend(measurements, targetLatency).ifPresentOrElse(
+				cost -> log.info("p99 {}ms 이하 추천 bcrypt cost : {} (현재 password.bcrypt.strength : {})",
+						targetLatency.toMillis(), cost, currentStrength),
+				() -> log.warn("p99 {}ms 이하를 만족하는 bcrypt cost가 없습니다. (최소 cost {})",
+						targetLatency.toMillis(), MIN_COST));
+	}
+	
+	/**
+	 * MIN_COST 부터 cost를 1씩 올리며 측정
+	 * cost가 1 오르면 시간이 2배가 되므로, p50이 목표 시간의 2배를 넘으면 측정 중단
+	 */
+	public static List<CostMeasurement> measure(Duration targetLatency, int samples) {
+		List<CostMeasurement> measurements = new ArrayList<>();
+		
+		for (int cost = MIN_COST; cost <= MAX_COST; cost++) {
+			CostMeasurement measurement = measure(cost, samples);
+			measurements.add(measurement);
+			
+			if (measurement.p50().compareTo(targetLatency.multipliedBy(2)) > 0) {
+				break;
+			}
+		}
+		
+		return measurements;
+	}
+	
+	/**
+	 * p99가 목표 시간 이하인 가장 높은 cost
+	 */
+	public static Optional<Integer> recommend(List<CostMeasurement> measurements, Duration targetLatency) {
+		return measurements.stream()
+				.filter(measurement -> measurement.p99().compareTo(targetLatency) <= 0)
+				.map(CostMeasurement::cost)
+				.max(Integer::compare);
+	}
+	
+	
+	
+	private static CostMeasurement measure(int cost, int samples) {
+		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+		encoder.encode(SAMPLE_PASSWORD); // JIT 워밍업
+		
+		long[] elapsed = new long[Math.max(1, samples)];
+		
+		for (int i = 0; i < elapsed.length; i++) {
+			long start = System.nanoTime();
+			encoder.encode(SAMPLE_PASSWORD);
+			elapsed[i] = System.nanoTime() - start;
+		}
+		
+		Arrays.sort(elapsed);
+		
+		return new CostMeasurement(cost, Duration.ofNanos(percentile(elapsed, 0.50)), Duration.ofNanos(percentile(elapsed, 0.99)));
+	}
+	
+	private static long percentile(long[] sorted, double percentile) {
+		int index = (int) Math.ceil(percentile * sorted.length) - 1;
+		
+		return sorted[Math.min(sorted.length - 1, Math.max(0, index))];
+	}
+	
+	public record CostMeasurement(int cost, Duration p50, Duration p99) {
+	}
+	
+	
+	
+	public static void main(String[] args) {
+		Duration targetLatency = Duration.ofMillis(args.length > 0 ? Long.parseLong(args[0]) : 250);
+		int samples = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+		
+		List<CostMeasurement> measurements = measure(targetLatency, samples);
+		
+		measurements.forEach(measurement -> System.out.printf("cost %2d : p50 %5dms, p99 %5dms%n",
+				measurement.cost(), measurement.p50().toMillis(), measurement.p99().toMillis()));
+		
+		System.out.println(recommend(measurements, targetLatency)
+				.map(cost -> "recommended password.bcrypt.strength=" + cost)
+				.orElse("no cost satisfies p99 <= " + targetLatency.toMillis() + "ms"));
+	}
+}
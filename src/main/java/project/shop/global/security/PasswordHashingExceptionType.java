@@ -0,0 +1,37 @@
+package project.shop.global.security;
+
+import org.springframework.http.HttpStatus;
+
+import project.shop.global.exception.BaseExceptionType;
+
+public enum PasswordHashingExceptionType implements BaseExceptionType {
+	//== 비밀번호 해시 작업이 밀린 경우 ==//
+	SATURATED(700, HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+	
+	private int errorCode; // 에러코드
+	private HttpStatus httpStatus; // Http 상태코드
+	private String errorMessage; // 에러 메세지
+	
+	private PasswordHashingExceptionType(int errorCode, HttpStatus httpStatus, String errorMessage) {
+		this.errorCode = errorCode;
+		this.httpStatus = httpStatus;
+		this.errorMessage = errorMessage;
+	}
+	
+	
+
+	@Override
+	public int getErrorCode() {
+		return this.errorCode;
+	}
+
+	@Override
+	public HttpStatus getHttpStatus() {
+		return this.httpStatus;
+	}
+
+	@Override
+	public String getErrorMessage() {
+		return this.errorMessage;
+	}
+}
@@ -0,0 +1,37 @@
+package project.shop.global.security;
+
+import java.time.Duration;
+
+import project.shop.global.exception.BaseException;
+import project.shop.global.exception.BaseExceptionType;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀이 가득 차서 작업을 거절한 경우
+ * -> 503 Service Unavailable + Retry-After 헤더로 응답
+ */
+public class PasswordHashingRejectedException extends BaseException {
+
+	private final BaseExceptionType exceptionType = PasswordHashingExceptionType.SATURATED;
+	private final Duration retryAfter; // 클라이언트가 다시 시도할 때까지 기다릴 시간
+	
+	public PasswordHashingRejectedException(Duration retryAfter) {
+		this.retryAfter = retryAfter;
+	}
+	
+	@Override
+	public BaseExceptionType getExceptionType() {
+		return exceptionType;
+	}
+	
+	@Override
+	public String getMessage() {
+		return exceptionType.getErrorMessage();
+	}
+	
+	/**
+	 * Retry-After 헤더 값 (초, 최소 1초)
+	 */
+	public long getRetryAfterSeconds() {
+		return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+	}
+}
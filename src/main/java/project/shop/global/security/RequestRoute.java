@@ -0,0 +1,12 @@
+package project.shop.global.security;
+
+/**
+ * 요청 URI 분류
+ * 
+ * STATIC		: 정적 리소스 -> 보안 필터 없는 SecurityFilterChain
+ * PUBLIC		: 인증 없이 접근 가능한 URI (permitAll) -> 토큰 검증 x
+ * PROTECTED	: 인증이 필요한 URI -> JwtAuthenticationProcessingFilter에서 토큰 검증
+ */
+public enum RequestRoute {
+	STATIC, PUBLIC, PROTECTED
+}
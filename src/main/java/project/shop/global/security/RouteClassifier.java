@@ -0,0 +1,114 @@
+package project.shop.global.security;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청 URI를 STATIC / PUBLIC / PROTECTED 로 분류
+ * 
+ * 애플리케이션 시작 시 패턴을 한 번만 컴파일하고, 요청마다 문자열 비교만 수행
+ * (AntPathRequestMatcher와 달리 경로 문자열을 새로 만들지 않음 -> 할당 x)
+ * 
+ * 지원하는 패턴
+ * - "/path"	: 경로가 정확히 일치
+ * - "/path/**"	: "/path" 또는 "/path/" 로 시작하는 모든 경로
+ * 
+ * context-path가 있다면 getRequestURI() 에서 context-path 이후 부분만 비교
+ */
+public class RouteClassifier {
+
+	private static final String ANY_SUFFIX = "/**";
+	
+	private final CompiledPatterns staticPatterns;
+	private final CompiledPatterns publicPatterns;
+	
+	public RouteClassifier(List<String> staticPatterns, List<String> publicPatterns) {
+		this.staticPatterns = CompiledPatterns.compile(staticPatterns);
+		this.publicPatterns = CompiledPatterns.compile(publicPatterns);
+	}
+	
+	/**
+	 * SecurityRoutes의 패턴으로 생성
+	 */
+	public static RouteClassifier fromSecurityRoutes() {
+		return new RouteClassifier(SecurityRoutes.STATIC_RESOURCES, SecurityRoutes.PUBLIC_URLS);
+	}
+	
+	
+	
+	public RequestRoute classify(HttpServletRequest request) {
+		String uri = request.getRequestURI();
+		int offset = request.getContextPath() == null ? 0 : request.getContextPath().length();
+		
+		return classify(uri, offset);
+	}
+	
+	/**
+	 * @param uri		: 요청 URI
+	 * @param offset	: 비교를 시작할 위치 (context-path 길이)
+	 */
+	public RequestRoute classify(String uri, int offset) {
+		if (staticPatterns.matches(uri, offset)) {
+			return RequestRoute.STATIC;
+		}
+		if (publicPatterns.matches(uri, offset)) {
+			return RequestRoute.PUBLIC;
+		}
+		
+		return RequestRoute.PROTECTED;
+	}
+	
+	
+	
+	/**
+	 * @param exactPaths	: 정확히 일치해야 하는 경로
+	 * @param prefixes		: "/path/**" 의 "/path" 부분
+	 */
+	private record CompiledPatterns(String[] exactPaths, String[] prefixes) {
+		
+		static CompiledPatterns compile(List<String> patterns) {
+			List<String> exactPaths = new ArrayList<>();
+			List<String> prefixes = new ArrayList<>();
+			
+			for (String pattern : patterns) {
+				if (pattern.endsWith(ANY_SUFFIX)) {
+					String prefix = pattern.substring(0, pattern.length() - ANY_SUFFIX.length());
+					validate(pattern, prefix);
+					prefixes.add(prefix);
+				} else {
+					validate(pattern, pattern);
+					exactPaths.add(pattern);
+				}
+			}
+			
+			return new CompiledPatterns(exactPaths.toArray(String[]::new), prefixes.toArray(String[]::new));
+		}
+		
+		private static void validate(String pattern, String path) {
+			if (!pattern.startsWith("/") || path.indexOf('*') >= 0 || path.indexOf('?') >= 0 || path.indexOf('{') >= 0) {
+				throw new IllegalArgumentException("지원하지 않는 URI 패턴입니다: " + pattern);
+			}
+		}
+		
+		boolean matches(String uri, int offset) {
+			int length = uri.length() - offset;
+			
+			for (String exactPath : exactPaths) {
+				if (length == exactPath.length() && uri.startsWith(exactPath, offset)) {
+					return true;
+				}
+			}
+			
+			for (String prefix : prefixes) {
+				if (uri.startsWith(prefix, offset)
+						&& (length == prefix.length() || uri.charAt(offset + prefix.length()) == '/')) {
+					return true;
+				}
+			}
+			
+			return false;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package project.shop.global.security;
+
+import java.util.List;
+
+/**
+ * SecurityConfig, RouteClassifier가 함께 사용하는 URI 패턴 목록
+ * 패턴은 "/path" (정확히 일치) 또는 "/path/**" (하위 경로 전체) 형식만 사용
+ */
+public final class SecurityRoutes {
+
+	/**
+	 * 정적 리소스 -> 보안 필터를 거치지 않음
+	 */
+	public static final List<String> STATIC_RESOURCES = List.of(
+			"/css/**", "/images/**", "/js/**", "/favicon.ico", "/index.html");
+	
+	/**
+	 * 인증 없이 접근 가능한 URI (permitAll) -> 토큰 검증 x
+	 */
+	public static final List<String> PUBLIC_URLS = List.of(
+			"/", "/main", "/member/oauth2/signUp", "/member/signUp", "/member/loginHub",
+			"/member/guestSearchOrder", "/member/login", "/member/availability/**", "/.well-known/jwks.json");
+	
+	/**
+	 * 관리자(ADMIN)만 접근 가능한 URI -> 토큰의 권한 클레임이 아닌 DB의 권한으로 확인 (JwtAuthenticationProcessingFilter)
+	 */
+	public static final List<String> ADMIN_URLS = List.of("/admin/**");
+	
+	private SecurityRoutes() {
+	}
+	
+	public static String[] staticResources() {
+		return STATIC_RESOURCES.toArray(String[]::new);
+	}
+	
+	public static String[] publicUrls() {
+		return PUBLIC_URLS.toArray(String[]::new);
+	}
+	
+	public static String[] adminUrls() {
+		return ADMIN_URLS.toArray(String[]::new);
+	}
+}
@@ -0,0 +1,115 @@
+package project.shop.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom Filter (thread-safe, lock-free)
+ * 
+ * mightContain() == false 이면 추가된 적 없는 값 (false negative 없음)
+ * mightContain() == true 이면 추가된 값이거나 오탐(false positive) -> 정확한 저장소로 다시 확인해야 함
+ * 
+ * 비트 배열 크기, 해시 함수 개수는 예상 원소 수와 오탐률로 계산 (생성 후 크기 고정)
+ * 해시는 64비트 해시 1번으로 두 값을 만들어 k개의 위치를 계산 (double hashing)
+ * 원소 삭제는 지원하지 않으므로, 오래된 원소를 지우려면 새 필터로 교체
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+	
+	
+	
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("expectedInsertions must be positive");
+		}
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+		}
+		
+		long optimalBitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		
+		this.bits = new AtomicLongArray(Math.toIntExact((optimalBitSize + 63) / 64));
+		this.bitSize = bits.length() * 64L;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+	}
+	
+	
+	
+	public void put(String value) {
+		long hash = hash(value);
+		int hash1 = (int) hash;
+		int hash2 = (int) (hash >>> 32);
+		
+		for (int i = 1; i <= hashCount; i++) {
+			setBit(index(hash1 + i * hash2));
+		}
+	}
+	
+	public boolean mightContain(String value) {
+		long hash = hash(value);
+		int hash1 = (int) hash;
+		int hash2 = (int) (hash >>> 32);
+		
+		for (int i = 1; i <= hashCount; i++) {
+			if (!getBit(index(hash1 + i * hash2))) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	public long bitSize() {
+		return bitSize;
+	}
+	
+	public int hashCount() {
+		return hashCount;
+	}
+	
+	
+	
+	private long index(int combinedHash) {
+		return (combinedHash & Integer.MAX_VALUE) % bitSize;
+	}
+	
+	private void setBit(long index) {
+		int word = (int) (index >>> 6);
+		long mask = 1L << index;
+		long current;
+		
+		do {
+			current = bits.get(word);
+			
+			if ((current & mask) != 0) {
+				return;
+			}
+		} while (!bits.compareAndSet(word, current, current | mask));
+	}
+	
+	private boolean getBit(long index) {
+		return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+	}
+	
+	/**
+	 * FNV-1a 64 + 비트 섞기 (MurmurHash3 fmix64)
+	 */
+	private static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb93fe1a85ec3L;
+		hash ^= hash >>> 33;
+		
+		return hash;
+	}
+}
@@ -0,0 +1,76 @@
+package project.shop.global.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 최대 maxBytes 까지만 읽을 수 있는 InputStream
+ * Content-Length 가 없는 요청(chunked)도 본문 크기를 제한하기 위해 사용
+ * 
+ * 한도를 넘어서 읽으려고 하면 LimitExceededException
+ */
+public class LimitedInputStream extends FilterInputStream {
+
+	private long remaining;
+	
+	public LimitedInputStream(InputStream in, long maxBytes) {
+		super(in);
+		this.remaining = maxBytes;
+	}
+	
+	
+	
+	@Override
+	public int read() throws IOException {
+		int b = super.read();
+		
+		if (b != -1) {
+			consume(1);
+		}
+		return b;
+	}
+	
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		
+		int n = super.read(b, off, (int) Math.min(len, remaining + 1)); // 한도 + 1 바이트까지 읽어서 초과 여부 확인
+		
+		if (n > 0) {
+			consume(n);
+		}
+		return n;
+	}
+	
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = super.skip(Math.min(n, remaining + 1));
+		consume(skipped);
+		return skipped;
+	}
+	
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+	
+	
+	
+	private void consume(long bytes) throws LimitExceededException {
+		remaining -= bytes;
+		
+		if (remaining < 0) {
+			throw new LimitExceededException();
+		}
+	}
+	
+	public static class LimitExceededException extends IOException {
+		
+		public LimitExceededException() {
+			super("입력 크기가 허용된 최대 크기를 초과했습니다.");
+		}
+	}
+}
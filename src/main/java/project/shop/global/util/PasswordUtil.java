@@ -23,7 +23,6 @@ public class PasswordUtil {
 			
 			password.append(charSet[index]);
 		}
-		System.out.println(password);
 		
 		// StringBuffer를 String으로 변환해서 return하려면 toString()을 사용하면 됨
 		return password.toString();
@@ -0,0 +1,26 @@
+package project.shop.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰을 DB에 원문 그대로 저장하지 않고 고정 길이 해시로 저장하기 위한 유틸
+ * SHA-256 -> 64자 hex 문자열
+ */
+public class TokenHashUtil {
+
+	private static final String ALGORITHM = "SHA-256";
+	
+	public static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance(ALGORITHM) // MessageDigest는 thread-safe 하지 않으므로 매번 생성
+					.digest(token.getBytes(StandardCharsets.US_ASCII)); // JWT는 ASCII 문자로만 구성
+			
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(ALGORITHM + " 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+}
@@ -46,6 +46,53 @@ document.getElementById('signUpForm').addEventListener('click', function(event)
 	});
 });
 	
+/**
+ * [이메일, 닉네임 중복확인]
+ * 
+ * 입력이 멈추고 300ms 후에 중복확인 요청 (입력할 때마다 요청 x)
+ * 이전 요청의 응답이 늦게 오면 무시하고 마지막 입력값의 응답만 표시
+ */
+const AVAILABILITY_DELAY = 300;
+
+watchAvailability('email', '/member/availability/email?email=', '이미 존재하는 이메일 입니다.');
+watchAvailability('nickName', '/member/availability/nickName?nickName=', '이미 존재하는 닉네임 입니다.');
+
+function watchAvailability(fieldId, url, message) {
+	const input = document.getElementById(fieldId);
+	let timer = null;
+	let latest = null;
+	
+	input.addEventListener('input', function() {
+		clearTimeout(timer);
+		
+		const value = input.value.trim();
+		if (value === '') {
+			showAvailability(fieldId, true, message);
+			return;
+		}
+		
+		timer = setTimeout(function() {
+			latest = value;
+			
+			fetch(url + encodeURIComponent(value))
+			.then(response => response.ok ? response.json() : null)
+			.then(data => {
+				if (data && latest === value) { // 마지막 입력값의 응답만 표시
+					showAvailability(fieldId, data.available, message);
+				}
+			})
+			.catch(error => {
+				console.error('Error: ', error); // 중복확인 실패 시 회원가입 때 다시 검사
+			});
+		}, AVAILABILITY_DELAY);
+	});
+}
+
+function showAvailability(fieldId, available, message) {
+	document.getElementById(fieldId + 'Error').innerText = available ? "" : message;
+	document.getElementById(fieldId).style.border = available ? '' : '1px solid red';
+}
+
 function showErrors(errors) {
 	/* 모든 에러 메세지 공간 초기화 */
 	document.getElementById('nameError').innerText = "";
@@ -0,0 +1,212 @@
+package project.shop.domain.member.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import project.shop.domain.member.dto.MemberIdentityDto;
+import project.shop.domain.member.event.MemberJoinedEvent;
+import project.shop.domain.member.event.MemberNickNameChangedEvent;
+import project.shop.domain.member.repository.MemberRepository;
+
+class MemberAvailabilityIndexTest {
+
+	private static final int PAGE_SIZE = 2;
+	private static final int RACE_ITERATIONS = 2_000;
+	
+	MemberRepository memberRepository = mock(MemberRepository.class);
+	
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	
+	MemberAvailabilityIndex memberAvailabilityIndex = new MemberAvailabilityIndex(memberRepository, meterRegistry, 1000, 0.001, PAGE_SIZE);
+	
+	@BeforeEach
+	public void init() {
+		when(memberRepository.count()).thenReturn(5L);
+		// 회원 5명 -> 페이지 3번 (2, 2, 1), 소셜 회원(5번)은 닉네임 없음
+		when(memberRepository.findIdentitiesAfter(eq(0L), any(Pageable.class))).thenReturn(page(1, 2));
+		when(memberRepository.findIdentitiesAfter(eq(2L), any(Pageable.class))).thenReturn(page(3, 4));
+		when(memberRepository.findIdentitiesAfter(eq(4L), any(Pageable.class))).thenReturn(
+				List.of(new MemberIdentityDto(5L, "uuid@socialUser.com", null)));
+	}
+	
+	private List<MemberIdentityDto> page(long from, long to) {
+		return LongStream.rangeClosed(from, to)
+				.mapToObj(id -> new MemberIdentityDto(id, "member" + id + "@gmail.com", "nick" + id))
+				.toList();
+	}
+	
+	private static void await(CyclicBarrier barrier) {
+		try {
+			barrier.await();
+		} catch (InterruptedException | BrokenBarrierException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private double checks(String source) {
+		return meterRegistry.get("member.availability.checks").tag("source", source).counter().count();
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 인덱스_생성_전에는_DB로_확인() throws Exception {
+		// given
+		when(memberRepository.existsByEmail("member1@gmail.com")).thenReturn(true);
+		
+		// when, then
+		assertThat(memberAvailabilityIndex.isEmailAvailable("member1@gmail.com")).isFalse();
+		assertThat(memberAvailabilityIndex.isEmailAvailable("new@gmail.com")).isTrue();
+		assertThat(checks("database")).isEqualTo(2);
+	}
+	
+	@Test
+	public void 인덱스에_없는_값은_DB_조회_없이_사용_가능() throws Exception {
+		// given
+		memberAvailabilityIndex.rebuild();
+		
+		// when
+		for (int i = 0; i < 1000; i++) {
+			assertThat(memberAvailabilityIndex.isEmailAvailable("new" + i + "@gmail.com")).isTrue();
+		}
+		
+		// then : 오탐률 0.1% -> 대부분 DB 조회 x
+		verify(memberRepository, times(3)).findIdentitiesAfter(any(), any(Pageable.class));
+		assertThat(checks("filter")).isGreaterThan(990);
+		assertThat(memberAvailabilityIndex.isNickNameAvailable("newNick")).isTrue();
+		verify(memberRepository, never()).existsByNickName(anyString());
+	}
+	
+	@Test
+	public void 인덱스에_있는_값은_DB로_확인() throws Exception {
+		// given
+		memberAvailabilityIndex.rebuild();
+		when(memberRepository.existsByEmail("Member3@gmail.com")).thenReturn(true);
+		when(memberRepository.existsByNickName("nick4")).thenReturn(false); // 탈퇴한 회원
+		
+		// when, then : 대소문자, 앞뒤 공백은 같은 값으로 판단
+		assertThat(memberAvailabilityIndex.isEmailAvailable(" Member3@gmail.com ")).isFalse();
+		assertThat(memberAvailabilityIndex.isNickNameAvailable("nick4")).isTrue();
+		assertThat(checks("database")).isEqualTo(2);
+	}
+	
+	@Test
+	public void 가입한_회원은_인덱스에_추가() throws Exception {
+		// given
+		memberAvailabilityIndex.rebuild();
+		when(memberRepository.existsByNickName("joined")).thenReturn(true);
+		
+		// when
+		memberAvailabilityIndex.onMemberJoined(new MemberJoinedEvent("joined@gmail.com", "joined"));
+		
+		// then
+		assertThat(memberAvailabilityIndex.isNickNameAvailable("joined")).isFalse();
+		verify(memberRepository, times(1)).existsByNickName("joined");
+		assertThat(meterRegistry.get("member.availability.indexed").gauge().value()).isEqualTo(6);
+	}
+	
+	@Test
+	public void 변경된_닉네임은_인덱스에_추가() throws Exception {
+		// given : 닉네임이 없는 소셜 회원(5번)이 추가정보 입력
+		memberAvailabilityIndex.rebuild();
+		when(memberRepository.existsByNickName("guestNick")).thenReturn(true);
+		assertThat(memberAvailabilityIndex.isNickNameAvailable("guestNick")).isTrue();
+		
+		// when
+		memberAvailabilityIndex.onMemberNickNameChanged(new MemberNickNameChangedEvent("guestNick"));
+		
+		// then : 인덱스에 있으므로 DB로 확인, 회원 수는 그대로
+		assertThat(memberAvailabilityIndex.isNickNameAvailable("guestNick")).isFalse();
+		verify(memberRepository, times(1)).existsByNickName("guestNick");
+		assertThat(meterRegistry.get("member.availability.indexed").gauge().value()).isEqualTo(5);
+	}
+	
+	@Test
+	public void 마지막_페이지를_읽은_뒤_교체_전에_가입한_회원도_새_인덱스에_추가() throws Exception {
+		// given : 기존 인덱스 사용 중
+		memberAvailabilityIndex.rebuild();
+		when(memberRepository.existsByEmail("joined@gmail.com")).thenReturn(true);
+		
+		// 다시 생성할 때 마지막 페이지를 읽은 직후(교체 전)에 가입 커밋 -> 읽은 페이지에는 없음
+		when(memberRepository.findIdentitiesAfter(eq(4L), any(Pageable.class))).thenAnswer(invocation -> {
+			memberAvailabilityIndex.onMemberJoined(new MemberJoinedEvent("joined@gmail.com", "joined"));
+			return List.of(new MemberIdentityDto(5L, "uuid@socialUser.com", null));
+		});
+		
+		// when
+		memberAvailabilityIndex.rebuild();
+		
+		// then : 교체된 인덱스에 있으므로 DB로 확인
+		assertThat(memberAvailabilityIndex.isEmailAvailable("joined@gmail.com")).isFalse();
+		verify(memberRepository, times(1)).existsByEmail("joined@gmail.com");
+		assertThat(meterRegistry.get("member.availability.indexed").gauge().value()).isEqualTo(6);
+	}
+	
+	@Test
+	public void 인덱스_교체와_동시에_가입한_회원도_새_인덱스에_추가() throws Exception {
+		// given : 인덱스 생성이 빨라서 교체(filters = next, building = null)와 가입이 자주 겹침
+		List<MemberIdentityDto> committed = new CopyOnWriteArrayList<>(); // 커밋된 회원 (DB)
+		MemberRepository raceRepository = mock(MemberRepository.class);
+		when(raceRepository.findIdentitiesAfter(any(), any(Pageable.class))).thenAnswer(invocation -> List.copyOf(committed));
+		when(raceRepository.existsByEmail(anyString())).thenReturn(true); // 인덱스에 있으면 사용 중
+		
+		MemberAvailabilityIndex index = new MemberAvailabilityIndex(raceRepository, new SimpleMeterRegistry(),
+				RACE_ITERATIONS * 2, 0.001, Integer.MAX_VALUE);
+		index.rebuild();
+		
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		
+		for (int i = 0; i < RACE_ITERATIONS; i++) {
+			String email = "race" + i + "@gmail.com";
+			
+			// when
+			Thread rebuild = Thread.ofPlatform().start(() -> {
+				await(barrier);
+				index.rebuild();
+			});
+			await(barrier);
+			committed.add(new MemberIdentityDto((long) i + 1, email, null));
+			index.onMemberJoined(new MemberJoinedEvent(email, null)); // 커밋 이후
+
+			rebuild.join();
+			
+			// then : 교체된 인덱스가 사용 가능으로 응답하지 않음
+			assertThat(index.isEmailAvailable(email)).as(email).isFalse();
+		}
+	}
+	
+	@Test
+	public void 인덱스_생성에_실패하면_DB로_확인() throws Exception {
+		// given
+		when(memberRepository.findIdentitiesAfter(eq(2L), any(Pageable.class))).thenThrow(new IllegalStateException("DB 연결 실패"));
+		
+		// when
+		memberAvailabilityIndex.rebuild();
+		
+		// then
+		assertThat(memberAvailabilityIndex.isEmailAvailable("new@gmail.com")).isTrue();
+		verify(memberRepository, times(1)).existsByEmail("new@gmail.com");
+	}
+}
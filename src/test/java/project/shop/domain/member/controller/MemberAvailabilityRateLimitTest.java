@@ -0,0 +1,95 @@
+package project.shop.domain.member.controller;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import project.shop.domain.member.availability.MemberAvailabilityIndex;
+import project.shop.domain.member.repository.MemberRepository;
+import project.shop.domain.member.service.MemberService;
+import project.shop.global.exception.ExceptionAdvice;
+import project.shop.global.login.service.LoginService;
+import project.shop.global.login.throttle.LoginThrottle;
+import project.shop.global.login.throttle.LoginThrottleProperties;
+import project.shop.global.login.throttle.LoginThrottleProperties.Policy;
+import project.shop.global.login.throttle.TrustedProxyClientIpResolver;
+
+/**
+ * 이메일, 닉네임 중복확인의 클라이언트 IP별 요청 수 제한 (가입 여부로 이메일 목록 수집 방지)
+ */
+class MemberAvailabilityRateLimitTest {
+
+	MemberAvailabilityIndex memberAvailabilityIndex = mock(MemberAvailabilityIndex.class);
+	
+	MockMvc mockMvc;
+	
+	@BeforeEach
+	public void init() {
+		LoginThrottle loginThrottle = new LoginThrottle(new LoginThrottleProperties(true,
+				null, null, new Policy(3, Duration.ofMinutes(1), 0),
+				Duration.ofSeconds(1), Duration.ofMinutes(15), 1000, Duration.ofMinutes(30)),
+				new SimpleMeterRegistry());
+		
+		MemberRestController controller = new MemberRestController(mock(MemberRepository.class), mock(MemberService.class),
+				mock(LoginService.class), memberAvailabilityIndex, loginThrottle,
+				new TrustedProxyClientIpResolver(List.of("127.0.0.1")));
+		
+		mockMvc = MockMvcBuilders.standaloneSetup(controller)
+				.setControllerAdvice(new ExceptionAdvice())
+				.build();
+		
+		when(memberAvailabilityIndex.isEmailAvailable(anyString())).thenReturn(true);
+		when(memberAvailabilityIndex.isNickNameAvailable(anyString())).thenReturn(true);
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 한도를_넘으면_429() throws Exception {
+		// given
+		for (int i = 0; i < 3; i++) {
+			mockMvc.perform(get("/member/availability/email").param("email", "member" + i + "@test.com")
+					.header("X-Forwarded-For", "203.0.113.7"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.available").value(true));
+		}
+		
+		// when, then : 닉네임 중복확인도 같은 버킷 사용
+		mockMvc.perform(get("/member/availability/nickName").param("nickName", "nickName")
+				.header("X-Forwarded-For", "203.0.113.7"))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string("Retry-After", "20"))
+				.andExpect(jsonPath("$.errorCode").value(702));
+	}
+	
+	@Test
+	public void 클라이언트_IP별로_제한() throws Exception {
+		// given
+		for (int i = 0; i < 3; i++) {
+			mockMvc.perform(get("/member/availability/email").param("email", "member@test.com")
+					.header("X-Forwarded-For", "203.0.113.7"));
+		}
+		
+		// when, then
+		mockMvc.perform(get("/member/availability/email").param("email", "member@test.com")
+				.header("X-Forwarded-For", "203.0.113.8"))
+				.andExpect(status().isOk());
+	}
+}
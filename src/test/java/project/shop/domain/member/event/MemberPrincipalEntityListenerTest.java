@@ -0,0 +1,71 @@
+package project.shop.domain.member.event;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.enums.SocialType;
+
+class MemberPrincipalEntityListenerTest {
+
+	ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	
+	MemberPrincipalEntityListener listener = new MemberPrincipalEntityListener(eventPublisher);
+	
+	private Member guest() {
+		return Member.builder()
+				.email("uuid@socialUser.com")
+				.password("password")
+				.role(Role.GUEST)
+				.socialType(SocialType.KAKAO)
+				.socialId("123456789")
+				.build();
+	}
+	
+	
+	
+	//== TEST ==//
+	/**
+	 * 소셜 회원의 추가정보 입력(닉네임 변경) -> flush 시 1번만 MemberNickNameChangedEvent 발행
+	 */
+	@Test
+	public void 닉네임이_변경되면_이벤트_발행() throws Exception {
+		// given
+		Member member = guest();
+		member.updateNickName("guestNick");
+		
+		// when
+		listener.postUpdate(member);
+		listener.postUpdate(member); // 이후 다른 변경으로 다시 flush
+		
+		// then
+		verify(eventPublisher, times(1)).publishEvent(new MemberNickNameChangedEvent("guestNick"));
+		verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+	}
+	
+	
+	
+	/**
+	 * 같은 닉네임으로 수정, 닉네임 이외의 변경 -> 이벤트 x
+	 */
+	@Test
+	public void 닉네임이_그대로면_이벤트_없음() throws Exception {
+		// given
+		Member member = guest();
+		member.updateNickName(null);
+		member.updateName("spring");
+		
+		// when
+		listener.postUpdate(member);
+		
+		// then
+		verifyNoInteractions(eventPublisher);
+	}
+}
@@ -0,0 +1,142 @@
+package project.shop.domain.member.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import jakarta.persistence.EntityManager;
+import project.shop.domain.member.dto.MemberAdminDto;
+import project.shop.domain.member.dto.MemberAdminPageDto;
+import project.shop.domain.member.dto.MemberInfoDto;
+import project.shop.domain.member.dto.MemberSearchCondition;
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.enums.SocialType;
+import project.shop.global.config.QuerydslConfig;
+
+@DataJpaTest(properties = {
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@Import({QuerydslConfig.class, MemberQueryRepository.class})
+class MemberQueryRepositoryTest {
+
+	@Autowired
+	MemberQueryRepository memberQueryRepository;
+	
+	@Autowired
+	EntityManager em;
+	
+	List<Long> memberIds = new ArrayList<>();
+	
+	@BeforeEach
+	public void init() {
+		// 회원 25명 : 5명마다 1명은 추가정보 입력 전 카카오 회원(GUEST)
+		for (int i = 1; i <= 25; i++) {
+			boolean guest = i % 5 == 0;
+			
+			Member member = Member.builder()
+					.email("member" + i + "@gmail.com")
+					.password("password")
+					.name(guest ? null : "spring" + i)
+					.nickName(guest ? null : (i % 2 == 0 ? "even" : "odd") + i)
+					.role(guest ? Role.GUEST : Role.USER)
+					.socialType(guest ? SocialType.KAKAO : null)
+					.socialId(guest ? String.valueOf(i) : null)
+					.build();
+			
+			em.persist(member);
+			memberIds.add(member.getId());
+		}
+		
+		em.flush();
+		em.clear();
+	}
+	
+	private MemberSearchCondition noCondition() {
+		return new MemberSearchCondition(null, null, null, null, null, null);
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 회원_정보는_엔티티_없이_DTO로_조회() throws Exception {
+		// when
+		MemberInfoDto info = memberQueryRepository.findInfoById(memberIds.get(0)).orElseThrow();
+		
+		// then
+		assertThat(info.getEmail()).isEqualTo("member1@gmail.com");
+		assertThat(info.getName()).isEqualTo("spring1");
+		assertThat(info.getNickName()).isEqualTo("odd1");
+		assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero(); // 영속성 컨텍스트에 Member x
+	}
+	
+	@Test
+	public void 이메일로_회원_정보_조회() throws Exception {
+		assertThat(memberQueryRepository.findInfoByEmail("member2@gmail.com")).get()
+				.extracting(MemberInfoDto::getNickName).isEqualTo("even2");
+		assertThat(memberQueryRepository.findInfoByEmail("none@gmail.com")).isEmpty();
+	}
+	
+	@Test
+	public void keyset_페이징으로_전체_회원_조회() throws Exception {
+		// when
+		MemberAdminPageDto first = memberQueryRepository.search(noCondition(), null, 10);
+		MemberAdminPageDto second = memberQueryRepository.search(noCondition(), first.lastMemberId(), 10);
+		MemberAdminPageDto third = memberQueryRepository.search(noCondition(), second.lastMemberId(), 10);
+		
+		// then
+		assertThat(first.members()).extracting(MemberAdminDto::id).containsExactlyElementsOf(memberIds.subList(0, 10));
+		assertThat(second.members()).extracting(MemberAdminDto::id).containsExactlyElementsOf(memberIds.subList(10, 20));
+		assertThat(third.members()).extracting(MemberAdminDto::id).containsExactlyElementsOf(memberIds.subList(20, 25));
+		assertThat(first.hasNext()).isTrue();
+		assertThat(third.hasNext()).isFalse();
+	}
+	
+	@Test
+	public void 검색_조건으로_회원_조회() throws Exception {
+		// when
+		MemberAdminPageDto guests = memberQueryRepository.search(
+				new MemberSearchCondition(Role.GUEST, SocialType.KAKAO, null, null, null, null), null, 100);
+		MemberAdminPageDto evenNickNames = memberQueryRepository.search(
+				new MemberSearchCondition(Role.USER, null, null, null, null, "even"), null, 100);
+		MemberAdminPageDto names = memberQueryRepository.search(
+				new MemberSearchCondition(null, null, null, null, "spring1", null), null, 100);
+		
+		// then
+		assertThat(guests.members()).hasSize(5).allMatch(member -> member.role() == Role.GUEST);
+		assertThat(evenNickNames.members()).hasSize(10).allMatch(member -> member.nickName().startsWith("even"));
+		assertThat(names.members()).extracting(MemberAdminDto::name)
+				.containsExactly("spring1", "spring11", "spring12", "spring13", "spring14", "spring16", "spring17", "spring18", "spring19");
+	}
+	
+	@Test
+	public void 가입일시_범위로_회원_조회() throws Exception {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		
+		// when
+		MemberAdminPageDto today = memberQueryRepository.search(
+				new MemberSearchCondition(null, null, now.minusDays(1), now.plusDays(1), null, null), null, 100);
+		MemberAdminPageDto yesterday = memberQueryRepository.search(
+				new MemberSearchCondition(null, null, now.minusDays(2), now.minusDays(1), null, null), null, 100);
+		
+		// then
+		assertThat(today.members()).hasSize(25);
+		assertThat(yesterday.members()).isEmpty();
+	}
+}
@@ -0,0 +1,205 @@
+package project.shop.domain.member.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import project.shop.domain.member.enums.SocialType;
+
+/**
+ * MemberRepository 조회 쿼리 실행 계획 회귀 테스트
+ * 
+ * Member 매핑으로 생성한 테이블(H2)에 회원을 넣고, 각 조회 메서드가 실제로 실행한 SQL을 EXPLAIN 해서
+ * 테이블 전체를 읽지 않는지(tableScan x) 확인
+ * 조회 조건이 추가되면 Member @Table(indexes)에 인덱스를 함께 추가하고 이 테스트에 케이스 추가
+ * 
+ * 회원은 클래스마다 한 번만 넣고 커밋 (analyze도 커밋을 일으키므로 테스트 트랜잭션 x), 마지막에 truncate
+ * 실행한 SQL을 확인해야 하므로 2차 캐시는 사용 x
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+				+ "project.shop.domain.member.repository.MemberRepositoryIndexTest$RecordingStatementInspector"
+})
+@TestInstance(Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberRepositoryIndexTest {
+
+	private static final int MEMBERS = Integer.getInteger("indexTest.members", 100_000);
+	
+	@Autowired
+	MemberRepository memberRepository;
+	
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+	
+	@BeforeAll
+	public void seed() {
+		// 일반 회원 4/5, 추가정보 입력 전 소셜 회원 1/5 (닉네임 null)
+		jdbcTemplate.execute("""
+				insert into member (email, password, nick_name, role, social_type, social_id)
+				select concat('member', x, '@test.com'), 'password',
+					case when mod(x, 5) = 0 then null else concat('nick', x) end,
+					case when mod(x, 5) = 0 then 'GUEST' else 'USER' end,
+					case when mod(x, 5) = 0 then 'KAKAO' else null end,
+					case when mod(x, 5) = 0 then cast(x as varchar) else null end
+				from system_range(1, %d)""".formatted(MEMBERS));
+		jdbcTemplate.execute("analyze");
+	}
+	
+	@BeforeEach
+	public void init() {
+		RecordingStatementInspector.STATEMENTS.clear();
+	}
+	
+	@AfterAll
+	public void tearDown() {
+		jdbcTemplate.execute("truncate table member");
+	}
+	
+	/**
+	 * 마지막으로 실행된 SQL을 EXPLAIN
+	 * 파라미터는 args 순서대로 바인딩하고, 남은 파라미터(limit 등)는 1로 바인딩
+	 */
+	private String explainLastStatement(Object... args) {
+		List<String> statements = RecordingStatementInspector.STATEMENTS;
+		assertThat(statements).isNotEmpty();
+		String sql = statements.get(statements.size() - 1);
+		
+		return jdbcTemplate.execute((Connection connection) -> {
+			try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+				int parameterCount = statement.getParameterMetaData().getParameterCount();
+				
+				for (int i = 1; i <= parameterCount; i++) {
+					statement.setObject(i, i <= args.length ? args[i - 1] : 1);
+				}
+				
+				List<String> plan = new ArrayList<>();
+				try (ResultSet resultSet = statement.executeQuery()) {
+					while (resultSet.next()) {
+						plan.add(resultSet.getString(1));
+					}
+				}
+				return String.join("\n", plan);
+			}
+		});
+	}
+	
+	private void assertIndexScan(String plan) {
+		assertThat(plan)
+				.as("테이블 전체를 읽는 실행 계획\n%s", plan)
+				.doesNotContainIgnoringCase("tableScan");
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void findByEmail() throws Exception {
+		memberRepository.findByEmail("member7@test.com");
+		
+		assertIndexScan(explainLastStatement("member7@test.com"));
+	}
+	
+	@Test
+	public void existsByEmail() throws Exception {
+		memberRepository.existsByEmail("member7@test.com");
+		
+		assertIndexScan(explainLastStatement("member7@test.com"));
+	}
+	
+	@Test
+	public void findIdByEmail() throws Exception {
+		memberRepository.findIdByEmail("member7@test.com");
+		
+		assertIndexScan(explainLastStatement("member7@test.com"));
+	}
+	
+	@Test
+	public void findByNickName() throws Exception {
+		memberRepository.findByNickName("nick7");
+		
+		String plan = explainLastStatement("nick7");
+		assertIndexScan(plan);
+		assertThat(plan).containsIgnoringCase("uk_member_nick_name");
+	}
+	
+	@Test
+	public void existsByNickName() throws Exception {
+		memberRepository.existsByNickName("nick7");
+		
+		assertIndexScan(explainLastStatement("nick7"));
+	}
+	
+	@Test
+	public void findDuplicate() throws Exception {
+		memberRepository.findDuplicate("member7@test.com", "nick7");
+		
+		String plan = explainLastStatement("member7@test.com", "nick7");
+		assertIndexScan(plan);
+		assertThat(plan).containsIgnoringCase("uk_member_nick_name");
+	}
+	
+	@Test
+	public void findBySocialTypeAndSocialId() throws Exception {
+		memberRepository.findBySocialTypeAndSocialId(SocialType.KAKAO, "10");
+		
+		String plan = explainLastStatement("KAKAO", "10");
+		assertIndexScan(plan);
+		assertThat(plan).containsIgnoringCase("uk_member_social");
+	}
+	
+	@Test
+	public void findIdentitiesAfter() throws Exception {
+		memberRepository.findIdentitiesAfter(50_000L, PageRequest.of(0, 1000));
+		
+		assertIndexScan(explainLastStatement(50_000L, 1000));
+	}
+	
+	@Test
+	public void updatePasswordHash() throws Exception {
+		memberRepository.updatePasswordHash("member7@test.com", "stalePassword", "newPassword"); // 변경되는 행 x
+		
+		assertIndexScan(explainLastStatement("newPassword", "member7@test.com", "stalePassword"));
+	}
+	
+	
+	
+	/**
+	 * Hibernate가 실행하는 SQL 기록 (hibernate.session_factory.statement_inspector)
+	 */
+	public static class RecordingStatementInspector implements StatementInspector {
+		
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+		
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package project.shop.domain.member.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 소셜 회원 조회(findBySocialTypeAndSocialId) 비용 비교 (./gradlew loadTest -PloadTestMembers=10000000)
+ * 
+ * H2(MariaDB 모드) 메모리 DB에 회원 N명(기본 100만, 80%는 소셜 회원)을 넣고
+ * uk_member_social 인덱스가 없을 때 / 있을 때의 실행 계획과 조회 시간(p50, p99) 비교
+ * 
+ * 실행 시간, 메모리 사용량이 커서 기본 test 태스크에서는 제외 (@Tag("load"))
+ * 
+ * 측정 결과 (회원 100만, H2 2.2.224, 1 vCPU, 조회 200번, 2회 실행)
+ * - 인덱스 x			: PUBLIC.MEMBER.tableScan			-> p50 57 ~ 69ms, p99 129 ~ 286ms
+ * - uk_member_social	: PUBLIC.UK_MEMBER_SOCIAL (등호 조건 2개)	-> p50 51 ~ 68us, p99 5.6 ~ 8.3ms (JIT, GC 영향)
+ */
+@Tag("load")
+class MemberSocialLookupLoadTest {
+
+	private static final int MEMBERS = Integer.getInteger("loadTest.members", 1_000_000);
+	private static final int LOOKUPS = 200;
+	private static final String LOOKUP_SQL =
+			"select member_id from member where social_type = ? and social_id = ?"; // findBySocialTypeAndSocialId
+	
+	Connection connection;
+	
+	@BeforeEach
+	public void init() throws Exception {
+		connection = DriverManager.getConnection("jdbc:h2:mem:social_lookup;MODE=MariaDB;DB_CLOSE_DELAY=-1");
+		
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("""
+					create table member (
+						member_id bigint auto_increment primary key,
+						email varchar(100) not null unique,
+						role varchar(30) not null,
+						social_type varchar(255),
+						social_id varchar(255))""");
+			statement.execute("""
+					insert into member (email, role, social_type, social_id)
+					select concat('member', x, '@test.com'), 'USER',
+						case when mod(x, 5) = 0 then null when mod(x, 5) = 1 then 'NAVER' when mod(x, 5) = 2 then 'GOOGLE' else 'KAKAO' end,
+						case when mod(x, 5) = 0 then null else cast(x as varchar) end
+					from system_range(1, %d)""".formatted(MEMBERS));
+		}
+	}
+	
+	@AfterEach
+	public void tearDown() throws Exception {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("drop all objects");
+		}
+		connection.close();
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 유니크_인덱스가_있으면_테이블_전체를_읽지_않음() throws Exception {
+		// given
+		String planBefore = explain();
+		long[] before = measure();
+		
+		// when
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("create unique index uk_member_social on member (social_type, social_id)"); // Member @Table(indexes)
+		}
+		
+		String planAfter = explain();
+		long[] after = measure();
+		
+		// then
+		System.out.printf("members=%d%n", MEMBERS);
+		System.out.printf("[before] p50=%dus, p99=%dus, plan=%s%n", percentile(before, 0.50), percentile(before, 0.99), planBefore);
+		System.out.printf("[after]  p50=%dus, p99=%dus, plan=%s%n", percentile(after, 0.50), percentile(after, 0.99), planAfter);
+		
+		assertThat(planBefore).containsIgnoringCase("tableScan");
+		assertThat(planAfter).containsIgnoringCase("uk_member_social");
+		assertThat(percentile(after, 0.50)).isLessThan(percentile(before, 0.50));
+	}
+	
+	
+	
+	private String explain() throws Exception {
+		try (PreparedStatement statement = connection.prepareStatement("explain " + LOOKUP_SQL)) {
+			statement.setString(1, "KAKAO");
+			statement.setString(2, "3");
+			
+			try (ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				return resultSet.getString(1).replaceAll("\\s+", " ");
+			}
+		}
+	}
+	
+	/**
+	 * 임의의 카카오 회원 LOOKUPS 번 조회, 조회 시간(us) 정렬해서 반환
+	 */
+	private long[] measure() throws Exception {
+		long[] latencies = new long[LOOKUPS];
+		
+		try (PreparedStatement statement = connection.prepareStatement(LOOKUP_SQL)) {
+			for (int i = 0; i < LOOKUPS; i++) {
+				long id = ThreadLocalRandom.current().nextLong(MEMBERS / 5) * 5 + 3; // mod 5 = 3 -> KAKAO
+				statement.setString(1, "KAKAO");
+				statement.setString(2, String.valueOf(id));
+				
+				long start = System.nanoTime();
+				try (ResultSet resultSet = statement.executeQuery()) {
+					resultSet.next();
+				}
+				latencies[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+			}
+		}
+		
+		Arrays.sort(latencies);
+		return latencies;
+	}
+	
+	private static long percentile(long[] sorted, double percentile) {
+		return sorted[(int) Math.min(sorted.length - 1, sorted.length * percentile)];
+	}
+}
@@ -0,0 +1,180 @@
+package project.shop.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import project.shop.domain.member.dto.MemberDuplicateDto;
+import project.shop.domain.member.dto.MemberSignUpDto;
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.exception.MemberException;
+import project.shop.domain.member.exception.MemberExceptionType;
+import project.shop.domain.member.repository.MemberQueryRepository;
+import project.shop.domain.member.repository.MemberRepository;
+
+/**
+ * 회원가입 검사 순서 : 메모리 검사 -> 중복검사(쿼리 1번) -> 비밀번호 암호화 -> 저장
+ * 가입에 실패하면 비밀번호 암호화(PasswordEncoder)를 호출하지 않음
+ * 트랜잭션은 저장에만 사용 (중복검사, 비밀번호 암호화는 트랜잭션 밖)
+ */
+class MemberSignUpTest {
+
+	MemberRepository memberRepository = mock(MemberRepository.class);
+	
+	PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+	
+	PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	
+	MemberService memberService = new MemberServiceImpl(memberRepository, mock(MemberQueryRepository.class), passwordEncoder,
+			new TransactionTemplate(transactionManager));
+	
+	private static final String EMAIL = "spring@gmail.com";
+	private static final String NICKNAME = "nickName";
+	private static final String PASSWORD = "password1!";
+	
+	private MemberSignUpDto signUpDto(String password2, LocalDate birth) {
+		return new MemberSignUpDto("name", NICKNAME, EMAIL, PASSWORD, password2, birth, "01012345678");
+	}
+	
+	private MemberSignUpDto signUpDto() {
+		return signUpDto(PASSWORD, LocalDate.now().minusYears(20));
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 회원가입_성공() throws Exception {
+		// given
+		when(memberRepository.findDuplicate(EMAIL, NICKNAME)).thenReturn(new MemberDuplicateDto(false, false));
+		when(passwordEncoder.encode(PASSWORD)).thenReturn("{bcrypt}hash");
+		
+		// when
+		memberService.signUp(signUpDto());
+		
+		// then
+		verify(memberRepository, times(1)).findDuplicate(EMAIL, NICKNAME);
+		verify(passwordEncoder, times(1)).encode(PASSWORD);
+		verify(memberRepository, times(1)).saveAndFlush(any(Member.class));
+	}
+	
+	@Test
+	public void 트랜잭션은_비밀번호_암호화_이후_저장에만_사용() throws Exception {
+		// given
+		when(memberRepository.findDuplicate(EMAIL, NICKNAME)).thenReturn(new MemberDuplicateDto(false, false));
+		when(passwordEncoder.encode(PASSWORD)).thenReturn("{bcrypt}hash");
+		
+		// when
+		memberService.signUp(signUpDto());
+		
+		// then
+		InOrder inOrder = inOrder(memberRepository, passwordEncoder, transactionManager);
+		inOrder.verify(memberRepository).findDuplicate(EMAIL, NICKNAME);
+		inOrder.verify(passwordEncoder).encode(PASSWORD);
+		inOrder.verify(transactionManager).getTransaction(any());
+		inOrder.verify(memberRepository).saveAndFlush(any(Member.class));
+		inOrder.verify(transactionManager).commit(any());
+	}
+	
+	@Test
+	public void 비밀번호_불일치는_DB_조회_없이_실패() throws Exception {
+		// when
+		MemberException exception = assertThrows(MemberException.class, () ->
+				memberService.signUp(signUpDto("other1234!", LocalDate.now().minusYears(20))));
+		
+		// then
+		assertThat(exception.getExceptionType()).isEqualTo(MemberExceptionType.PASSWORD_MISMATCH);
+		verifyNoInteractions(memberRepository, passwordEncoder);
+	}
+	
+	@Test
+	public void 생년월일_범위_오류는_DB_조회_없이_실패() throws Exception {
+		// when
+		MemberException exception = assertThrows(MemberException.class, () ->
+				memberService.signUp(signUpDto(PASSWORD, LocalDate.now().minusYears(5))));
+		
+		// then
+		assertThat(exception.getExceptionType()).isEqualTo(MemberExceptionType.BIRTH_DATE_ERROR);
+		verifyNoInteractions(memberRepository, passwordEncoder);
+	}
+	
+	@Test
+	public void 닉네임중복은_암호화_없이_실패() throws Exception {
+		// given
+		when(memberRepository.findDuplicate(EMAIL, NICKNAME)).thenReturn(new MemberDuplicateDto(false, true));
+		
+		// when
+		MemberException exception = assertThrows(MemberException.class, () -> memberService.signUp(signUpDto()));
+		
+		// then
+		assertThat(exception.getExceptionType()).isEqualTo(MemberExceptionType.ALREADY_EXIST_NICKNAME);
+		verify(passwordEncoder, never()).encode(anyString());
+		verify(memberRepository, never()).saveAndFlush(any(Member.class));
+		verifyNoInteractions(transactionManager);
+	}
+	
+	@Test
+	public void 이메일중복은_암호화_없이_실패() throws Exception {
+		// given
+		when(memberRepository.findDuplicate(EMAIL, NICKNAME)).thenReturn(new MemberDuplicateDto(true, false));
+		
+		// when
+		MemberException exception = assertThrows(MemberException.class, () -> memberService.signUp(signUpDto()));
+		
+		// then
+		assertThat(exception.getExceptionType()).isEqualTo(MemberExceptionType.ALREADY_EXIST_EMAIL);
+		verify(passwordEncoder, never()).encode(anyString());
+	}
+	
+	@Test
+	public void 중복검사_이후_동시에_가입하면_이메일중복() throws Exception {
+		// given
+		when(memberRepository.findDuplicate(EMAIL, NICKNAME)).thenReturn(new MemberDuplicateDto(false, false));
+		when(passwordEncoder.encode(PASSWORD)).thenReturn("{bcrypt}hash");
+		when(memberRepository.saveAndFlush(any(Member.class)))
+				.thenThrow(new DataIntegrityViolationException("Duplicate entry 'spring@gmail.com' for key 'email'"));
+		
+		// when
+		MemberException exception = assertThrows(MemberException.class, () -> memberService.signUp(signUpDto()));
+		
+		// then
+		assertThat(exception.getExceptionType()).isEqualTo(MemberExceptionType.ALREADY_EXIST_EMAIL);
+		verify(transactionManager, times(1)).rollback(any());
+		verify(transactionManager, never()).commit(any());
+	}
+	
+	@Test
+	public void 중복검사_이후_동시에_가입하면_닉네임중복() throws Exception {
+		// given
+		when(memberRepository.findDuplicate(EMAIL, NICKNAME)).thenReturn(new MemberDuplicateDto(false, false));
+		when(passwordEncoder.encode(PASSWORD)).thenReturn("{bcrypt}hash");
+		when(memberRepository.saveAndFlush(any(Member.class)))
+				.thenThrow(new DataIntegrityViolationException("Duplicate entry 'nickName' for key 'uk_member_nick_name'"));
+		
+		// when
+		MemberException exception = assertThrows(MemberException.class, () -> memberService.signUp(signUpDto()));
+		
+		// then
+		assertThat(exception.getExceptionType()).isEqualTo(MemberExceptionType.ALREADY_EXIST_NICKNAME);
+	}
+}
@@ -0,0 +1,190 @@
+package project.shop.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.repository.MemberRepository;
+
+/**
+ * Member 2차 캐시 조회, 변경 시 캐시 갱신/제거 확인
+ * 캐시는 커밋 시점에 갱신되므로 테스트 트랜잭션 없이 실제로 커밋 (@Transactional NOT_SUPPORTED)
+ * 다른 테스트 컨텍스트와 캐시 영역이 겹치지 않도록 별도 region-prefix 사용
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"second-level-cache.region-prefix=second-level-cache-test"
+})
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+	private static final String EMAIL = "spring@gmail.com";
+	
+	@Autowired
+	MemberRepository memberRepository;
+	
+	@Autowired
+	EntityManagerFactory emf;
+	
+	@Autowired
+	PlatformTransactionManager transactionManager;
+	
+	Statistics statistics;
+	
+	Long memberId;
+	
+	@BeforeEach
+	public void init() {
+		statistics = emf.unwrap(SessionFactory.class).getStatistics();
+		
+		memberId = memberRepository.save(Member.builder()
+				.email(EMAIL)
+				.password("password")
+				.nickName("nickName")
+				.role(Role.USER)
+				.build()).getId();
+	}
+	
+	@AfterEach
+	public void tearDown() {
+		memberRepository.deleteAll();
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void findById는_2차_캐시에서_조회() throws Exception {
+		// given
+		memberRepository.findById(memberId);
+		statistics.clear();
+		
+		// when
+		Member member = memberRepository.findById(memberId).orElseThrow();
+		
+		// then
+		assertThat(member.getEmail()).isEqualTo(EMAIL);
+		assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+	
+	@Test
+	public void findByEmail은_natural_id_캐시에서_조회() throws Exception {
+		// given
+		memberRepository.findByEmail(EMAIL);
+		statistics.clear();
+		
+		// when
+		Member member = memberRepository.findByEmail(EMAIL).orElseThrow();
+		
+		// then
+		assertThat(member.getId()).isEqualTo(memberId);
+		assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThanOrEqualTo(1);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+	
+	@Test
+	public void 변경_감지로_수정하면_커밋_후_캐시_갱신() throws Exception {
+		// given
+		memberRepository.findById(memberId);
+		
+		// when
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+				memberRepository.findById(memberId).orElseThrow().updateNickName("updated"));
+		statistics.clear();
+		
+		// then : 수정된 값을 캐시에서 조회
+		assertThat(memberRepository.findById(memberId).orElseThrow().getNickName()).isEqualTo("updated");
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+	
+	@Test
+	public void 비밀번호_해시_교체_후에는_DB에서_조회() throws Exception {
+		// given
+		memberRepository.findById(memberId);
+		memberRepository.findByEmail(EMAIL);
+		
+		// when
+		int updated = memberRepository.updatePasswordHash(EMAIL, "password", "rehashed");
+		
+		// then
+		assertThat(updated).isEqualTo(1);
+		assertThat(memberRepository.findById(memberId).orElseThrow().getPassword()).isEqualTo("rehashed");
+		assertThat(memberRepository.findByEmail(EMAIL).orElseThrow().getPassword()).isEqualTo("rehashed");
+	}
+	
+	@Test
+	public void 비밀번호_해시_교체_시_다른_회원은_캐시에_유지() throws Exception {
+		// given
+		Long otherId = memberRepository.save(Member.builder()
+				.email("other@gmail.com")
+				.password("password")
+				.nickName("other")
+				.role(Role.USER)
+				.build()).getId();
+		memberRepository.findById(memberId);
+		memberRepository.findById(otherId);
+		
+		// when
+		memberRepository.updatePasswordHash(EMAIL, "password", "rehashed");
+		statistics.clear();
+		
+		// then : 다른 회원은 캐시에서 조회
+		assertThat(memberRepository.findById(otherId).orElseThrow().getPassword()).isEqualTo("password");
+		assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		
+		// then : 교체된 회원만 DB에서 조회
+		assertThat(memberRepository.findById(memberId).orElseThrow().getPassword()).isEqualTo("rehashed");
+		assertThat(statistics.getSecondLevelCacheMissCount()).isEqualTo(1);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+	
+	@Test
+	public void 기존_해시가_다르면_비밀번호_해시를_교체하지_않음() throws Exception {
+		// given
+		memberRepository.findById(memberId);
+		
+		// when
+		int updated = memberRepository.updatePasswordHash(EMAIL, "stalePassword", "rehashed");
+		statistics.clear();
+		
+		// then : 변경이 없으므로 캐시 유지
+		assertThat(updated).isZero();
+		assertThat(memberRepository.findById(memberId).orElseThrow().getPassword()).isEqualTo("password");
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+	
+	@Test
+	public void 삭제하면_캐시에서도_제거() throws Exception {
+		// given
+		memberRepository.findById(memberId);
+		memberRepository.findByEmail(EMAIL);
+		
+		// when
+		memberRepository.deleteById(memberId);
+		
+		// then
+		assertThat(memberRepository.findById(memberId)).isEmpty();
+		assertThat(memberRepository.findByEmail(EMAIL)).isEmpty();
+	}
+}
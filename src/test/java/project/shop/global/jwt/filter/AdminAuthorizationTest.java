@@ -0,0 +1,136 @@
+package project.shop.global.jwt.filter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import project.shop.domain.member.controller.AdminMemberRestController;
+import project.shop.domain.member.dto.MemberAdminPageDto;
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.repository.MemberRepository;
+import project.shop.domain.member.service.MemberService;
+import project.shop.global.config.SecurityConfig;
+import project.shop.global.jwt.dto.VerifiedToken;
+import project.shop.global.jwt.service.JwtService;
+import project.shop.global.jwt.service.RefreshTokenReIssueCoordinator;
+import project.shop.global.login.cache.MemberPrincipalCache;
+import project.shop.global.login.service.LoginService;
+import project.shop.global.login.throttle.LoginThrottle;
+import project.shop.global.oauth2.handler.OAuth2LoginFailureHandler;
+import project.shop.global.oauth2.handler.OAuth2LoginSuccessHandler;
+import project.shop.global.oauth2.service.CustomOAuth2UserService;
+
+/**
+ * 관리자 URI(/admin/**)는 AccessToken의 권한 클레임이 아닌 DB의 권한으로 확인
+ * member-lookup-urls 설정이 없어도 권한을 잃은 관리자의 토큰으로는 접근 불가
+ */
+@WebMvcTest(AdminMemberRestController.class)
+@Import({SecurityConfig.class, AdminAuthorizationTest.MeterRegistryConfig.class})
+class AdminAuthorizationTest {
+
+	private static final String ACCESS_TOKEN = "accessToken";
+	private static final String EMAIL = "admin@gmail.com";
+	
+	@Autowired
+	MockMvc mockMvc;
+	
+	@MockBean JwtService jwtService;
+	@MockBean MemberService memberService;
+	@MockBean MemberRepository memberRepository;
+	@MockBean LoginService loginService;
+	@MockBean OAuth2LoginSuccessHandler oauth2LoginSuccessHandler;
+	@MockBean OAuth2LoginFailureHandler oauth2LoginFailureHandler;
+	@MockBean CustomOAuth2UserService customOAuth2UserService;
+	@MockBean MemberPrincipalCache memberPrincipalCache;
+	@MockBean RefreshTokenReIssueCoordinator refreshTokenReIssueCoordinator;
+	@MockBean LoginThrottle loginThrottle;
+	@MockBean ClientRegistrationRepository clientRegistrationRepository;
+	@MockBean JpaMetamodelMappingContext jpaMetamodelMappingContext; // @EnableJpaAuditing
+	
+	@TestConfiguration
+	static class MeterRegistryConfig {
+		
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+	
+	@BeforeEach
+	public void init() {
+		when(jwtService.extractRefreshToken(any())).thenReturn(Optional.empty());
+		when(jwtService.extractAccessToken(any())).thenReturn(Optional.of(ACCESS_TOKEN));
+	}
+	
+	private void accessTokenWithRole(Role role) {
+		when(jwtService.verifyAccessToken(ACCESS_TOKEN))
+				.thenReturn(Optional.of(new VerifiedToken("AccessToken", EMAIL, 1L, role, Instant.now().plusSeconds(60), null)));
+	}
+	
+	private void memberWithRole(Role role) {
+		when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(Member.builder()
+				.email(EMAIL)
+				.password("password")
+				.nickName("admin")
+				.role(role)
+				.build()));
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 관리자는_접근_가능() throws Exception {
+		// given
+		accessTokenWithRole(Role.ADMIN);
+		memberWithRole(Role.ADMIN);
+		
+		// when, then
+		mockMvc.perform(get("/admin/members"))
+				.andExpect(status().isOk());
+	}
+	
+	@Test
+	public void 관리자가_아니면_403() throws Exception {
+		// given
+		accessTokenWithRole(Role.USER);
+		memberWithRole(Role.USER);
+		
+		// when, then
+		mockMvc.perform(get("/admin/members"))
+				.andExpect(status().isForbidden());
+	}
+	
+	@Test
+	public void 권한을_잃은_관리자는_토큰이_만료되기_전에도_403() throws Exception {
+		// given : 토큰은 ADMIN으로 발급, 이후 DB에서 USER로 변경
+		accessTokenWithRole(Role.ADMIN);
+		memberWithRole(Role.USER);
+		
+		// when, then
+		mockMvc.perform(get("/admin/members/1"))
+				.andExpect(status().isForbidden());
+	}
+}
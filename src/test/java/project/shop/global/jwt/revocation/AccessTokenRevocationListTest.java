@@ -0,0 +1,112 @@
+package project.shop.global.jwt.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.algorithms.Algorithm;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import project.shop.domain.member.event.MemberWithdrawnEvent;
+import project.shop.global.jwt.dto.VerifiedToken;
+
+class AccessTokenRevocationListTest {
+
+	AccessTokenRevocationList revocationList;
+	
+	private static long ACCESS_TOKEN_VALIDITY_IN_SECONDS = 3600;
+	
+	@BeforeEach
+	public void init() {
+		revocationList = new AccessTokenRevocationList(new SimpleMeterRegistry(), ACCESS_TOKEN_VALIDITY_IN_SECONDS, 1000, 0.001);
+	}
+	
+	private VerifiedToken accessToken(Long memberId, long issuedAtMillis) {
+		JWTCreator.Builder builder = JWT.create()
+				.withSubject("AccessToken")
+				.withJWTId(UUID.randomUUID().toString())
+				.withIssuedAt(new Date(issuedAtMillis))
+				.withExpiresAt(new Date(issuedAtMillis + ACCESS_TOKEN_VALIDITY_IN_SECONDS * 1000));
+		
+		if (memberId != null) {
+			builder.withClaim(VerifiedToken.MEMBER_ID_CLAIM, memberId);
+		}
+		
+		return VerifiedToken.of(JWT.decode(builder.sign(Algorithm.HMAC512("secret"))));
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 폐기한_AccessToken만_폐기됨() throws Exception {
+		// given
+		VerifiedToken revoked = accessToken(1L, System.currentTimeMillis());
+		VerifiedToken other = accessToken(1L, System.currentTimeMillis());
+		
+		// when
+		revocationList.revoke(revoked);
+		
+		// then
+		assertThat(revocationList.isRevoked(revoked)).isTrue();
+		assertThat(revocationList.isRevoked(other)).isFalse();
+	}
+	
+	@Test
+	public void 필터를_교체해도_한번은_폐기_유지() throws Exception {
+		// given
+		VerifiedToken revoked = accessToken(1L, System.currentTimeMillis());
+		revocationList.revoke(revoked);
+		
+		// when
+		revocationList.rotate();
+		
+		// then
+		assertThat(revocationList.isRevoked(revoked)).isTrue();
+	}
+	
+	@Test
+	public void 회원_탈퇴시_탈퇴_이전에_발급된_토큰만_폐기() throws Exception {
+		// given
+		VerifiedToken before = accessToken(1L, System.currentTimeMillis() - 1000);
+		VerifiedToken otherMember = accessToken(2L, System.currentTimeMillis() - 1000);
+		
+		// when
+		revocationList.onMemberWithdrawn(new MemberWithdrawnEvent(1L));
+		VerifiedToken after = accessToken(1L, System.currentTimeMillis() + 2000);
+		
+		// then
+		assertThat(revocationList.isRevoked(before)).isTrue();
+		assertThat(revocationList.isRevoked(otherMember)).isFalse();
+		assertThat(revocationList.isRevoked(after)).isFalse();
+	}
+	
+	@Test
+	public void 폐기되지_않은_토큰의_오탐률() throws Exception {
+		// given
+		for (int i = 0; i < 1000; i++) {
+			revocationList.revoke(accessToken((long) i, System.currentTimeMillis()));
+		}
+		
+		// when
+		int revoked = 0;
+		
+		for (int i = 0; i < 10000; i++) {
+			if (revocationList.isRevoked(accessToken(null, System.currentTimeMillis()))) {
+				revoked++;
+			}
+		}
+		
+		// then
+		assertThat(revoked).isZero(); // Bloom Filter 오탐은 정확한 목록에서 걸러짐
+	}
+}
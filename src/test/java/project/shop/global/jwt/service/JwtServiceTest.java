@@ -24,6 +24,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import project.shop.domain.member.entity.Member;
 import project.shop.domain.member.enums.Role;
 import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.jwt.repository.RefreshTokenRepository;
+import project.shop.global.util.TokenHashUtil;
 
 @SpringBootTest
 @Transactional
@@ -35,6 +37,8 @@ class JwtServiceTest {
 	@Autowired
 	MemberRepository memberRepository;
 	@Autowired
+	RefreshTokenRepository refreshTokenRepository;
+	@Autowired
 	EntityManager em;
 	
 	@Value("${jwt.secret}")
@@ -133,37 +137,13 @@ class JwtServiceTest {
 	
 	
 	
-	/**
-	 * RefreshToken 업데이트
-	 */
-//	@Test
-	public void updateRefreshToken_refreshToken_업데이트() throws Exception {
-		// given
-		String refreshToken = jwtService.createRefreshToken();
-		jwtService.updateRefreshToken(email, refreshToken);
-		clear();
-		Thread.sleep(3000); // 다음 토큰 발급과의 텀을 주기 위함
-		
-		// when
-		String reIssuedRefreshToken = jwtService.createRefreshToken();
-		jwtService.updateRefreshToken(email, reIssuedRefreshToken);
-		clear();
-		
-		// then
-		assertThrows(Exception.class, () -> memberRepository.findByRefreshToken(refreshToken).get());
-		assertThat(memberRepository.findByRefreshToken(reIssuedRefreshToken).get().getEmail()).isEqualTo(email);
-	}
-	
-	
-	
 	/**
 	 * RefreshToken 제거
 	 */
 //	@Test
 	public void destroyRefreshToken_refreshToken_제거() throws Exception {
 		// given
-		String refreshToken = jwtService.createRefreshToken();
-		jwtService.updateRefreshToken(email, refreshToken); // refreshToken 발급
+		String refreshToken = jwtService.issueRefreshToken(memberRepository.findIdByEmail(email).get(), null); // refreshToken 발급
 		clear();
 		
 		// when
@@ -171,11 +151,10 @@ class JwtServiceTest {
 		clear();
 		
 		// then
-		assertThrows(Exception.class, () -> memberRepository.findByRefreshToken(refreshToken).get());
-		// refreshToken으로 회원 정보를 조회할 때, 해당 토큰이 더 이상 유효하지 않으므로 예외가 발생해야 함
+		assertThrows(Exception.class, () -> refreshTokenRepository.findByTokenHash(TokenHashUtil.hash(refreshToken)).get());
+		// refreshToken으로 토큰을 조회할 때, 해당 토큰이 더 이상 유효하지 않으므로 예외가 발생해야 함
 		
-		Member member = memberRepository.findByEmail(email).get(); // 유저 객체 받아옴
-		assertThat(member.getRefreshToken()).isNull(); // 유저에게 토큰이 있는지 최종 확인
+		assertThat(jwtService.findRefreshToken(refreshToken)).isEmpty(); // 토큰이 남아있는지 최종 확인
 	}
 	
 	
@@ -0,0 +1,109 @@
+package project.shop.global.jwt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.jwt.key.JwtKeyProperties;
+import project.shop.global.jwt.key.JwtKeyRing;
+import project.shop.global.jwt.repository.RefreshTokenRepository;
+import project.shop.global.jwt.revocation.AccessTokenRevocationList;
+
+/**
+ * JwtServiceImpl 트랜잭션 범위 검증
+ * 스프링과 같은 방식(@Transactional 애너테이션 + TransactionInterceptor)으로 프록시를 만들고
+ * 토큰 생성/추출/검증 경로는 트랜잭션 매니저와 리포지토리를 전혀 사용하지 않는지 확인
+ */
+class JwtServiceTransactionTest {
+
+	private static final String ACCESS_HEADER = "Authorization";
+	private static final String REFRESH_HEADER = "Authorization-refresh";
+	private static final String EMAIL = "spring@gmail.com";
+	
+	MemberRepository memberRepository = mock(MemberRepository.class);
+	
+	RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+	
+	PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	
+	JwtService jwtService;
+	
+	@BeforeEach
+	public void init() {
+		JwtServiceImpl target = new JwtServiceImpl(
+				memberRepository,
+				refreshTokenRepository,
+				new AccessTokenRevocationList(new SimpleMeterRegistry(), 1800, 1000, 0.001),
+				new JwtKeyRing(new JwtKeyProperties(null, true, List.of()), "test-secret-test-secret-test-secret-test-secret"));
+		
+		ReflectionTestUtils.setField(target, "accessTokenValidityInSeconds", 1800L);
+		ReflectionTestUtils.setField(target, "refreshTokenValidityInSeconds", 1209600L);
+		ReflectionTestUtils.setField(target, "accessHeader", ACCESS_HEADER);
+		ReflectionTestUtils.setField(target, "refreshHeader", REFRESH_HEADER);
+		target.initVerifiers();
+		
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+		proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+		jwtService = (JwtService) proxyFactory.getProxy();
+	}
+	
+	
+	
+	//== TEST ==//
+	/**
+	 * JWT 필터가 매 요청 호출하는 경로 (추출 -> 검증) 는 트랜잭션 x, DB 조회 x
+	 */
+	@Test
+	public void 토큰_추출_검증은_트랜잭션_없이_처리() throws Exception {
+		// given
+		String accessToken = jwtService.createAccessToken(1L, EMAIL, Role.USER);
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(ACCESS_HEADER, "Bearer " + accessToken);
+		
+		// when
+		String extractedToken = jwtService.extractAccessToken(request).get();
+		
+		// then
+		assertThat(jwtService.verifyAccessToken(extractedToken)).isPresent();
+		assertThat(jwtService.extractEmail(extractedToken)).contains(EMAIL);
+		assertThat(jwtService.isTokenValid(extractedToken)).isTrue();
+		assertThat(jwtService.verifyRefreshToken(jwtService.createRefreshToken(1L, "family"))).isPresent();
+		verifyNoInteractions(transactionManager, memberRepository, refreshTokenRepository);
+	}
+	
+	
+	
+	/**
+	 * RefreshToken 저장은 트랜잭션 안에서 처리
+	 */
+	@Test
+	public void RefreshToken_저장은_트랜잭션_적용() throws Exception {
+		// when
+		jwtService.issueRefreshToken(1L, null);
+		
+		// then
+		verify(transactionManager).getTransaction(any(TransactionDefinition.class));
+		verify(transactionManager).commit(any());
+	}
+}
@@ -0,0 +1,144 @@
+package project.shop.global.jwt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import project.shop.global.jwt.dto.ReIssuedTokens;
+import project.shop.global.jwt.dto.VerifiedToken;
+
+class RefreshTokenReIssueCoordinatorTest {
+
+	RefreshTokenReIssueCoordinator coordinator;
+	
+	SimpleMeterRegistry meterRegistry;
+	
+	AtomicInteger reIssueCount = new AtomicInteger();
+	
+	@BeforeEach
+	public void init() {
+		meterRegistry = new SimpleMeterRegistry();
+		coordinator = new RefreshTokenReIssueCoordinator(meterRegistry, Duration.ofSeconds(10), Duration.ofSeconds(5), 100);
+	}
+	
+	private VerifiedToken refreshToken(String jti) {
+		return VerifiedToken.of(JWT.decode(JWT.create()
+				.withSubject("RefreshToken")
+				.withJWTId(jti)
+				.sign(Algorithm.HMAC512("secret"))));
+	}
+	
+	private Optional<ReIssuedTokens> reIssue(VerifiedToken refreshToken) {
+		int count = reIssueCount.incrementAndGet();
+		
+		return Optional.of(new ReIssuedTokens("access-" + count, "refresh-" + count));
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 같은_RefreshToken으로_동시에_재발급_요청시_한번만_재발급() throws Exception {
+		// given
+		VerifiedToken refreshToken = refreshToken("same");
+		int threadCount = 16;
+		
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch reIssuing = new CountDownLatch(1);
+		
+		// when
+		List<Future<Optional<ReIssuedTokens>>> results = new ArrayList<>();
+		
+		for (int i = 0; i < threadCount; i++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				
+				return coordinator.reIssue(refreshToken, token -> {
+					try {
+						reIssuing.await(100, TimeUnit.MILLISECONDS); // 다른 요청이 대기하도록 재발급을 지연
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					
+					return reIssue(token);
+				});
+			}));
+		}
+		
+		start.countDown();
+		
+		// then
+		for (Future<Optional<ReIssuedTokens>> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).contains(new ReIssuedTokens("access-1", "refresh-1"));
+		}
+		
+		assertThat(reIssueCount.get()).isEqualTo(1);
+		assertThat(meterRegistry.counter("jwt.refresh.reissue.coalesced").count()).isEqualTo(threadCount - 1);
+		
+		executor.shutdown();
+	}
+	
+	@Test
+	public void 재발급_이후_유예시간_안에_같은_RefreshToken으로_요청시_같은_토큰_응답() throws Exception {
+		// given
+		VerifiedToken refreshToken = refreshToken("same");
+		
+		// when
+		Optional<ReIssuedTokens> first = coordinator.reIssue(refreshToken, this::reIssue);
+		Optional<ReIssuedTokens> second = coordinator.reIssue(refreshToken, this::reIssue);
+		
+		// then
+		assertThat(second).isEqualTo(first);
+		assertThat(reIssueCount.get()).isEqualTo(1);
+	}
+	
+	@Test
+	public void 다른_RefreshToken은_각각_재발급() throws Exception {
+		// when
+		coordinator.reIssue(refreshToken("first"), this::reIssue);
+		coordinator.reIssue(refreshToken("second"), this::reIssue);
+		
+		// then
+		assertThat(reIssueCount.get()).isEqualTo(2);
+	}
+	
+	@Test
+	public void 재발급_실패시_결과를_보관하지_않고_다음_요청이_다시_재발급() throws Exception {
+		// given
+		VerifiedToken refreshToken = refreshToken("same");
+		
+		// when
+		try {
+			coordinator.reIssue(refreshToken, token -> {
+				throw new IllegalStateException("DB 오류");
+			});
+		} catch (IllegalStateException e) {
+		}
+		
+		Optional<ReIssuedTokens> retry = coordinator.reIssue(refreshToken, this::reIssue);
+		
+		// then
+		assertThat(retry).isPresent();
+		assertThat(reIssueCount.get()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,177 @@
+package project.shop.global.jwt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.jwt.dto.VerifiedToken;
+import project.shop.global.jwt.entity.RefreshToken;
+import project.shop.global.jwt.key.JwtKeyProperties;
+import project.shop.global.jwt.key.JwtKeyRing;
+import project.shop.global.jwt.repository.RefreshTokenRepository;
+import project.shop.global.jwt.revocation.AccessTokenRevocationList;
+import project.shop.global.util.TokenHashUtil;
+
+/**
+ * RefreshToken 교체(RTR), 재사용 감지, 토큰 패밀리 폐기 검증
+ * JwtServiceImpl은 직접 생성하고 RefreshTokenRepository, MemberRepository는 실제 리포지토리(H2) 사용
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+class RefreshTokenRotationTest {
+
+	private static final String EMAIL = "spring@gmail.com";
+	
+	@Autowired
+	MemberRepository memberRepository;
+	
+	@Autowired
+	RefreshTokenRepository refreshTokenRepository;
+	
+	@Autowired
+	EntityManager em;
+	
+	JwtServiceImpl jwtService;
+	
+	Long memberId;
+	
+	@BeforeEach
+	public void init() {
+		jwtService = new JwtServiceImpl(
+				memberRepository,
+				refreshTokenRepository,
+				new AccessTokenRevocationList(new SimpleMeterRegistry(), 1800, 1000, 0.001),
+				new JwtKeyRing(new JwtKeyProperties(null, true, List.of()), "test-secret-test-secret-test-secret-test-secret"));
+		
+		ReflectionTestUtils.setField(jwtService, "accessTokenValidityInSeconds", 1800L);
+		ReflectionTestUtils.setField(jwtService, "refreshTokenValidityInSeconds", 1209600L);
+		ReflectionTestUtils.setField(jwtService, "accessHeader", "Authorization");
+		ReflectionTestUtils.setField(jwtService, "refreshHeader", "Authorization-refresh");
+		jwtService.initVerifiers();
+		
+		memberId = memberRepository.save(Member.builder()
+				.email(EMAIL)
+				.password("password")
+				.nickName("nickName")
+				.role(Role.USER)
+				.build()).getId();
+		clear();
+	}
+	
+	private void clear() {
+		em.flush();
+		em.clear();
+	}
+	
+	private VerifiedToken verify(String refreshToken) {
+		return jwtService.verifyRefreshToken(refreshToken).orElseThrow();
+	}
+	
+	
+	
+	//== TEST ==//
+	/**
+	 * RefreshToken 교체 (RTR)
+	 * 사용한 토큰은 조회되지 않고, 새 토큰이 같은 토큰 패밀리로 저장
+	 */
+	@Test
+	public void rotateRefreshToken_refreshToken_교체() throws Exception {
+		// given
+		String refreshToken = jwtService.issueRefreshToken(memberId, null);
+		clear();
+		
+		// when
+		String reIssuedRefreshToken = jwtService.rotateRefreshToken(verify(refreshToken)).orElseThrow();
+		clear();
+		
+		// then
+		assertThat(jwtService.findRefreshToken(refreshToken)).isEmpty();
+		
+		RefreshToken storedToken = jwtService.findRefreshToken(reIssuedRefreshToken).orElseThrow();
+		assertThat(storedToken.getMemberId()).isEqualTo(memberId);
+		assertThat(storedToken.getFamilyId()).isEqualTo(verify(refreshToken).familyId());
+		assertThat(refreshTokenRepository.count()).isEqualTo(1);
+	}
+	
+	
+	
+	/**
+	 * 이미 교체된 RefreshToken 재사용 -> 토큰 패밀리 폐기
+	 * 같은 회원의 다른 로그인 세션(토큰 패밀리)은 유지
+	 */
+	@Test
+	public void rotateRefreshToken_재사용시_토큰패밀리_폐기() throws Exception {
+		// given
+		String otherSessionToken = jwtService.issueRefreshToken(memberId, "other-device");
+		String refreshToken = jwtService.issueRefreshToken(memberId, null);
+		String reIssuedRefreshToken = jwtService.rotateRefreshToken(verify(refreshToken)).orElseThrow();
+		clear();
+		
+		// when
+		assertThat(jwtService.rotateRefreshToken(verify(refreshToken))).isEmpty();
+		clear();
+		
+		// then
+		assertThat(jwtService.findRefreshToken(reIssuedRefreshToken)).isEmpty();
+		assertThat(jwtService.findRefreshToken(otherSessionToken)).isPresent();
+	}
+	
+	
+	
+	/**
+	 * CAS 조건 (회원 PK + 토큰 패밀리 + 사용한 토큰 해시 + 만료 전) 중 하나라도 다르면 변경된 행 0
+	 */
+	@Test
+	public void rotate_조건이_다르면_0건() throws Exception {
+		// given
+		String refreshToken = jwtService.issueRefreshToken(memberId, null);
+		String familyId = verify(refreshToken).familyId();
+		String tokenHash = TokenHashUtil.hash(refreshToken);
+		LocalDateTime now = LocalDateTime.now();
+		clear();
+		
+		// when, then
+		assertThat(refreshTokenRepository.rotate(memberId + 1, familyId, tokenHash, "new-hash-1", now, now.plusDays(1))).isZero();
+		assertThat(refreshTokenRepository.rotate(memberId, "other-family", tokenHash, "new-hash-2", now, now.plusDays(1))).isZero();
+		assertThat(refreshTokenRepository.rotate(memberId, familyId, "other-hash", "new-hash-3", now, now.plusDays(1))).isZero();
+		assertThat(refreshTokenRepository.rotate(memberId, familyId, tokenHash, "new-hash-4", now.plusDays(15), now.plusDays(16))).isZero(); // 만료된 토큰
+		assertThat(refreshTokenRepository.rotate(memberId, familyId, tokenHash, "new-hash-5", now, now.plusDays(1))).isOne();
+		assertThat(refreshTokenRepository.rotate(memberId, familyId, tokenHash, "new-hash-6", now, now.plusDays(1))).isZero(); // 재사용
+	}
+	
+	
+	
+	/**
+	 * RefreshToken 파기 -> 회원의 모든 세션 삭제
+	 */
+	@Test
+	public void destroyRefreshToken_refreshToken_제거() throws Exception {
+		// given
+		String refreshToken = jwtService.issueRefreshToken(memberId, null);
+		String otherSessionToken = jwtService.issueRefreshToken(memberId, "other-device");
+		clear();
+		
+		// when
+		jwtService.destroyRefreshToken(EMAIL);
+		clear();
+		
+		// then
+		assertThat(jwtService.findRefreshToken(refreshToken)).isEmpty();
+		assertThat(jwtService.findRefreshToken(otherSessionToken)).isEmpty();
+	}
+}
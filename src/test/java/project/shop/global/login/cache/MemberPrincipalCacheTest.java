@@ -0,0 +1,158 @@
+package project.shop.global.login.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.event.MemberPrincipalChangedEvent;
+import project.shop.domain.member.repository.MemberRepository;
+
+class MemberPrincipalCacheTest {
+
+	MemberRepository memberRepository = mock(MemberRepository.class);
+	
+	MemberPrincipalCache memberPrincipalCache;
+	
+	private static String EMAIL = "spring@gmail.com";
+	
+	@BeforeEach
+	public void init() {
+		memberPrincipalCache = new MemberPrincipalCache(memberRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+		
+		when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(Member.builder()
+				.id(1L)
+				.email(EMAIL)
+				.password("{bcrypt}hash")
+				.role(Role.USER)
+				.build()));
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 캐시_조회시_DB는_한번만_조회() throws Exception {
+		// when
+		MemberPrincipalSnapshot first = memberPrincipalCache.get(EMAIL).orElseThrow();
+		MemberPrincipalSnapshot second = memberPrincipalCache.get(EMAIL).orElseThrow();
+		
+		// then
+		verify(memberRepository, times(1)).findByEmail(EMAIL);
+		assertThat(second).isEqualTo(first);
+		assertThat(first.role()).isEqualTo(Role.USER);
+		assertThat(first.hasPassword()).isTrue();
+		assertThat(memberPrincipalCache.stats().hitCount()).isEqualTo(1);
+		assertThat(memberPrincipalCache.stats().missCount()).isEqualTo(1);
+	}
+	
+	@Test
+	public void 회원정보_변경_이벤트시_캐시_제거() throws Exception {
+		// given
+		memberPrincipalCache.get(EMAIL);
+		
+		// when
+		memberPrincipalCache.onMemberPrincipalChanged(new MemberPrincipalChangedEvent(EMAIL));
+		
+		// then
+		assertThat(memberPrincipalCache.getIfPresent(EMAIL)).isEmpty();
+		memberPrincipalCache.get(EMAIL);
+		verify(memberRepository, times(2)).findByEmail(EMAIL);
+	}
+	
+	@Test
+	public void 없는_회원은_캐시하지_않음() throws Exception {
+		// when
+		Optional<MemberPrincipalSnapshot> principal = memberPrincipalCache.get("none@gmail.com");
+		
+		// then
+		assertThat(principal).isEmpty();
+		assertThat(memberPrincipalCache.getIfPresent("none@gmail.com")).isEmpty();
+	}
+	
+	@Test
+	public void 가상_스레드에서_DB_조회_중에_캐리어_스레드를_고정하지_않음() throws Exception {
+		// given : 조회에 50ms 걸리는 MemberRepository (Mockito 대신 Proxy -> 스텁 내부 락 x)
+		AtomicInteger queries = new AtomicInteger();
+		MemberRepository slowRepository = (MemberRepository) Proxy.newProxyInstance(
+				MemberRepository.class.getClassLoader(),
+				new Class<?>[] {MemberRepository.class},
+				(proxy, method, args) -> {
+					if (!method.getName().equals("findByEmail")) {
+						throw new UnsupportedOperationException(method.getName());
+					}
+					queries.incrementAndGet();
+					Thread.sleep(50);
+					return Optional.of(Member.builder().id(1L).email((String) args[0]).role(Role.USER).build());
+				});
+		MemberPrincipalCache cache = new MemberPrincipalCache(slowRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+		
+		// when
+		List<RecordedEvent> pinnedEvents;
+		
+		try (Recording recording = new Recording();
+			 ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+			recording.start();
+			
+			List<Future<Optional<MemberPrincipalSnapshot>>> results = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				results.add(executor.submit(() -> cache.get(EMAIL)));
+			}
+			for (Future<Optional<MemberPrincipalSnapshot>> result : results) {
+				assertThat(result.get()).isPresent();
+			}
+			
+			recording.stop();
+			Path file = Files.createTempFile("pinning", ".jfr");
+			recording.dump(file);
+			pinnedEvents = RecordingFile.readAllEvents(file);
+			Files.deleteIfExists(file);
+		}
+		
+		// then : 동시 조회는 1회로 합쳐지고, 고정 이벤트 없음
+		assertThat(queries.get()).isEqualTo(1);
+		assertThat(pinnedEvents).isEmpty();
+	}
+	
+	@Test
+	public void 조회_중에_제거되면_조회_결과를_캐시하지_않음() throws Exception {
+		// given
+		when(memberRepository.findByEmail(EMAIL)).thenAnswer(invocation -> {
+			memberPrincipalCache.evict(EMAIL); // 조회 도중 회원 정보 변경 커밋
+			return Optional.of(Member.builder().id(1L).email(EMAIL).role(Role.USER).build());
+		});
+		
+		// when
+		Optional<MemberPrincipalSnapshot> principal = memberPrincipalCache.get(EMAIL);
+		
+		// then
+		assertThat(principal).isPresent();
+		assertThat(memberPrincipalCache.getIfPresent(EMAIL)).isEmpty();
+	}
+}
\ No newline at end of file
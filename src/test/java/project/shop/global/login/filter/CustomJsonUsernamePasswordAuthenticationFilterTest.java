@@ -0,0 +1,226 @@
+package project.shop.global.login.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.login.cache.MemberPrincipalCache;
+import project.shop.global.login.service.LoginService;
+import project.shop.global.login.throttle.LoginThrottle;
+import project.shop.global.login.throttle.LoginThrottleProperties;
+import project.shop.global.security.PasswordEncoders;
+
+class CustomJsonUsernamePasswordAuthenticationFilterTest {
+
+	AuthenticationManager authenticationManager = mock(AuthenticationManager.class);
+	
+	CustomJsonUsernamePasswordAuthenticationFilter filter;
+	
+	@BeforeEach
+	public void init() {
+		LoginThrottle loginThrottle = new LoginThrottle(new LoginThrottleProperties(false,
+				null, null, null, Duration.ofSeconds(1), Duration.ofMinutes(15), 1000, Duration.ofMinutes(30)),
+				new SimpleMeterRegistry());
+		
+		filter = new CustomJsonUsernamePasswordAuthenticationFilter(new ObjectMapper(), loginThrottle);
+		filter.setAuthenticationManager(authenticationManager);
+		filter.setMaxBodySize(256);
+		
+		when(authenticationManager.authenticate(any())).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 이메일_비밀번호만_읽고_다른_필드는_무시() throws Exception {
+		// given
+		MockHttpServletRequest request = request("application/json;charset=UTF-8",
+				"{\"remember\":{\"a\":[1,2,3]},\"email\":\"spring@gmail.com\",\"password\":\"test123@\"}");
+		
+		// when
+		filter.attemptAuthentication(request, new MockHttpServletResponse());
+		
+		// then
+		ArgumentCaptor<Authentication> captor = ArgumentCaptor.forClass(Authentication.class);
+		verify(authenticationManager).authenticate(captor.capture());
+		
+		assertThat(captor.getValue()).isInstanceOf(UsernamePasswordAuthenticationToken.class);
+		assertThat(captor.getValue().getPrincipal()).isEqualTo("spring@gmail.com");
+		assertThat(captor.getValue().getCredentials()).isEqualTo("test123@");
+	}
+	
+	@Test
+	public void 두_필드를_찾으면_나머지_본문은_파싱하지_않음() throws Exception {
+		// given : 두 필드 이후의 본문은 잘못된 JSON
+		MockHttpServletRequest request = request("application/json",
+				"{\"email\":\"spring@gmail.com\",\"password\":\"test123@\", not json");
+		
+		// when
+		filter.attemptAuthentication(request, new MockHttpServletResponse());
+		
+		// then
+		verify(authenticationManager).authenticate(any());
+	}
+	
+	@Test
+	public void Content_Type이_JSON이_아니면_본문을_읽지_않고_실패() throws Exception {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/member/login");
+		request.setContentType("application/x-www-form-urlencoded");
+		request.setContent(new byte[0]);
+		
+		// when, then
+		assertThatThrownBy(() -> filter.attemptAuthentication(request, new MockHttpServletResponse()))
+				.isInstanceOf(AuthenticationServiceException.class);
+		verify(authenticationManager, never()).authenticate(any());
+	}
+	
+	@Test
+	public void Content_Length가_최대_크기를_넘으면_본문을_읽지_않고_실패() throws Exception {
+		// given
+		MockHttpServletRequest request = request("application/json", "{\"email\":\"" + "a".repeat(300) + "\"}");
+		
+		// when, then
+		assertThatThrownBy(() -> filter.attemptAuthentication(request, new MockHttpServletResponse()))
+				.isInstanceOf(AuthenticationServiceException.class)
+				.hasMessageContaining("too large");
+	}
+	
+	@Test
+	public void Content_Length가_없어도_읽는_도중_최대_크기를_넘으면_실패() throws Exception {
+		// given : chunked 요청 (Content-Length 없음)
+		byte[] body = ("{\"padding\":\"" + "a".repeat(300) + "\",\"email\":\"spring@gmail.com\"}").getBytes(StandardCharsets.UTF_8);
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/member/login") {
+			@Override
+			public ServletInputStream getInputStream() {
+				return new ChunkedInputStream(body);
+			}
+		};
+		request.setContentType("application/json");
+		
+		// when, then
+		assertThat(request.getContentLengthLong()).isEqualTo(-1);
+		assertThatThrownBy(() -> filter.attemptAuthentication(request, new MockHttpServletResponse()))
+				.isInstanceOf(AuthenticationServiceException.class)
+				.hasMessageContaining("too large");
+		verify(authenticationManager, never()).authenticate(any());
+	}
+	
+	@Test
+	public void 형식이_잘못된_본문은_실패() throws Exception {
+		// when, then
+		assertThatThrownBy(() -> filter.attemptAuthentication(
+				request("application/json", "[\"spring@gmail.com\"]"), new MockHttpServletResponse()))
+				.isInstanceOf(AuthenticationServiceException.class);
+		assertThatThrownBy(() -> filter.attemptAuthentication(
+				request("application/json", "{\"email\":{\"nested\":1}}"), new MockHttpServletResponse()))
+				.isInstanceOf(AuthenticationServiceException.class);
+		assertThatThrownBy(() -> filter.attemptAuthentication(
+				request("application/json", "{\"email\":"), new MockHttpServletResponse()))
+				.isInstanceOf(AuthenticationServiceException.class);
+		verify(authenticationManager, never()).authenticate(any());
+	}
+	
+	
+	
+	/**
+	 * 존재하지 않는 이메일도 비밀번호 불일치와 같은 실패로 처리 -> LoginThrottle 실패 횟수에 포함
+	 * (실제 DaoAuthenticationProvider + LoginService 사용)
+	 */
+	@Test
+	public void 존재하지_않는_이메일도_로그인_실패로_기록() throws Exception {
+		// given
+		MemberRepository memberRepository = mock(MemberRepository.class);
+		when(memberRepository.findByEmail(any())).thenReturn(Optional.empty());
+		
+		LoginService loginService = new LoginService(memberRepository,
+				new MemberPrincipalCache(memberRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)));
+		DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+		provider.setPasswordEncoder(PasswordEncoders.createDelegatingPasswordEncoder(4));
+		provider.setUserDetailsService(loginService);
+		
+		LoginThrottle loginThrottle = mock(LoginThrottle.class);
+		CustomJsonUsernamePasswordAuthenticationFilter filter = new CustomJsonUsernamePasswordAuthenticationFilter(new ObjectMapper(), loginThrottle);
+		filter.setAuthenticationManager(new ProviderManager(provider));
+		
+		MockHttpServletRequest request = request("application/json", "{\"email\":\"unknown@gmail.com\",\"password\":\"password1234@\"}");
+		request.setRemoteAddr("10.0.0.1");
+		
+		// when, then
+		assertThatThrownBy(() -> filter.attemptAuthentication(request, new MockHttpServletResponse()))
+				.isInstanceOf(BadCredentialsException.class);
+		verify(loginThrottle).recordFailure("unknown@gmail.com", "10.0.0.1");
+		verify(loginThrottle, never()).recordSuccess(any(), any());
+	}
+	
+	
+	
+	private MockHttpServletRequest request(String contentType, String body) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/member/login");
+		request.setContentType(contentType);
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		return request;
+	}
+	
+	private static class ChunkedInputStream extends ServletInputStream {
+		
+		private final ByteArrayInputStream in;
+		
+		ChunkedInputStream(byte[] body) {
+			this.in = new ByteArrayInputStream(body);
+		}
+		
+		@Override
+		public int read() throws IOException {
+			return in.read();
+		}
+		
+		@Override
+		public boolean isFinished() {
+			return in.available() == 0;
+		}
+		
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+		
+		@Override
+		public void setReadListener(ReadListener readListener) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package project.shop.global.login.principal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import project.shop.domain.member.enums.Role;
+
+class MemberAuthenticationTokenTest {
+
+	private static String EMAIL = "spring@gmail.com";
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 권한은_Role_key로_생성() throws Exception {
+		// when
+		MemberAuthenticationToken authentication = MemberAuthenticationToken.authenticated(new MemberPrincipal(EMAIL, Role.ADMIN));
+		
+		// then
+		assertThat(authentication.isAuthenticated()).isTrue();
+		assertThat(authentication.getName()).isEqualTo(EMAIL);
+		assertThat(authentication.getCredentials()).isNull();
+		assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+	}
+	
+	@Test
+	public void 같은_Role의_권한_목록은_공유() throws Exception {
+		// when
+		MemberPrincipal first = new MemberPrincipal(EMAIL, Role.USER);
+		MemberPrincipal second = new MemberPrincipal("other@gmail.com", Role.USER);
+		
+		// then
+		assertThat(first.getAuthorities()).isSameAs(second.getAuthorities());
+		assertThat(first.getPassword()).isNull();
+	}
+	
+	@Test
+	public void 인증_상태는_변경할_수_없음() throws Exception {
+		// given
+		MemberAuthenticationToken authentication = MemberAuthenticationToken.authenticated(new MemberPrincipal(EMAIL, Role.USER));
+		
+		// when, then
+		assertThatThrownBy(() -> authentication.setAuthenticated(false)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,186 @@
+package project.shop.global.login.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.StandardPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.login.cache.MemberPrincipalCache;
+import project.shop.global.login.service.LoginService;
+import project.shop.global.security.PasswordEncoders;
+import project.shop.global.security.PasswordHashingRejectedException;
+
+/**
+ * 로그인 성공 시 비밀번호 해시 재암호화 검증
+ * 재암호화는 best-effort -> 거절되거나 그 사이 비밀번호가 변경되었다면 기존 해시 유지
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+class LoginAuthenticationProviderTest {
+
+	private static final String EMAIL = "spring@gmail.com";
+	private static final String PASSWORD = "password1234@";
+	private static final String LEGACY_HASH = "{noop}" + PASSWORD;
+	
+	@Autowired
+	MemberRepository memberRepository;
+	
+	@Autowired
+	EntityManager em;
+	
+	PasswordEncoder passwordEncoder = PasswordEncoders.createDelegatingPasswordEncoder(4);
+	
+	LoginService loginService;
+	
+	Long memberId;
+	
+	@BeforeEach
+	public void init() {
+		loginService = new LoginService(memberRepository,
+				new MemberPrincipalCache(memberRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)));
+		
+		memberId = memberRepository.save(Member.builder()
+				.email(EMAIL)
+				.password(LEGACY_HASH)
+				.nickName("nickName")
+				.role(Role.USER)
+				.build()).getId();
+		clear();
+	}
+	
+	private void clear() {
+		em.flush();
+		em.clear();
+	}
+	
+	private LoginAuthenticationProvider provider(PasswordEncoder passwordEncoder) {
+		LoginAuthenticationProvider provider = new LoginAuthenticationProvider();
+		provider.setPasswordEncoder(passwordEncoder);
+		provider.setUserDetailsService(loginService);
+		provider.setUserDetailsPasswordService(loginService);
+		
+		return provider;
+	}
+	
+	private Authentication login() {
+		return UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD);
+	}
+	
+	private String storedHash() {
+		clear();
+		
+		return memberRepository.findById(memberId).orElseThrow().getPassword();
+	}
+	
+	
+	
+	//== TEST ==//
+	/**
+	 * 오래된 형식({noop})의 해시 -> 로그인 성공 시 bcrypt로 재암호화
+	 */
+	@Test
+	public void 오래된_해시는_로그인_성공시_재암호화() throws Exception {
+		// when
+		Authentication authentication = provider(passwordEncoder).authenticate(login());
+		
+		// then
+		assertThat(authentication.isAuthenticated()).isTrue();
+		assertThat(storedHash()).startsWith("{bcrypt}");
+	}
+	
+	/**
+	 * PasswordEncoderFactories 시절의 해시({sha256}) -> 로그인 성공 시 bcrypt로 재암호화
+	 */
+	@SuppressWarnings("deprecation")
+	@Test
+	public void PasswordEncoderFactories_형식의_해시도_로그인_성공시_재암호화() throws Exception {
+		// given
+		memberRepository.updatePasswordHash(EMAIL, LEGACY_HASH, "{sha256}" + new StandardPasswordEncoder().encode(PASSWORD));
+		clear();
+		
+		// when
+		Authentication authentication = provider(passwordEncoder).authenticate(login());
+		
+		// then
+		assertThat(authentication.isAuthenticated()).isTrue();
+		assertThat(storedHash()).startsWith("{bcrypt}");
+		assertThat(passwordEncoder.matches(PASSWORD, storedHash())).isTrue();
+	}
+	
+	
+	
+	/**
+	 * 해시 스레드 풀이 가득 차서 재암호화(encode)가 거절되어도 로그인은 성공, 기존 해시 유지
+	 */
+	@Test
+	public void 재암호화가_거절되어도_로그인_성공() throws Exception {
+		// given
+		PasswordEncoder rejectingEncoder = new PasswordEncoder() {
+			
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return passwordEncoder.matches(rawPassword, encodedPassword);
+			}
+			
+			@Override
+			public boolean upgradeEncoding(String encodedPassword) {
+				return passwordEncoder.upgradeEncoding(encodedPassword);
+			}
+			
+			@Override
+			public String encode(CharSequence rawPassword) {
+				if (PASSWORD.contentEquals(rawPassword)) { // 재암호화만 거절 (타이밍 공격 방지용 더미 해시는 생성)
+					throw new PasswordHashingRejectedException(Duration.ofSeconds(1));
+				}
+				return passwordEncoder.encode(rawPassword);
+			}
+		};
+		
+		// when
+		Authentication authentication = provider(rejectingEncoder).authenticate(login());
+		
+		// then
+		assertThat(authentication.isAuthenticated()).isTrue();
+		assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+		assertThat(storedHash()).isEqualTo(LEGACY_HASH);
+	}
+	
+	
+	
+	/**
+	 * 로그인 때 조회한 해시가 그 사이 변경되었다면 (비밀번호 변경) 재암호화하지 않음 -> 변경된 행 0
+	 */
+	@Test
+	public void 조회한_해시가_변경되었다면_재암호화_0건() throws Exception {
+		// given
+		String staleHash = "{noop}oldPassword";
+		
+		// when
+		int updated = memberRepository.updatePasswordHash(EMAIL, staleHash, "{bcrypt}newHash");
+		UserDetails user = loginService.updatePassword(
+				User.withUsername(EMAIL).password(staleHash).roles(Role.USER.name()).build(), "{bcrypt}newHash");
+		
+		// then
+		assertThat(updated).isZero();
+		assertThat(user.getPassword()).isEqualTo(staleHash);
+		assertThat(storedHash()).isEqualTo(LEGACY_HASH);
+	}
+}
@@ -0,0 +1,153 @@
+package project.shop.global.login.throttle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import project.shop.global.login.throttle.LoginThrottleProperties.Policy;
+
+class LoginThrottleTest {
+
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	
+	AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+	
+	LoginThrottleProperties properties = new LoginThrottleProperties(true,
+			new Policy(3, Duration.ofMinutes(3), 2), // 1분에 1개씩 채워짐
+			new Policy(10, Duration.ofMinutes(1), 100),
+			new Policy(2, Duration.ofMinutes(1), 0), // 30초에 1개씩 채워짐
+			Duration.ofSeconds(1), Duration.ofSeconds(8), 1000, Duration.ofMinutes(30));
+	
+	LoginThrottle loginThrottle = new LoginThrottle(properties, meterRegistry, now::get);
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 버킷이_비면_거절_후_시간이_지나면_허용() throws Exception {
+		// given
+		for (int i = 0; i < 3; i++) {
+			loginThrottle.acquireForEmail("member@test.com");
+		}
+		
+		// when
+		LoginThrottledException exception = catchThrowableOfType(
+				() -> loginThrottle.acquireForEmail("MEMBER@test.com "), LoginThrottledException.class); // 대소문자, 공백 무시
+		
+		// then
+		assertThat(exception.getRetryAfterSeconds()).isEqualTo(60);
+		assertThat(meterRegistry.get("login.throttle.rejected").tag("scope", "email").counter().count()).isEqualTo(1);
+		
+		now.addAndGet(TimeUnit.SECONDS.toNanos(61));
+		loginThrottle.acquireForEmail("member@test.com");
+	}
+	
+	@Test
+	public void 연속_실패가_threshold_이상이면_지수_백오프() throws Exception {
+		// given
+		String email = "member@test.com";
+		
+		// when, then
+		loginThrottle.recordFailure(email, "10.0.0.1");
+		loginThrottle.acquireForEmail(email); // 1회 실패 -> 아직 백오프 x
+		
+		loginThrottle.recordFailure(email, "10.0.0.1"); // 2회 -> 1초
+		assertRetryAfter(email, 1);
+		
+		loginThrottle.recordFailure(email, "10.0.0.1"); // 3회 -> 2초
+		assertRetryAfter(email, 2);
+		
+		for (int i = 0; i < 10; i++) {
+			loginThrottle.recordFailure(email, "10.0.0.1");
+		}
+		assertRetryAfter(email, 8); // backoff-max
+		
+		now.addAndGet(TimeUnit.SECONDS.toNanos(8));
+		loginThrottle.acquireForEmail(email);
+	}
+	
+	@Test
+	public void 로그인_성공_시_연속_실패_초기화() throws Exception {
+		// given
+		String email = "member@test.com";
+		loginThrottle.recordFailure(email, "10.0.0.1");
+		loginThrottle.recordFailure(email, "10.0.0.1");
+		
+		// when
+		loginThrottle.recordSuccess(email, "10.0.0.1");
+		
+		// then
+		loginThrottle.acquireForEmail(email);
+	}
+	
+	@Test
+	public void 이메일과_IP는_따로_제한() throws Exception {
+		// given
+		for (int i = 0; i < 3; i++) {
+			loginThrottle.acquireForEmail("member@test.com");
+		}
+		
+		// when, then
+		loginThrottle.acquireForEmail("other@test.com");
+		loginThrottle.acquireForAddress("10.0.0.1");
+		
+		for (int i = 0; i < 9; i++) {
+			loginThrottle.acquireForAddress("10.0.0.1");
+		}
+		assertThatThrownBy(() -> loginThrottle.acquireForAddress("10.0.0.1")).isInstanceOf(LoginThrottledException.class);
+		loginThrottle.acquireForAddress("10.0.0.2");
+	}
+	
+	@Test
+	public void 중복확인은_로그인과_별도의_IP_버킷으로_제한() throws Exception {
+		// given
+		loginThrottle.acquireForAvailabilityCheck("10.0.0.1");
+		loginThrottle.acquireForAvailabilityCheck("10.0.0.1");
+		
+		// when
+		LoginThrottledException exception = catchThrowableOfType(
+				() -> loginThrottle.acquireForAvailabilityCheck("10.0.0.1"), LoginThrottledException.class);
+		
+		// then
+		assertThat(exception.getExceptionType()).isEqualTo(LoginThrottleExceptionType.TOO_MANY_AVAILABILITY_CHECKS);
+		assertThat(exception.getRetryAfterSeconds()).isEqualTo(30);
+		assertThat(meterRegistry.get("login.throttle.rejected").tag("scope", "availability").counter().count()).isEqualTo(1);
+		
+		loginThrottle.acquireForAddress("10.0.0.1"); // 로그인 한도는 그대로
+		loginThrottle.acquireForAvailabilityCheck("10.0.0.2");
+	}
+	
+	@Test
+	public void 비활성화하면_제한하지_않음() throws Exception {
+		// given
+		LoginThrottle disabled = new LoginThrottle(new LoginThrottleProperties(false,
+				null, null, null, Duration.ofSeconds(1), Duration.ofSeconds(8), 1000, Duration.ofMinutes(30)),
+				meterRegistry, now::get);
+		
+		// when, then
+		for (int i = 0; i < 10; i++) {
+			disabled.recordFailure("member@test.com", "10.0.0.1");
+			disabled.acquireForEmail("member@test.com");
+		}
+	}
+	
+	
+	
+	private void assertRetryAfter(String email, long seconds) {
+		LoginThrottledException exception = catchThrowableOfType(
+				() -> loginThrottle.acquireForEmail(email), LoginThrottledException.class);
+		
+		assertThat(exception).isNotNull();
+		assertThat(exception.getRetryAfterSeconds()).isEqualTo(seconds);
+	}
+}
@@ -0,0 +1,95 @@
+package project.shop.global.login.throttle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class TrustedProxyClientIpResolverTest {
+
+	TrustedProxyClientIpResolver resolver = new TrustedProxyClientIpResolver(List.of("10.0.0.0/8", " 192.168.0.10 "));
+	
+	private MockHttpServletRequest request(String remoteAddr, String... forwardedFor) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/member/login");
+		request.setRemoteAddr(remoteAddr);
+		
+		for (String header : forwardedFor) {
+			request.addHeader("X-Forwarded-For", header);
+		}
+		
+		return request;
+	}
+	
+	
+	
+	//== TEST ==//
+	/**
+	 * 신뢰하지 않는 주소에서 직접 온 요청 -> X-Forwarded-For 무시 (위조 방지)
+	 */
+	@Test
+	public void 신뢰하지_않는_주소의_헤더는_무시() throws Exception {
+		assertThat(resolver.resolve(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+	}
+	
+	
+	
+	/**
+	 * 신뢰하는 프록시를 거친 요청 -> 오른쪽부터 신뢰하지 않는 첫 번째 주소
+	 * 클라이언트가 헤더 앞쪽에 넣은 위조 값은 사용하지 않음
+	 */
+	@Test
+	public void 신뢰하는_프록시를_거친_요청은_클라이언트_IP_사용() throws Exception {
+		assertThat(resolver.resolve(request("10.0.0.2", "198.51.100.1"))).isEqualTo("198.51.100.1");
+		assertThat(resolver.resolve(request("10.0.0.2", "1.2.3.4, 198.51.100.1, 192.168.0.10"))).isEqualTo("198.51.100.1");
+		assertThat(resolver.resolve(request("10.0.0.2", "1.2.3.4", "198.51.100.1, 10.0.0.3"))).isEqualTo("198.51.100.1");
+	}
+	
+	
+	
+	/**
+	 * 헤더가 없거나, 형식이 잘못된 값 -> 마지막으로 확인한 주소
+	 */
+	@Test
+	public void 헤더가_없거나_형식이_잘못되면_마지막으로_확인한_주소() throws Exception {
+		assertThat(resolver.resolve(request("10.0.0.2"))).isEqualTo("10.0.0.2");
+		assertThat(resolver.resolve(request("10.0.0.2", "unknown, 10.0.0.3"))).isEqualTo("10.0.0.3");
+	}
+	
+	
+	
+	/**
+	 * 16진수 문자로만 된 호스트 이름 -> IP 주소가 아니므로 IpAddressMatcher(DNS 조회)까지 가지 않음
+	 */
+	@Test
+	public void 헤더의_호스트_이름은_IP로_사용하지_않음() throws Exception {
+		assertThat(resolver.resolve(request("10.0.0.2", "cafe"))).isEqualTo("10.0.0.2");
+		assertThat(resolver.resolve(request("10.0.0.2", "198.51.100.1, face.cafe"))).isEqualTo("10.0.0.2");
+		assertThat(resolver.resolve(request("10.0.0.2", "face.cafe, 10.0.0.3"))).isEqualTo("10.0.0.3");
+		assertThat(resolver.resolve(request("10.0.0.2", "1.2.3.256"))).isEqualTo("10.0.0.2");
+		assertThat(resolver.resolve(request("10.0.0.2", "2001:db8:::1"))).isEqualTo("10.0.0.2");
+		assertThat(resolver.resolve(request("10.0.0.2", "fe80::1%eth0"))).isEqualTo("10.0.0.2");
+	}
+	
+	
+	
+	@Test
+	public void IPv6_주소도_클라이언트_IP로_사용() throws Exception {
+		assertThat(resolver.resolve(request("10.0.0.2", "2001:db8::1"))).isEqualTo("2001:db8::1");
+		assertThat(resolver.resolve(request("10.0.0.2", "::ffff:198.51.100.1"))).isEqualTo("::ffff:198.51.100.1");
+		assertThat(resolver.resolve(request("10.0.0.2", "2001:db8:0:0:0:0:0:1"))).isEqualTo("2001:db8:0:0:0:0:0:1");
+	}
+	
+	
+	
+	/**
+	 * 신뢰하는 프록시가 없으면 항상 getRemoteAddr()
+	 */
+	@Test
+	public void 신뢰하는_프록시가_없으면_직접_연결한_주소() throws Exception {
+		TrustedProxyClientIpResolver resolver = new TrustedProxyClientIpResolver(List.of());
+		
+		assertThat(resolver.resolve(request("10.0.0.2", "198.51.100.1"))).isEqualTo("10.0.0.2");
+	}
+}
@@ -0,0 +1,200 @@
+package project.shop.global.oauth2;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 카카오, 네이버, 구글 OAuth2 서버를 흉내 내는 로컬 서버 (JDK HttpServer)
+ * 외부 소셜 서버 없이 소셜 로그인 부하 테스트, 제한 시간 / bulkhead 테스트에 사용
+ * 
+ * registrationId(kakao, naver, google)별 경로
+ * - /{registrationId}/oauth/authorize	: redirect_uri?code=...&state=... 로 바로 리다이렉트
+ * - /{registrationId}/oauth/token		: 고정 AccessToken
+ * - /{registrationId}/userinfo			: 소셜별 userInfo 응답 예시 (setDelay() 만큼 늦게 응답)
+ * 
+ * 애플리케이션과 함께 띄우는 경우 (main)
+ * ./gradlew loadTest 와 별개로 실행 후, 소셜 provider URI를 이 서버로 변경
+ * spring.security.oauth2.client.provider.kakao.authorization-uri=http://localhost:8089/kakao/oauth/authorize
+ * spring.security.oauth2.client.provider.kakao.token-uri=http://localhost:8089/kakao/oauth/token
+ * spring.security.oauth2.client.provider.kakao.user-info-uri=http://localhost:8089/kakao/userinfo
+ */
+public class FakeOAuth2ProviderServer implements AutoCloseable {
+
+	public static final String KAKAO_USER_INFO = """
+			{"id":123456789,"connected_at":"2024-08-15T01:45:28Z","kakao_account":{"profile_nickname_needs_agreement":false,\
+			"profile":{"nickname":"홍길동","thumbnail_image_url":"http://yyy.kakao.com/img_110x110.jpg",\
+			"profile_image_url":"http://yyy.kakao.com/img_640x640.jpg","is_default_image":false},\
+			"email_needs_agreement":false,"is_email_valid":true,"is_email_verified":true,"email":"sample@sample.com"}}""";
+	
+	public static final String NAVER_USER_INFO = """
+			{"resultcode":"00","message":"success","response":{"email":"openapi@naver.com","nickname":"OpenAPI",\
+			"profile_image":"https://ssl.pstatic.net/static/pwe/address/nodata_33x33.gif","age":"40-49","gender":"F",\
+			"id":"32742776","name":"오픈 API","birthday":"10-01"}}""";
+	
+	public static final String GOOGLE_USER_INFO = """
+			{"sub":"110169484474386276334","name":"Google User","given_name":"Google","family_name":"User",\
+			"picture":"https://lh3.googleusercontent.com/a/default-user","email":"user@gmail.com","email_verified":true,"locale":"ko"}""";
+	
+	private static final Map<String, String> USER_INFO = Map.of(
+			"kakao", KAKAO_USER_INFO,
+			"naver", NAVER_USER_INFO,
+			"google", GOOGLE_USER_INFO);
+	
+	private static final Map<String, String> USER_NAME_ATTRIBUTE = Map.of(
+			"kakao", "id",
+			"naver", "response",
+			"google", "sub");
+	
+	private final HttpServer server;
+	private final Map<String, Duration> delays = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> userInfoRequests = new ConcurrentHashMap<>();
+	
+	private FakeOAuth2ProviderServer(HttpServer server) {
+		this.server = server;
+		
+		for (String registrationId : USER_INFO.keySet()) {
+			userInfoRequests.put(registrationId, new AtomicInteger());
+			server.createContext("/" + registrationId + "/oauth/authorize", this::authorize);
+			server.createContext("/" + registrationId + "/oauth/token", exchange -> token(exchange));
+			server.createContext("/" + registrationId + "/userinfo", exchange -> userInfo(exchange, registrationId));
+		}
+	}
+	
+	
+	
+	/**
+	 * @param port : 0 이면 사용 가능한 포트
+	 */
+	public static FakeOAuth2ProviderServer start(int port) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 4096);
+		server.setExecutor(Executors.newVirtualThreadPerTaskExecutor()); // 서버 쪽은 병목이 되지 않도록
+		
+		FakeOAuth2ProviderServer fake = new FakeOAuth2ProviderServer(server);
+		server.start();
+		
+		return fake;
+	}
+	
+	/**
+	 * userInfo 응답 지연 시간
+	 */
+	public void setDelay(String registrationId, Duration delay) {
+		delays.put(registrationId, delay);
+	}
+	
+	public int userInfoRequests(String registrationId) {
+		return userInfoRequests.get(registrationId).get();
+	}
+	
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+	
+	/**
+	 * 이 서버를 가리키는 ClientRegistration
+	 */
+	public ClientRegistration registration(String registrationId) {
+		String url = baseUrl() + "/" + registrationId;
+		
+		return ClientRegistration.withRegistrationId(registrationId)
+				.clientId("client-id")
+				.clientSecret("client-secret")
+				.authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+				.redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+				.authorizationUri(url + "/oauth/authorize")
+				.tokenUri(url + "/oauth/token")
+				.userInfoUri(url + "/userinfo")
+				.userNameAttributeName(USER_NAME_ATTRIBUTE.get(registrationId))
+				.build();
+	}
+	
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+	
+	public static void main(String[] args) throws IOException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+		Duration delay = Duration.ofMillis(args.length > 1 ? Long.parseLong(args[1]) : 0);
+		
+		FakeOAuth2ProviderServer fake = start(port);
+		USER_INFO.keySet().forEach(registrationId -> fake.setDelay(registrationId, delay));
+		
+		System.out.printf("Fake OAuth2 provider: %s (userInfo delay %dms)%n", fake.baseUrl(), delay.toMillis());
+	}
+	
+	
+	
+	private void authorize(HttpExchange exchange) throws IOException {
+		Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+		String location = query.get("redirect_uri") + "?code=fake-code&state="
+				+ URLEncoder.encode(query.getOrDefault("state", ""), StandardCharsets.UTF_8);
+		
+		exchange.getResponseHeaders().add("Location", location);
+		exchange.sendResponseHeaders(302, -1);
+		exchange.close();
+	}
+	
+	private void token(HttpExchange exchange) throws IOException {
+		exchange.getRequestBody().readAllBytes();
+		respond(exchange, "{\"access_token\":\"fake-access-token\",\"token_type\":\"bearer\",\"expires_in\":3600}");
+	}
+	
+	private void userInfo(HttpExchange exchange, String registrationId) throws IOException {
+		userInfoRequests.get(registrationId).incrementAndGet();
+		
+		Duration delay = delays.getOrDefault(registrationId, Duration.ZERO);
+		
+		if (!delay.isZero()) {
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		
+		respond(exchange, USER_INFO.get(registrationId));
+	}
+	
+	private static void respond(HttpExchange exchange, String json) throws IOException {
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		
+		exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+		exchange.sendResponseHeaders(200, body.length);
+		
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		} catch (IOException e) { // 클라이언트가 제한 시간 초과로 먼저 연결을 끊은 경우
+		}
+	}
+	
+	private static Map<String, String> parseQuery(String query) {
+		if (query == null || query.isEmpty()) {
+			return Map.of();
+		}
+		
+		return Arrays.stream(query.split("&"))
+				.map(pair -> pair.split("=", 2))
+				.collect(Collectors.toMap(
+						pair -> URLDecoder.decode(pair[0], StandardCharsets.UTF_8),
+						pair -> pair.length > 1 ? URLDecoder.decode(pair[1], StandardCharsets.UTF_8) : "",
+						(first, second) -> first));
+	}
+}
@@ -0,0 +1,139 @@
+package project.shop.global.oauth2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import project.shop.global.oauth2.client.OAuth2UserInfoClient;
+import project.shop.global.oauth2.client.OAuth2UserInfoProperties;
+
+/**
+ * 플랫폼 스레드 풀 vs 가상 스레드 부하 테스트 (./gradlew loadTest)
+ * 
+ * 응답이 느린 소셜 로그인 서버(FakeOAuth2ProviderServer, PROVIDER_DELAY)를 띄우고
+ * 동시에 REQUESTS 개의 소셜 로그인 userInfo 요청을 처리할 때 처리량과 p50, p99 지연 시간 비교
+ * 
+ * - platform	: Tomcat 기본값과 같은 200개 스레드 풀 + 플랫폼 스레드 HttpClient
+ * - virtual	: 요청마다 가상 스레드 + 가상 스레드 HttpClient (spring.threads.virtual.enabled=true)
+ * 
+ * 실행 시간이 길어서 기본 test 태스크에서는 제외 (@Tag("load"))
+ */
+@Tag("load")
+class OAuth2UserInfoLoadTest {
+
+	private static final int REQUESTS = 2000;
+	private static final int PLATFORM_POOL_SIZE = 200; // server.tomcat.threads.max 기본값
+	private static final Duration PROVIDER_DELAY = Duration.ofMillis(200);
+	
+	FakeOAuth2ProviderServer provider;
+	
+	@BeforeEach
+	public void startProvider() throws Exception {
+		provider = FakeOAuth2ProviderServer.start(0);
+		provider.setDelay("kakao", PROVIDER_DELAY);
+	}
+	
+	@AfterEach
+	public void stopProvider() {
+		provider.close();
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 느린_소셜_로그인_서버_응답을_가상_스레드로_처리하면_처리량이_더_높음() throws Exception {
+		// given
+		OAuth2UserRequest userRequest = userRequest();
+		
+		run("warm-up", Executors.newFixedThreadPool(PLATFORM_POOL_SIZE), client(false), userRequest);
+		
+		// when
+		Result platform = run("platform", Executors.newFixedThreadPool(PLATFORM_POOL_SIZE), client(false), userRequest);
+		Result virtual = run("virtual", Executors.newVirtualThreadPerTaskExecutor(), client(true), userRequest);
+		
+		// then
+		assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+		assertThat(virtual.p99Ms()).isLessThan(platform.p99Ms());
+	}
+	
+	
+	
+	private Result run(String name, ExecutorService executor, OAuth2UserInfoClient client,
+					   OAuth2UserRequest userRequest) throws Exception {
+		
+		List<Future<Long>> futures = new ArrayList<>(REQUESTS);
+		long start = System.nanoTime();
+		
+		try (executor) {
+			for (int i = 0; i < REQUESTS; i++) {
+				long submittedAt = System.nanoTime(); // 대기열에서 기다린 시간 포함 (Tomcat accept -> 응답)
+				futures.add(executor.submit(() -> {
+					client.loadUserInfo(userRequest);
+					return System.nanoTime() - submittedAt;
+				}));
+			}
+			
+			long[] latencies = new long[REQUESTS];
+			for (int i = 0; i < REQUESTS; i++) {
+				latencies[i] = futures.get(i).get(1, TimeUnit.MINUTES);
+			}
+			
+			double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+			Arrays.sort(latencies);
+			
+			Result result = new Result(REQUESTS / elapsedSeconds,
+					TimeUnit.NANOSECONDS.toMillis(latencies[(int) (REQUESTS * 0.50)]),
+					TimeUnit.NANOSECONDS.toMillis(latencies[(int) (REQUESTS * 0.99)]));
+			
+			System.out.printf("[%s] %d requests, throughput=%.1f req/s, p50=%dms, p99=%dms%n",
+					name, REQUESTS, result.throughput(), result.p50Ms(), result.p99Ms());
+			
+			return result;
+		} finally {
+			client.destroy();
+		}
+	}
+	
+	/**
+	 * 동시 요청 수 제한(bulkhead)이 처리량을 제한하지 않도록 REQUESTS 만큼 허용
+	 */
+	private OAuth2UserInfoClient client(boolean virtualThreads) {
+		OAuth2UserInfoProperties properties = new OAuth2UserInfoProperties(Map.of("kakao",
+				new OAuth2UserInfoProperties.Provider(Duration.ofSeconds(2), Duration.ofSeconds(30), REQUESTS, Duration.ofMinutes(1))));
+		
+		return new OAuth2UserInfoClient(properties, new SimpleMeterRegistry(), new ObjectMapper(), virtualThreads);
+	}
+	
+	private OAuth2UserRequest userRequest() {
+		OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "fake-access-token",
+				Instant.now(), Instant.now().plusSeconds(3600));
+		
+		return new OAuth2UserRequest(provider.registration("kakao"), accessToken);
+	}
+	
+	private record Result(double throughput, long p50Ms, long p99Ms) {
+	}
+}
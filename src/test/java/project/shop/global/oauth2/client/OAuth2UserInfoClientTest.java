@@ -0,0 +1,153 @@
+package project.shop.global.oauth2.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import project.shop.global.oauth2.FakeOAuth2ProviderServer;
+import project.shop.global.oauth2.client.OAuth2UserInfoProperties.Provider;
+import project.shop.global.oauth2.userinfo.GoogleOAuth2UserInfo;
+import project.shop.global.oauth2.userinfo.KakaoOAuth2UserInfo;
+import project.shop.global.oauth2.userinfo.NaverOAuth2UserInfo;
+import project.shop.global.oauth2.userinfo.OAuth2UserInfo;
+
+class OAuth2UserInfoClientTest {
+
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	
+	FakeOAuth2ProviderServer provider;
+	
+	OAuth2UserInfoClient client;
+	
+	@BeforeEach
+	public void init() throws Exception {
+		provider = FakeOAuth2ProviderServer.start(0);
+		client = new OAuth2UserInfoClient(new OAuth2UserInfoProperties(Map.of(
+				"kakao", new Provider(Duration.ofSeconds(1), Duration.ofSeconds(1), 2, Duration.ofMillis(10)),
+				"naver", new Provider(Duration.ofSeconds(1), Duration.ofSeconds(2), 2, Duration.ofMillis(10)))),
+				meterRegistry, new ObjectMapper(), true);
+	}
+	
+	@AfterEach
+	public void tearDown() {
+		client.destroy();
+		provider.close();
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 소셜별_사용자_정보_조회_및_메트릭_기록() throws Exception {
+		// when
+		OAuth2UserInfo kakao = client.loadUserInfo(userRequest("kakao"));
+		OAuth2UserInfo naver = client.loadUserInfo(userRequest("naver"));
+		OAuth2UserInfo google = client.loadUserInfo(userRequest("google")); // 설정이 없는 소셜은 기본값
+		
+		// then
+		assertThat(kakao).isInstanceOf(KakaoOAuth2UserInfo.class);
+		assertThat(kakao.getId()).isEqualTo("123456789");
+		assertThat(kakao.getNickname()).isEqualTo("홍길동");
+		assertThat(kakao.getImageUrl()).isEqualTo("http://yyy.kakao.com/img_110x110.jpg");
+		
+		assertThat(naver).isInstanceOf(NaverOAuth2UserInfo.class);
+		assertThat(naver.getId()).isEqualTo("32742776");
+		assertThat(naver.getNickname()).isEqualTo("오픈 API");
+		
+		assertThat(google).isInstanceOf(GoogleOAuth2UserInfo.class);
+		assertThat(google.getId()).isEqualTo("110169484474386276334");
+		assertThat(google.getImageUrl()).isEqualTo("https://lh3.googleusercontent.com/a/default-user");
+		
+		assertThat(meterRegistry.get("oauth2.userinfo.requests").tags("provider", "KAKAO", "outcome", "success").timer().count())
+				.isEqualTo(1);
+		assertThat(meterRegistry.get("oauth2.userinfo.bulkhead.available").tag("provider", "NAVER").gauge().value())
+				.isEqualTo(2);
+	}
+	
+	@Test
+	public void 응답_제한_시간을_넘으면_로그인_실패() throws Exception {
+		// given
+		provider.setDelay("kakao", Duration.ofSeconds(3));
+		
+		// when
+		long start = System.nanoTime();
+		OAuth2AuthenticationException exception = catchThrowableOfType(
+				() -> client.loadUserInfo(userRequest("kakao")), OAuth2AuthenticationException.class);
+		
+		// then
+		assertThat(exception).isNotNull();
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+		assertThat(meterRegistry.get("oauth2.userinfo.requests").tags("provider", "KAKAO", "outcome", "error").timer().count())
+				.isEqualTo(1);
+	}
+	
+	@Test
+	public void 느린_소셜이_동시_요청_수를_모두_써도_다른_소셜은_처리() throws Exception {
+		// given : 카카오 응답 250ms, 동시 2개
+		provider.setDelay("kakao", Duration.ofMillis(250));
+		
+		List<Future<Object>> kakaoResults = new ArrayList<>();
+		
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			// when
+			for (int i = 0; i < 6; i++) {
+				kakaoResults.add(executor.submit(() -> {
+					try {
+						return client.loadUserInfo(userRequest("kakao"));
+					} catch (OAuth2AuthenticationException e) {
+						return e;
+					}
+				}));
+			}
+			
+			Thread.sleep(50); // 카카오 요청이 자리를 차지할 때까지
+			OAuth2UserInfo naver = client.loadUserInfo(userRequest("naver"));
+			
+			// then
+			assertThat(naver.getId()).isEqualTo("32742776");
+			
+			long rejected = 0;
+			for (Future<Object> result : kakaoResults) {
+				if (result.get() instanceof OAuth2AuthenticationException e) {
+					assertThat(e.getError().getErrorCode()).isEqualTo("provider_busy");
+					rejected++;
+				}
+			}
+			
+			assertThat(rejected).isEqualTo(4);
+			assertThat(provider.userInfoRequests("kakao")).isEqualTo(2);
+			assertThat(meterRegistry.get("oauth2.userinfo.requests").tags("provider", "KAKAO", "outcome", "rejected").timer().count())
+					.isEqualTo(4);
+		}
+	}
+	
+	
+	
+	private OAuth2UserRequest userRequest(String registrationId) {
+		OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "fake-access-token",
+				Instant.now(), Instant.now().plusSeconds(3600));
+		
+		return new OAuth2UserRequest(provider.registration(registrationId), accessToken);
+	}
+}
@@ -0,0 +1,163 @@
+package project.shop.global.oauth2.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.enums.SocialType;
+import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.jwt.entity.RefreshToken;
+import project.shop.global.jwt.key.JwtKeyProperties;
+import project.shop.global.jwt.key.JwtKeyRing;
+import project.shop.global.jwt.repository.RefreshTokenRepository;
+import project.shop.global.jwt.revocation.AccessTokenRevocationList;
+import project.shop.global.jwt.service.JwtServiceImpl;
+import project.shop.global.oauth2.client.OAuth2UserInfoClient;
+import project.shop.global.oauth2.service.CustomOAuth2UserService;
+import project.shop.global.oauth2.userinfo.KakaoOAuth2UserInfo;
+import project.shop.global.oauth2.userinfo.KakaoUserInfoResponse;
+
+/**
+ * 소셜 로그인 1회 (CustomOAuth2UserService.loadUser() -> OAuth2LoginSuccessHandler) 의 DB 요청 횟수 검증
+ * 리포지토리는 mock, JwtService는 실제 구현체 사용
+ */
+class OAuth2LoginSuccessHandlerTest {
+
+	private static final String ACCESS_HEADER = "Authorization";
+	private static final String REFRESH_HEADER = "Authorization-refresh";
+	private static final String SOCIAL_ID = "123456789";
+	
+	MemberRepository memberRepository = mock(MemberRepository.class);
+	
+	RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+	
+	OAuth2UserInfoClient oauth2UserInfoClient = mock(OAuth2UserInfoClient.class);
+	
+	CustomOAuth2UserService customOAuth2UserService = new CustomOAuth2UserService(memberRepository, oauth2UserInfoClient);
+	
+	OAuth2LoginSuccessHandler oauth2LoginSuccessHandler;
+	
+	OAuth2UserRequest userRequest;
+	
+	@BeforeEach
+	public void init() {
+		JwtServiceImpl jwtService = new JwtServiceImpl(
+				memberRepository,
+				refreshTokenRepository,
+				new AccessTokenRevocationList(new SimpleMeterRegistry(), 1800, 1000, 0.001),
+				new JwtKeyRing(new JwtKeyProperties(null, true, List.of()), "test-secret-test-secret-test-secret-test-secret"));
+		
+		ReflectionTestUtils.setField(jwtService, "accessTokenValidityInSeconds", 1800L);
+		ReflectionTestUtils.setField(jwtService, "refreshTokenValidityInSeconds", 1209600L);
+		ReflectionTestUtils.setField(jwtService, "accessHeader", ACCESS_HEADER);
+		ReflectionTestUtils.setField(jwtService, "refreshHeader", REFRESH_HEADER);
+		
+		oauth2LoginSuccessHandler = new OAuth2LoginSuccessHandler(jwtService);
+		
+		ClientRegistration registration = ClientRegistration.withRegistrationId("kakao")
+				.clientId("client-id")
+				.authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+				.redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+				.authorizationUri("http://localhost/oauth/authorize")
+				.tokenUri("http://localhost/oauth/token")
+				.userInfoUri("http://localhost/v2/user/me")
+				.userNameAttributeName("id")
+				.build();
+		
+		userRequest = new OAuth2UserRequest(registration, new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER,
+				"access-token", Instant.now(), Instant.now().plusSeconds(3600)));
+		
+		when(oauth2UserInfoClient.loadUserInfo(any())).thenReturn(new KakaoOAuth2UserInfo(
+				new KakaoUserInfoResponse(Long.valueOf(SOCIAL_ID), null)));
+	}
+	
+	private Member socialMember(Role role) {
+		return Member.builder()
+				.id(1L)
+				.email("uuid@socialUser.com")
+				.socialType(SocialType.KAKAO)
+				.socialId(SOCIAL_ID)
+				.role(role)
+				.build();
+	}
+	
+	private MockHttpServletResponse login() throws Exception {
+		OAuth2User oauth2User = customOAuth2UserService.loadUser(userRequest);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		
+		oauth2LoginSuccessHandler.onAuthenticationSuccess(new MockHttpServletRequest(), response,
+				new TestingAuthenticationToken(oauth2User, null));
+		
+		return response;
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 가입된_소셜_회원_로그인은_회원_조회_1번_RefreshToken_저장_1번() throws Exception {
+		// given
+		when(memberRepository.findBySocialTypeAndSocialId(SocialType.KAKAO, SOCIAL_ID)).thenReturn(Optional.of(socialMember(Role.USER)));
+		
+		// when
+		MockHttpServletResponse response = login();
+		
+		// then
+		verify(memberRepository, times(1)).findBySocialTypeAndSocialId(SocialType.KAKAO, SOCIAL_ID);
+		verifyNoMoreInteractions(memberRepository); // findByEmail, 회원 UPDATE x
+		
+		verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+		verifyNoMoreInteractions(refreshTokenRepository);
+		
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeaders(ACCESS_HEADER)).hasSize(1);
+		assertThat(response.getHeaders(REFRESH_HEADER)).hasSize(1);
+	}
+	
+	@Test
+	public void 첫_소셜_로그인은_RefreshToken_저장_없이_리다이렉트() throws Exception {
+		// given
+		when(memberRepository.findBySocialTypeAndSocialId(SocialType.KAKAO, SOCIAL_ID)).thenReturn(Optional.empty());
+		when(memberRepository.saveAndFlush(any(Member.class))).thenReturn(socialMember(Role.GUEST));
+		
+		// when
+		MockHttpServletResponse response = login();
+		
+		// then
+		verify(memberRepository, times(1)).findBySocialTypeAndSocialId(SocialType.KAKAO, SOCIAL_ID);
+		verify(memberRepository, times(1)).saveAndFlush(any(Member.class));
+		verifyNoMoreInteractions(memberRepository);
+		verifyNoInteractions(refreshTokenRepository);
+		
+		assertThat(response.getRedirectedUrl()).isEqualTo("/member/oauth2/signUp");
+		assertThat(response.getHeaders(ACCESS_HEADER)).hasSize(1);
+		assertThat(response.getHeader(REFRESH_HEADER)).isNull();
+	}
+}
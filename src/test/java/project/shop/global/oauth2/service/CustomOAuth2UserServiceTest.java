@@ -0,0 +1,135 @@
+package project.shop.global.oauth2.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import project.shop.domain.member.entity.Member;
+import project.shop.domain.member.enums.Role;
+import project.shop.domain.member.enums.SocialType;
+import project.shop.domain.member.repository.MemberRepository;
+import project.shop.global.oauth2.CustomOAuth2User;
+import project.shop.global.oauth2.client.OAuth2UserInfoClient;
+import project.shop.global.oauth2.userinfo.KakaoOAuth2UserInfo;
+import project.shop.global.oauth2.userinfo.KakaoUserInfoResponse;
+
+class CustomOAuth2UserServiceTest {
+
+	MemberRepository memberRepository = mock(MemberRepository.class);
+	
+	OAuth2UserInfoClient oauth2UserInfoClient = mock(OAuth2UserInfoClient.class);
+	
+	CustomOAuth2UserService customOAuth2UserService = new CustomOAuth2UserService(memberRepository, oauth2UserInfoClient);
+	
+	OAuth2UserRequest userRequest;
+	
+	private static final String SOCIAL_ID = "123456789";
+	
+	private static final Member SOCIAL_MEMBER = Member.builder()
+			.id(1L)
+			.email("uuid@socialUser.com")
+			.socialType(SocialType.KAKAO)
+			.socialId(SOCIAL_ID)
+			.role(Role.GUEST)
+			.build();
+	
+	@BeforeEach
+	public void init() {
+		ClientRegistration registration = ClientRegistration.withRegistrationId("kakao")
+				.clientId("client-id")
+				.authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+				.redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+				.authorizationUri("http://localhost/oauth/authorize")
+				.tokenUri("http://localhost/oauth/token")
+				.userInfoUri("http://localhost/v2/user/me")
+				.userNameAttributeName("id")
+				.build();
+		
+		userRequest = new OAuth2UserRequest(registration, new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER,
+				"access-token", Instant.now(), Instant.now().plusSeconds(3600)));
+		
+		when(oauth2UserInfoClient.loadUserInfo(any())).thenReturn(new KakaoOAuth2UserInfo(
+				new KakaoUserInfoResponse(Long.valueOf(SOCIAL_ID), null)));
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 가입된_소셜_회원은_조회만() throws Exception {
+		// given
+		when(memberRepository.findBySocialTypeAndSocialId(SocialType.KAKAO, SOCIAL_ID)).thenReturn(Optional.of(SOCIAL_MEMBER));
+		
+		// when
+		CustomOAuth2User oauth2User = (CustomOAuth2User) customOAuth2UserService.loadUser(userRequest);
+		
+		// then
+		assertThat(oauth2User.getMemberId()).isEqualTo(1L);
+		assertThat(oauth2User.getName()).isEqualTo(SOCIAL_ID);
+		verify(memberRepository, never()).saveAndFlush(any());
+	}
+	
+	@Test
+	public void 첫_로그인은_INSERT_1회() throws Exception {
+		// given
+		when(memberRepository.findBySocialTypeAndSocialId(SocialType.KAKAO, SOCIAL_ID)).thenReturn(Optional.empty());
+		when(memberRepository.saveAndFlush(any(Member.class))).thenReturn(SOCIAL_MEMBER);
+		
+		// when
+		CustomOAuth2User oauth2User = (CustomOAuth2User) customOAuth2UserService.loadUser(userRequest);
+		
+		// then
+		assertThat(oauth2User.getMemberId()).isEqualTo(1L);
+		assertThat(oauth2User.getRole()).isEqualTo(Role.GUEST);
+		verify(memberRepository, times(1)).saveAndFlush(any(Member.class));
+	}
+	
+	@Test
+	public void 동시에_첫_로그인하면_먼저_저장된_회원을_사용() throws Exception {
+		// given : 조회 시점에는 없었지만 INSERT 직전에 다른 요청이 먼저 저장
+		when(memberRepository.findBySocialTypeAndSocialId(SocialType.KAKAO, SOCIAL_ID))
+				.thenReturn(Optional.empty())
+				.thenReturn(Optional.of(SOCIAL_MEMBER));
+		when(memberRepository.saveAndFlush(any(Member.class)))
+				.thenThrow(new DataIntegrityViolationException("Duplicate entry for key 'uk_member_social'"));
+		
+		// when
+		CustomOAuth2User oauth2User = (CustomOAuth2User) customOAuth2UserService.loadUser(userRequest);
+		
+		// then : 재시도 없이 INSERT 1회 + 재조회 1회
+		assertThat(oauth2User.getMemberId()).isEqualTo(1L);
+		verify(memberRepository, times(1)).saveAndFlush(any(Member.class));
+		verify(memberRepository, times(2)).findBySocialTypeAndSocialId(SocialType.KAKAO, SOCIAL_ID);
+	}
+	
+	@Test
+	public void 다른_제약_조건_위반은_그대로_실패() throws Exception {
+		// given
+		when(memberRepository.findBySocialTypeAndSocialId(SocialType.KAKAO, SOCIAL_ID)).thenReturn(Optional.empty());
+		when(memberRepository.saveAndFlush(any(Member.class)))
+				.thenThrow(new DataIntegrityViolationException("Duplicate entry for key 'email'"));
+		
+		// when, then
+		assertThatThrownBy(() -> customOAuth2UserService.loadUser(userRequest))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
+}
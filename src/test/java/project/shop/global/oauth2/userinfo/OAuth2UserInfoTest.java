@@ -0,0 +1,73 @@
+package project.shop.global.oauth2.userinfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import project.shop.global.oauth2.FakeOAuth2ProviderServer;
+
+class OAuth2UserInfoTest {
+
+	ObjectMapper objectMapper = new ObjectMapper();
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 카카오_응답에서_사용하는_값만_읽음() throws Exception {
+		// when
+		OAuth2UserInfo userInfo = new KakaoOAuth2UserInfo(
+				objectMapper.readValue(FakeOAuth2ProviderServer.KAKAO_USER_INFO, KakaoUserInfoResponse.class));
+		
+		// then
+		assertThat(userInfo.getId()).isEqualTo("123456789");
+		assertThat(userInfo.getNickname()).isEqualTo("홍길동");
+		assertThat(userInfo.getImageUrl()).isEqualTo("http://yyy.kakao.com/img_110x110.jpg");
+	}
+	
+	@Test
+	public void 카카오_프로필_동의_항목이_없으면_null() throws Exception {
+		// when
+		OAuth2UserInfo withoutAccount = new KakaoOAuth2UserInfo(
+				objectMapper.readValue("{\"id\":1}", KakaoUserInfoResponse.class));
+		OAuth2UserInfo withoutProfile = new KakaoOAuth2UserInfo(
+				objectMapper.readValue("{\"id\":1,\"kakao_account\":{\"email\":\"a@b.com\"}}", KakaoUserInfoResponse.class));
+		
+		// then
+		assertThat(withoutAccount.getId()).isEqualTo("1");
+		assertThat(withoutAccount.getNickname()).isNull();
+		assertThat(withoutProfile.getImageUrl()).isNull();
+	}
+	
+	@Test
+	public void 네이버_응답에서_사용하는_값만_읽음() throws Exception {
+		// when
+		OAuth2UserInfo userInfo = new NaverOAuth2UserInfo(
+				objectMapper.readValue(FakeOAuth2ProviderServer.NAVER_USER_INFO, NaverUserInfoResponse.class));
+		OAuth2UserInfo withoutResponse = new NaverOAuth2UserInfo(
+				objectMapper.readValue("{\"resultcode\":\"024\",\"message\":\"Authentication failed\"}", NaverUserInfoResponse.class));
+		
+		// then
+		assertThat(userInfo.getId()).isEqualTo("32742776");
+		assertThat(userInfo.getNickname()).isEqualTo("오픈 API");
+		assertThat(userInfo.getImageUrl()).isEqualTo("https://ssl.pstatic.net/static/pwe/address/nodata_33x33.gif");
+		assertThat(withoutResponse.getId()).isNull();
+	}
+	
+	@Test
+	public void 구글_응답에서_사용하는_값만_읽음() throws Exception {
+		// when
+		OAuth2UserInfo userInfo = new GoogleOAuth2UserInfo(
+				objectMapper.readValue(FakeOAuth2ProviderServer.GOOGLE_USER_INFO, GoogleUserInfoResponse.class));
+		
+		// then
+		assertThat(userInfo.getId()).isEqualTo("110169484474386276334");
+		assertThat(userInfo.getNickname()).isEqualTo("Google User");
+		assertThat(userInfo.getImageUrl()).isEqualTo("https://lh3.googleusercontent.com/a/default-user");
+	}
+}
@@ -0,0 +1,118 @@
+package project.shop.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	
+	CountDownLatch release = new CountDownLatch(1);
+	
+	ExecutorService callers = Executors.newCachedThreadPool();
+	
+	/**
+	 * release 전까지 해시 계산이 끝나지 않는 PasswordEncoder
+	 */
+	PasswordEncoder blockingEncoder = new PasswordEncoder() {
+		@Override
+		public String encode(CharSequence rawPassword) {
+			await();
+			return "{noop}" + rawPassword;
+		}
+		
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			await();
+			return encodedPassword.equals("{noop}" + rawPassword);
+		}
+		
+		private void await() {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	};
+	
+	@AfterEach
+	public void tearDown() {
+		release.countDown();
+		callers.shutdownNow();
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 해시_결과는_위임한_PasswordEncoder와_동일() throws Exception {
+		// given
+		release.countDown();
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder, meterRegistry, 1, 1, Duration.ofSeconds(1), Duration.ofSeconds(1));
+		
+		// when
+		String encoded = encoder.encode("password");
+		
+		// then
+		assertThat(encoded).isEqualTo("{noop}password");
+		assertThat(encoder.matches("password", encoded)).isTrue();
+		assertThat(meterRegistry.timer("password.hashing.duration", "operation", "matches").count()).isEqualTo(1);
+		
+		encoder.destroy();
+	}
+	
+	@Test
+	public void 풀과_대기열이_가득_차면_바로_거절() throws Exception {
+		// given
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(3));
+		
+		callers.submit(() -> encoder.encode("running")); // 실행 중
+		callers.submit(() -> encoder.encode("queued")); // 대기열
+		Thread.sleep(200);
+		
+		// when, then
+		assertThatThrownBy(() -> encoder.encode("rejected"))
+				.isInstanceOf(PasswordHashingRejectedException.class)
+				.satisfies(e -> assertThat(((PasswordHashingRejectedException) e).getRetryAfterSeconds()).isEqualTo(3));
+		assertThat(meterRegistry.counter("password.hashing.rejected").count()).isEqualTo(1);
+		assertThat(meterRegistry.get("password.hashing.queue.size").gauge().value()).isEqualTo(1);
+		
+		encoder.destroy();
+	}
+	
+	@Test
+	public void 대기열에서_오래_기다린_작업은_실행하지_않고_거절() throws Exception {
+		// given
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder, meterRegistry, 1, 10, Duration.ofMillis(100), Duration.ofSeconds(1));
+		
+		callers.submit(() -> encoder.encode("running"));
+		Thread.sleep(100);
+		
+		// when
+		var waiting = callers.submit(() -> encoder.matches("waiting", "{noop}waiting"));
+		Thread.sleep(300);
+		release.countDown();
+		
+		// then
+		assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+				.hasCauseInstanceOf(PasswordHashingRejectedException.class);
+		
+		encoder.destroy();
+	}
+}
@@ -0,0 +1,91 @@
+package project.shop.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.LdapShaPasswordEncoder;
+import org.springframework.security.crypto.password.Md4PasswordEncoder;
+import org.springframework.security.crypto.password.MessageDigestPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.StandardPasswordEncoder;
+
+import project.shop.global.security.PasswordHashCostCalibrator.CostMeasurement;
+
+class PasswordEncodersTest {
+
+	PasswordEncoder passwordEncoder = PasswordEncoders.createDelegatingPasswordEncoder(5);
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 현재_cost로_만든_해시는_재암호화_대상이_아님() throws Exception {
+		// when
+		String encoded = passwordEncoder.encode("password");
+		
+		// then
+		assertThat(encoded).startsWith("{bcrypt}$2a$05$");
+		assertThat(passwordEncoder.matches("password", encoded)).isTrue();
+		assertThat(passwordEncoder.upgradeEncoding(encoded)).isFalse();
+	}
+	
+	@Test
+	public void cost가_낮거나_높은_해시는_재암호화_대상() throws Exception {
+		// given
+		String cheaper = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("password");
+		String expensive = "{bcrypt}" + new BCryptPasswordEncoder(6).encode("password");
+		
+		// when, then
+		assertThat(passwordEncoder.matches("password", cheaper)).isTrue();
+		assertThat(passwordEncoder.upgradeEncoding(cheaper)).isTrue();
+		assertThat(passwordEncoder.matches("password", expensive)).isTrue();
+		assertThat(passwordEncoder.upgradeEncoding(expensive)).isTrue();
+	}
+	
+	@Test
+	public void bcrypt가_아닌_형식은_재암호화_대상() throws Exception {
+		assertThat(passwordEncoder.matches("password", "{noop}password")).isTrue();
+		assertThat(passwordEncoder.upgradeEncoding("{noop}password")).isTrue();
+	}
+	
+	@SuppressWarnings("deprecation")
+	@Test
+	public void PasswordEncoderFactories의_이전_형식도_검증() throws Exception {
+		// given
+		List<String> legacyHashes = List.of(
+				"{sha256}" + new StandardPasswordEncoder().encode("password"),
+				"{SHA-256}" + new MessageDigestPasswordEncoder("SHA-256").encode("password"),
+				"{SHA-1}" + new MessageDigestPasswordEncoder("SHA-1").encode("password"),
+				"{MD5}" + new MessageDigestPasswordEncoder("MD5").encode("password"),
+				"{MD4}" + new Md4PasswordEncoder().encode("password"),
+				"{ldap}" + new LdapShaPasswordEncoder().encode("password"),
+				"{pbkdf2}" + Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_5().encode("password"));
+		
+		// when, then
+		assertThat(legacyHashes).allSatisfy(hash -> {
+			assertThat(passwordEncoder.matches("password", hash)).as(hash).isTrue();
+			assertThat(passwordEncoder.upgradeEncoding(hash)).as(hash).isTrue();
+		});
+	}
+	
+	@Test
+	public void 목표_시간_이하인_가장_높은_cost_추천() throws Exception {
+		// given
+		List<CostMeasurement> measurements = List.of(
+				new CostMeasurement(8, Duration.ofMillis(20), Duration.ofMillis(30)),
+				new CostMeasurement(9, Duration.ofMillis(40), Duration.ofMillis(60)),
+				new CostMeasurement(10, Duration.ofMillis(80), Duration.ofMillis(130)));
+		
+		// when, then
+		assertThat(PasswordHashCostCalibrator.recommend(measurements, Duration.ofMillis(100))).contains(9);
+		assertThat(PasswordHashCostCalibrator.recommend(measurements, Duration.ofMillis(10))).isEmpty();
+	}
+}
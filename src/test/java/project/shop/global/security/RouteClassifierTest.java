@@ -0,0 +1,63 @@
+package project.shop.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class RouteClassifierTest {
+
+	RouteClassifier routeClassifier = RouteClassifier.fromSecurityRoutes();
+	
+	private RequestRoute classify(String uri) {
+		return routeClassifier.classify(new MockHttpServletRequest("GET", uri));
+	}
+	
+	
+	
+	//== TEST ==//
+	
+	
+	
+	@Test
+	public void 정적_리소스_분류() throws Exception {
+		assertThat(classify("/css/main.css")).isEqualTo(RequestRoute.STATIC);
+		assertThat(classify("/js/member/signUp.js")).isEqualTo(RequestRoute.STATIC);
+		assertThat(classify("/images")).isEqualTo(RequestRoute.STATIC);
+		assertThat(classify("/favicon.ico")).isEqualTo(RequestRoute.STATIC);
+	}
+	
+	@Test
+	public void permitAll_URI_분류() throws Exception {
+		assertThat(classify("/")).isEqualTo(RequestRoute.PUBLIC);
+		assertThat(classify("/member/login")).isEqualTo(RequestRoute.PUBLIC);
+		assertThat(classify("/member/signUp")).isEqualTo(RequestRoute.PUBLIC);
+	}
+	
+	@Test
+	public void 나머지_URI는_인증_필요() throws Exception {
+		assertThat(classify("/member/myInfo")).isEqualTo(RequestRoute.PROTECTED);
+		assertThat(classify("/cssx/main.css")).isEqualTo(RequestRoute.PROTECTED); // 접두사만 같은 경로
+		assertThat(classify("/member/login/other")).isEqualTo(RequestRoute.PROTECTED); // 정확히 일치해야 하는 경로
+		assertThat(classify("/mainx")).isEqualTo(RequestRoute.PROTECTED);
+	}
+	
+	@Test
+	public void context_path_이후_경로로_분류() throws Exception {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/shop/css/main.css");
+		request.setContextPath("/shop");
+		
+		// when, then
+		assertThat(routeClassifier.classify(request)).isEqualTo(RequestRoute.STATIC);
+	}
+	
+	@Test
+	public void 지원하지_않는_패턴은_시작시_실패() throws Exception {
+		assertThatThrownBy(() -> new RouteClassifier(List.of("/member/*/info"), List.of()))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}